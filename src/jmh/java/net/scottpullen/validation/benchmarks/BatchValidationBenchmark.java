@@ -0,0 +1,78 @@
+package net.scottpullen.validation.benchmarks;
+
+import net.scottpullen.validation.BatchValidationResult;
+import net.scottpullen.validation.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sequential per-row validation compared to validateAll on the common ForkJoinPool
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchValidationBenchmark {
+
+    @Param({ "100000", "1000000" })
+    public int rows;
+
+    private List<Row> batch;
+
+    @Setup
+    public void setUp() {
+        batch = new ArrayList<>(rows);
+        for(int i = 0; i < rows; i++) {
+            batch.add(new Row(i % 1000 == 0 ? "" : "sku-" + i, i % 50));
+        }
+    }
+
+    @Benchmark
+    public int sequential() {
+        int failures = 0;
+        for(Row row : batch) {
+            Validation validation = new Validation("row");
+            validateRow(row, validation);
+            if(validation.validate().isInvalid()) {
+                failures++;
+            }
+        }
+        return failures;
+    }
+
+    @Benchmark
+    public BatchValidationResult parallel() {
+        return Validation.validateAll(batch, "row", BatchValidationBenchmark::validateRow);
+    }
+
+    private static void validateRow(Row row, Validation validation) {
+        validation
+            .notBlank(row.sku, "sku")
+            .between(row.quantity, 0, 100, "quantity");
+    }
+
+    private static final class Row {
+        private final String sku;
+        private final int quantity;
+
+        private Row(String sku, int quantity) {
+            this.sku = sku;
+            this.quantity = quantity;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package net.scottpullen.validation.benchmarks;
+
+import net.scottpullen.validation.Validation;
+import net.scottpullen.validation.ValidationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building a validation of a payload with many parts: a single thread on the plain builder, producer threads sharing a
+ * concurrent builder, and producer threads building their own Validation that are merged by hand.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentValidationBenchmark {
+    private static final int PRODUCERS = 4;
+
+    @Param({ "100", "10000" })
+    public int parts;
+
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(PRODUCERS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public ValidationContext singleThreaded() {
+        Validation validation = new Validation("payload");
+        addParts(validation, 0, parts);
+        return validation.validate();
+    }
+
+    @Benchmark
+    public ValidationContext concurrent() {
+        Validation validation = Validation.concurrent("payload");
+
+        CompletableFuture<?>[] producers = new CompletableFuture<?>[PRODUCERS];
+        for(int p = 0; p < PRODUCERS; p++) {
+            int from = parts * p / PRODUCERS;
+            int to = parts * (p + 1) / PRODUCERS;
+            producers[p] = CompletableFuture.runAsync(() -> addParts(validation, from, to), executor);
+        }
+        CompletableFuture.allOf(producers).join();
+
+        return validation.validate();
+    }
+
+    @Benchmark
+    public ValidationContext merged() {
+        Validation validation = new Validation("payload");
+
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Validation>[] producers = (CompletableFuture<Validation>[]) new CompletableFuture<?>[PRODUCERS];
+        for(int p = 0; p < PRODUCERS; p++) {
+            int from = parts * p / PRODUCERS;
+            int to = parts * (p + 1) / PRODUCERS;
+            producers[p] = CompletableFuture.supplyAsync(() -> {
+                Validation part = new Validation("producer");
+                addParts(part, from, to);
+                return part;
+            }, executor);
+        }
+        for(CompletableFuture<Validation> producer : producers) {
+            validation.merge(producer.join());
+        }
+
+        return validation.validate();
+    }
+
+    private static void addParts(Validation validation, int from, int to) {
+        for(int i = from; i < to; i++) {
+            validation
+                .notBlank("part", "name")
+                .greaterThanOrEqualTo(i, 0, "position");
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package net.scottpullen.validation.benchmarks;
+
+import net.scottpullen.validation.Validation;
+import net.scottpullen.validation.ValidationContext;
+import net.scottpullen.validation.ValidationError;
+import net.scottpullen.validation.validators.Comparison;
+import net.scottpullen.validation.validators.DigitsValidator;
+import net.scottpullen.validation.validators.EmailValidator;
+import net.scottpullen.validation.validators.GreaterThanValidator;
+import net.scottpullen.validation.validators.IntComparisonValidator;
+import net.scottpullen.validation.validators.LongRangeValidator;
+import net.scottpullen.validation.validators.MaxLengthValidator;
+import net.scottpullen.validation.validators.NotBlankValidator;
+import net.scottpullen.validation.validators.PresenceValidator;
+import net.scottpullen.validation.validators.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Cost of running the validators of one context that mixes 8 validator classes, every 10th validator fails:
+ * a stream over the list of validators (as ValidationContext used to run them), a single loop over all of them, and
+ * validate, which runs contexts of EvaluationPlan.THRESHOLD (16) validators or more with a plan grouped by class. With
+ * 5 validators validate runs them in a single loop, the baseline for the cases run with a plan.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EvaluationBenchmark {
+
+    @Param({ "5", "16", "20", "100" })
+    public int rules;
+
+    private List<Validator> validators;
+    private Validation validation;
+
+    @Setup
+    public void setUp() {
+        validators = new ArrayList<>(rules);
+        validation = new Validation("order");
+
+        for(int i = 0; i < rules; i++) {
+            Validator validator = rule(i, i % 10 == 9);
+            validators.add(validator);
+            validation.isValid(validator);
+        }
+    }
+
+    @Benchmark
+    public List<ValidationError> stream() {
+        return validators.stream()
+            .filter(Validator::isInvalid)
+            .map(Validator::buildValidationError)
+            .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<ValidationError> loop() {
+        List<ValidationError> errors = new ArrayList<>(4);
+        for(int i = 0; i < validators.size(); i++) {
+            Validator validator = validators.get(i);
+            if(validator.isInvalid()) {
+                errors.add(validator.buildValidationError());
+            }
+        }
+        return errors;
+    }
+
+    @Benchmark
+    public ValidationContext validate() {
+        return validation.validate();
+    }
+
+    private static Validator rule(int i, boolean invalid) {
+        String label = "field" + i;
+        switch(i % 8) {
+            case 0:
+                return new PresenceValidator<>(invalid ? null : "Widget", label);
+            case 1:
+                return new NotBlankValidator(invalid ? "" : "Widget", label);
+            case 2:
+                return new IntComparisonValidator(invalid ? 0 : 5, Comparison.GREATER_THAN, 0, label);
+            case 3:
+                return new GreaterThanValidator<>(invalid ? 0.0 : 9.99, 0.0, label);
+            case 4:
+                return new LongRangeValidator(invalid ? 0L : 3L, 1L, 10L, true, label);
+            case 5:
+                return new MaxLengthValidator(invalid ? "A long description" : "Widget", 10, label);
+            case 6:
+                return new DigitsValidator(invalid ? "12a" : "0042", label);
+            default:
+                return new EmailValidator(invalid ? "widgets@" : "widgets@example.com", label);
+        }
+    }
+}
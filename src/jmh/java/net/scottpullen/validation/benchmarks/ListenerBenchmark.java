@@ -0,0 +1,58 @@
+package net.scottpullen.validation.benchmarks;
+
+import net.scottpullen.validation.Validation;
+import net.scottpullen.validation.ValidationContext;
+import net.scottpullen.validation.metrics.ValidationMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a ValidationListener, the same 8 validators run with no listener and with a shared ValidationMetrics.
+ * Run with 4 threads so the counters of the same rules are updated concurrently.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ListenerBenchmark {
+
+    @Param({ "none", "metrics" })
+    public String listener;
+
+    private ValidationMetrics metrics;
+
+    @Setup
+    public void setUp() {
+        metrics = "metrics".equals(listener) ? new ValidationMetrics() : null;
+    }
+
+    @Benchmark
+    public ValidationContext validate() {
+        return new Validation("order")
+            .listener(metrics)
+            .presence("Widget", "name")
+            .notBlank("Widget", "name")
+            .greaterThan(5, 0, "quantity")
+            .lessThanOrEqualTo(5, 100, "quantity")
+            .greaterThanOrEqualTo(9.99, 0.0, "price")
+            .lessThan(9.99, 500.0, "price")
+            .email("widgets@example.com", "email")
+            .maxLength("A widget", 200, "description")
+            .validate();
+    }
+}
@@ -0,0 +1,93 @@
+package net.scottpullen.validation.benchmarks;
+
+import net.scottpullen.validation.Validation;
+import net.scottpullen.validation.ValidationContext;
+import net.scottpullen.validation.ValidationError;
+import net.scottpullen.validation.sets.IntSet;
+import net.scottpullen.validation.sets.StringSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Membership in a large allowed set and uniqueness of 1,000 elements: a HashSet of boxed values rebuilt per
+ * validation, as custom validators do, against the prebuilt IntSet and StringSet and the primitive distinctByInt.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MembershipBenchmark {
+
+    @Param({ "100", "50000" })
+    public int allowed;
+
+    private int[] productIds;
+    private List<String> currencies;
+    private IntSet productIdSet;
+    private StringSet currencySet;
+    private List<Integer> lines;
+
+    @Setup
+    public void setUp() {
+        productIds = new int[allowed];
+        currencies = new ArrayList<>(allowed);
+        for(int i = 0; i < allowed; i++) {
+            productIds[i] = i * 7;
+            currencies.add("C" + i);
+        }
+        productIdSet = IntSet.of(productIds);
+        currencySet = StringSet.of(currencies);
+
+        lines = new ArrayList<>(1000);
+        for(int i = 0; i < 1000; i++) {
+            lines.add(i * 31);
+        }
+    }
+
+    @Benchmark
+    public ValidationContext hashSetPerValidation() {
+        Set<Integer> ids = new HashSet<>();
+        for(int id : productIds) {
+            ids.add(id);
+        }
+        Set<String> codes = new HashSet<>(currencies);
+        Set<Integer> seen = new HashSet<>();
+
+        return new Validation("order")
+            .isValid(() -> ids.contains(700) ? Optional.empty() : Optional.of(error("productId")))
+            .isValid(() -> codes.contains("C42") ? Optional.empty() : Optional.of(error("currency")))
+            .isValid(() -> lines.stream().allMatch(seen::add) ? Optional.empty() : Optional.of(error("lines")))
+            .validate();
+    }
+
+    @Benchmark
+    public ValidationContext prebuiltSets() {
+        return new Validation("order")
+            .oneOf(700, productIdSet, "productId")
+            .oneOf("C42", currencySet, "currency")
+            .distinctByInt(lines, Integer::intValue, "lines")
+            .validate();
+    }
+
+    private static ValidationError error(String label) {
+        return new ValidationError(label, "validation.custom", label + " is invalid");
+    }
+}
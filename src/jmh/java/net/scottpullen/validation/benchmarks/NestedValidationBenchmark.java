@@ -0,0 +1,95 @@
+package net.scottpullen.validation.benchmarks;
+
+import net.scottpullen.validation.Validation;
+import net.scottpullen.validation.ValidationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of nested isValid(T, label, BiConsumer) trees, deep (a chain of nested validations) and wide (many nested
+ * validations under one parent)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NestedValidationBenchmark {
+
+    @Param({ "true", "false" })
+    public boolean valid;
+
+    @Param({ "4", "32" })
+    public int depth;
+
+    @Param({ "10", "1000" })
+    public int width;
+
+    private Node deep;
+    private Node[] wide;
+
+    @Setup
+    public void setUp() {
+        String name = valid ? "node" : null;
+
+        deep = null;
+        for(int i = 0; i < depth; i++) {
+            deep = new Node(name, i, deep);
+        }
+
+        wide = new Node[width];
+        for(int i = 0; i < width; i++) {
+            wide[i] = new Node(name, i, null);
+        }
+    }
+
+    @Benchmark
+    public ValidationContext deepTree() {
+        return new Validation("root")
+            .isValid(deep, "node", NestedValidationBenchmark::validateNode)
+            .validate();
+    }
+
+    @Benchmark
+    public ValidationContext wideTree() {
+        Validation validation = new Validation("root");
+        for(Node node : wide) {
+            validation.isValid(node, "node", NestedValidationBenchmark::validateNode);
+        }
+        return validation.validate();
+    }
+
+    private static void validateNode(Node node, Validation validation) {
+        validation
+            .presence(node.name, "name")
+            .greaterThanOrEqualTo(node.position, 0, "position");
+
+        if(node.child != null) {
+            validation.isValid(node.child, "child", NestedValidationBenchmark::validateNode);
+        }
+    }
+
+    private static final class Node {
+        private final String name;
+        private final Integer position;
+        private final Node child;
+
+        private Node(String name, Integer position, Node child) {
+            this.name = name;
+            this.position = position;
+            this.child = child;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package net.scottpullen.validation.benchmarks;
+
+import net.scottpullen.validation.Validation;
+import net.scottpullen.validation.ValidationContext;
+import net.scottpullen.validation.ValidationError;
+import net.scottpullen.validation.validators.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * validate() against validateParallel(ForkJoinPool) for a wide tree of nested validations with a CPU-heavy validator
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelValidationBenchmark {
+
+    @Param({ "100", "5000" })
+    public int sections;
+
+    @Param({ "0", "2000" })
+    public int work;
+
+    @Benchmark
+    public ValidationContext sequential() {
+        return document().validate();
+    }
+
+    @Benchmark
+    public ValidationContext parallel() {
+        return document().validateParallel(ForkJoinPool.commonPool());
+    }
+
+    private Validation document() {
+        Validation validation = new Validation("document");
+        for(int i = 0; i < sections; i++) {
+            validation.isValid(i, "section", (n, v) -> v
+                .presence(n, "heading")
+                .isValid(new Checksum(n, work)));
+        }
+        return validation;
+    }
+
+    private static final class Checksum implements Validator {
+        private final int seed;
+        private final int work;
+
+        private Checksum(int seed, int work) {
+            this.seed = seed;
+            this.work = work;
+        }
+
+        @Override
+        public boolean isValid() {
+            long hash = seed;
+            for(int i = 0; i < work; i++) {
+                hash = hash * 31 + i;
+            }
+            return hash != 42;
+        }
+
+        @Override
+        public boolean isInvalid() {
+            return !isValid();
+        }
+
+        @Override
+        public ValidationError buildValidationError() {
+            return new ValidationError("checksum", "validation.checksum", "checksum is invalid");
+        }
+    }
+}
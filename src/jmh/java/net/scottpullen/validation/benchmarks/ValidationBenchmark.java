@@ -0,0 +1,110 @@
+package net.scottpullen.validation.benchmarks;
+
+import net.scottpullen.validation.Validation;
+import net.scottpullen.validation.ValidationContext;
+import net.scottpullen.validation.ValidationException;
+import net.scottpullen.validation.ValidationPool;
+import net.scottpullen.validation.ValidationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building and running a flat chain of 10 validators, of the andThrow, andThrowWithoutStackTrace and collect
+ * terminals, and of reusing a Validation from a ValidationPool
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    @Param({ "true", "false" })
+    public boolean valid;
+
+    private String name;
+    private String description;
+    private Integer quantity;
+    private Double price;
+    private Long version;
+    private List<String> tags;
+
+    private final ValidationPool pool = new ValidationPool("order");
+
+    @Setup
+    public void setUp() {
+        name = valid ? "Widget" : "";
+        description = valid ? "A widget" : null;
+        quantity = valid ? 5 : 0;
+        price = valid ? 9.99 : 1000.0;
+        version = valid ? 1L : -1L;
+        tags = valid ? Arrays.asList("a", "b") : Collections.<String>emptyList();
+    }
+
+    @Benchmark
+    public ValidationContext flatChain() {
+        return tenRules(new Validation("order")).validate();
+    }
+
+    @Benchmark
+    public Object andThrow() {
+        try {
+            return tenRules(new Validation("order")).validate(Validation::andThrow);
+        } catch(ValidationException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object andThrowWithoutStackTrace() {
+        try {
+            return tenRules(new Validation("order")).validate(Validation::andThrowWithoutStackTrace);
+        } catch(ValidationException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public ValidationResult collect() {
+        return tenRules(new Validation("order")).collect();
+    }
+
+    @Benchmark
+    public int pooled() {
+        Validation validation = pool.acquire();
+        try {
+            return tenRules(validation).validate().getErrors().size();
+        } finally {
+            pool.release(validation);
+        }
+    }
+
+    private Validation tenRules(Validation validation) {
+        return validation
+            .presence(name, "name")
+            .notBlank(name, "name")
+            .presence(description, "description")
+            .presence(quantity, "quantity")
+            .greaterThan(quantity, 0, "quantity")
+            .lessThanOrEqualTo(quantity, 100, "quantity")
+            .greaterThanOrEqualTo(price, 0.0, "price")
+            .lessThan(price, 500.0, "price")
+            .greaterThan(version, 0L, "version")
+            .presenceAndNotEmpty(tags, "tags");
+    }
+}
@@ -0,0 +1,149 @@
+package net.scottpullen.validation;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The run order of the rules of an adaptive Schema in failFast mode.
+ *
+ * A sample of the runs measures the cost and the outcome of every rule. Periodically the independent rules are sorted
+ * by cost divided by failure rate, which minimizes the expected cost of reaching the first failure. Rules that can not
+ * be moved (ex. nested schemas) split the rules into segments, rules are only reordered within their segment.
+ */
+final class AdaptiveOrder {
+    /**
+     * One in SAMPLE_INTERVAL runs is measured
+     */
+    static final int SAMPLE_INTERVAL = 16;
+
+    /**
+     * The rules are reordered every REORDER_INTERVAL measured runs
+     */
+    static final int REORDER_INTERVAL = 128;
+
+    /**
+     * The failure rate assumed for a rule that has not failed yet, so it sorts by cost behind the rules that do fail
+     */
+    private static final double MIN_FAILURE_RATE = 1e-6;
+
+    private final boolean[] movable;
+    private final LongAdder[] nanos;
+    private final LongAdder[] evaluations;
+    private final LongAdder[] failures;
+    private final AtomicLong samples = new AtomicLong();
+
+    private volatile int[] order;
+
+    /**
+     * @param movable Whether each rule, in declared order, can be reordered
+     */
+    AdaptiveOrder(boolean[] movable) {
+        this.movable = movable;
+        this.nanos = adders(movable.length);
+        this.evaluations = adders(movable.length);
+        this.failures = adders(movable.length);
+
+        this.order = declared(movable.length);
+    }
+
+    /**
+     * @param n The number of rules
+     * @return int[] the indexes of the rules in declared order
+     */
+    static int[] declared(int n) {
+        int[] declared = new int[n];
+        for(int i = 0; i < n; i++) {
+            declared[i] = i;
+        }
+        return declared;
+    }
+
+    /**
+     * @return int[] the indexes of the rules in the order they should run, not to be modified
+     */
+    int[] order() { return order; }
+
+    /**
+     * @return boolean whether the calling run should measure its rules
+     */
+    boolean sample() {
+        return ThreadLocalRandom.current().nextInt(SAMPLE_INTERVAL) == 0;
+    }
+
+    /**
+     * @param rule The declared index of the rule
+     * @param elapsed How long the rule took, in nanoseconds
+     * @param valid Whether the rule passed
+     */
+    void record(int rule, long elapsed, boolean valid) {
+        nanos[rule].add(elapsed);
+        evaluations[rule].increment();
+        if(!valid) {
+            failures[rule].increment();
+        }
+    }
+
+    /**
+     * Marks the end of a measured run, reordering the rules every REORDER_INTERVAL runs
+     */
+    void sampled() {
+        if(samples.incrementAndGet() % REORDER_INTERVAL == 0) {
+            reorder();
+        }
+    }
+
+    private void reorder() {
+        int n = movable.length;
+        double[] scores = new double[n];
+        for(int i = 0; i < n; i++) {
+            long count = evaluations[i].sum();
+            if(count == 0) {
+                scores[i] = Double.MAX_VALUE;
+                continue;
+            }
+
+            double cost = (double) nanos[i].sum() / count;
+            double failureRate = Math.max(MIN_FAILURE_RATE, (double) failures[i].sum() / count);
+            scores[i] = cost / failureRate;
+        }
+
+        Integer[] next = new Integer[n];
+        for(int i = 0; i < n; i++) {
+            next[i] = i;
+        }
+
+        int start = 0;
+        while(start < n) {
+            if(!movable[start]) {
+                start++;
+                continue;
+            }
+
+            int end = start;
+            while(end < n && movable[end]) {
+                end++;
+            }
+            Arrays.sort(next, start, end, (a, b) -> {
+                int c = Double.compare(scores[a], scores[b]);
+                return c != 0 ? c : Integer.compare(a, b);
+            });
+            start = end;
+        }
+
+        int[] reordered = new int[n];
+        for(int i = 0; i < n; i++) {
+            reordered[i] = next[i];
+        }
+        order = reordered;
+    }
+
+    private static LongAdder[] adders(int n) {
+        LongAdder[] adders = new LongAdder[n];
+        for(int i = 0; i < n; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
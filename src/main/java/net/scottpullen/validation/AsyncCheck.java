@@ -0,0 +1,30 @@
+package net.scottpullen.validation;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * An asynchronous validator waiting to be run by Validation.validateAsync
+ */
+final class AsyncCheck {
+    private final String label;
+    private final Supplier<CompletableFuture<Optional<ValidationError>>> check;
+    private final Duration timeout;
+
+    /**
+     * @param label A string representing what is being tested, used for the timeout error
+     * @param check A function that starts the check
+     * @param timeout How long the check may take, or null for no limit of its own
+     */
+    AsyncCheck(String label, Supplier<CompletableFuture<Optional<ValidationError>>> check, Duration timeout) {
+        this.label = label;
+        this.check = check;
+        this.timeout = timeout;
+    }
+
+    String getLabel() { return label; }
+    Supplier<CompletableFuture<Optional<ValidationError>>> getCheck() { return check; }
+    Duration getTimeout() { return timeout; }
+}
@@ -0,0 +1,104 @@
+package net.scottpullen.validation;
+
+import net.scottpullen.validation.messages.DefaultMessages;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the pending AsyncChecks of a ValidationContext tree in parallel.
+ *
+ * Every check is started on the Executor at once. A check that does not finish within its own timeout, or before the
+ * overall timeout, is recorded as a "validation.timeout" error. The results are added to their contexts in the order
+ * the checks were added, once all of them are done, so the error order does not depend on timing.
+ */
+final class AsyncValidation {
+    private static final String KEY_TIMEOUT = "validation.timeout";
+
+    private static final ScheduledThreadPoolExecutor TIMER = timer();
+
+    private AsyncValidation() {
+    }
+
+    /**
+     * @param context The root ValidationContext
+     * @param executor Executor the checks are started on
+     * @param timeout How long all checks together may take, or null for no limit
+     * @return CompletableFuture that completes with the root context
+     */
+    static CompletableFuture<ValidationContext> run(ValidationContext context, Executor executor, Duration timeout) {
+        List<AsyncCheck> checks = new ArrayList<>();
+        List<ValidationContext> contexts = new ArrayList<>();
+        context.drainAsyncChecks(checks, contexts);
+
+        if(checks.isEmpty()) {
+            return CompletableFuture.completedFuture(context);
+        }
+
+        List<CompletableFuture<Optional<ValidationError>>> results = new ArrayList<>(checks.size());
+        for(AsyncCheck check : checks) {
+            results.add(start(check, executor));
+        }
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0]));
+        if(timeout != null) {
+            ScheduledFuture<?> timer = TIMER.schedule(() -> {
+                for(int i = 0; i < checks.size(); i++) {
+                    results.get(i).complete(timedOut(checks.get(i)));
+                }
+            }, timeout.toNanos(), TimeUnit.NANOSECONDS);
+            all.whenComplete((v, e) -> timer.cancel(false));
+        }
+
+        return all.thenApply(v -> {
+            for(int i = 0; i < checks.size(); i++) {
+                results.get(i).join().ifPresent(contexts.get(i)::addError);
+            }
+            return context;
+        });
+    }
+
+    private static CompletableFuture<Optional<ValidationError>> start(AsyncCheck check, Executor executor) {
+        CompletableFuture<Optional<ValidationError>> result = new CompletableFuture<>();
+
+        CompletableFuture
+            .supplyAsync(check.getCheck(), executor)
+            .thenCompose(future -> future == null ? CompletableFuture.completedFuture(Optional.empty()) : future)
+            .whenComplete((error, e) -> {
+                if(e != null) {
+                    result.completeExceptionally(e);
+                } else {
+                    result.complete(error == null ? Optional.empty() : error);
+                }
+            });
+
+        if(check.getTimeout() != null) {
+            ScheduledFuture<?> timer = TIMER.schedule(() -> result.complete(timedOut(check)),
+                check.getTimeout().toNanos(), TimeUnit.NANOSECONDS);
+            result.whenComplete((error, e) -> timer.cancel(false));
+        }
+
+        return result;
+    }
+
+    private static Optional<ValidationError> timedOut(AsyncCheck check) {
+        return Optional.of(new ValidationError(check.getLabel(), KEY_TIMEOUT, DefaultMessages.TIMEOUT, check.getLabel()));
+    }
+
+    private static ScheduledThreadPoolExecutor timer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "validation-timeout");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+}
@@ -0,0 +1,174 @@
+package net.scottpullen.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * Validates the elements of a batch in parallel.
+ *
+ * The batch is split into ranges that are validated independently, on a ForkJoinPool through work-stealing or as one
+ * task per range on any other Executor. Valid elements leave nothing behind, the failures of each range are merged in
+ * position order.
+ *
+ * @param <T> The type of the elements
+ */
+final class BatchValidation<T> {
+    private static final int MIN_RANGE_SIZE = 64;
+    private static final int RANGES_PER_THREAD = 4;
+
+    private final List<T> items;
+    private final Function<T, ValidationContext> validator;
+
+    /**
+     * @param items The elements under test
+     * @param validator A function that validates an element and returns its ValidationContext
+     */
+    @SuppressWarnings("unchecked")
+    BatchValidation(Collection<T> items, Function<T, ValidationContext> validator) {
+        this.items = items instanceof List && items instanceof RandomAccess
+            ? (List<T>) items
+            : (List<T>) Arrays.asList(items.toArray());
+        this.validator = validator;
+    }
+
+    /**
+     * @param executor Executor the ranges are run on, a ForkJoinPool splits them by work-stealing
+     * @return BatchValidationResult
+     */
+    BatchValidationResult run(Executor executor) {
+        int size = items.size();
+        if(size == 0) {
+            return new BatchValidationResult(0, new int[0], new ValidationContext[0]);
+        }
+
+        Failures failures;
+        if(executor instanceof ForkJoinPool) {
+            ForkJoinPool pool = (ForkJoinPool) executor;
+            failures = pool.invoke(new RangeTask(0, size, rangeSize(size, pool.getParallelism())));
+        } else {
+            failures = runChunked(executor, size);
+        }
+
+        return failures == null
+            ? new BatchValidationResult(size, new int[0], new ValidationContext[0])
+            : failures.toResult(size);
+    }
+
+    private Failures runChunked(Executor executor, int size) {
+        int rangeSize = rangeSize(size, Runtime.getRuntime().availableProcessors());
+
+        List<CompletableFuture<Failures>> futures = new ArrayList<>();
+        for(int start = 0; start < size; start += rangeSize) {
+            int from = start;
+            int to = Math.min(size, start + rangeSize);
+            futures.add(CompletableFuture.supplyAsync(() -> validateRange(from, to), executor));
+        }
+
+        Failures failures = null;
+        try {
+            for(CompletableFuture<Failures> future : futures) {
+                failures = Failures.concat(failures, future.join());
+            }
+        } catch(CompletionException e) {
+            if(e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return failures;
+    }
+
+    private Failures validateRange(int from, int to) {
+        Failures failures = null;
+        for(int i = from; i < to; i++) {
+            ValidationContext context = validator.apply(items.get(i));
+            if(context.isInvalid()) {
+                if(failures == null) {
+                    failures = new Failures();
+                }
+                failures.add(i, context);
+            }
+        }
+        return failures;
+    }
+
+    private static int rangeSize(int size, int parallelism) {
+        return Math.max(MIN_RANGE_SIZE, size / (Math.max(1, parallelism) * RANGES_PER_THREAD));
+    }
+
+    private final class RangeTask extends RecursiveTask<Failures> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int rangeSize;
+
+        private RangeTask(int from, int to, int rangeSize) {
+            this.from = from;
+            this.to = to;
+            this.rangeSize = rangeSize;
+        }
+
+        @Override
+        protected Failures compute() {
+            if(to - from <= rangeSize) {
+                return validateRange(from, to);
+            }
+
+            int middle = (from + to) >>> 1;
+            RangeTask right = new RangeTask(middle, to, rangeSize);
+            right.fork();
+            Failures left = new RangeTask(from, middle, rangeSize).compute();
+            return Failures.concat(left, right.join());
+        }
+    }
+
+    /**
+     * The failed elements of a range, in position order
+     */
+    private static final class Failures {
+        private int[] indexes = new int[4];
+        private ValidationContext[] contexts = new ValidationContext[4];
+        private int count;
+
+        private void add(int index, ValidationContext context) {
+            if(count == indexes.length) {
+                indexes = Arrays.copyOf(indexes, count * 2);
+                contexts = Arrays.copyOf(contexts, count * 2);
+            }
+            indexes[count] = index;
+            contexts[count] = context;
+            count++;
+        }
+
+        /**
+         * @param first The failures of a range
+         * @param second The failures of the range that follows it
+         * @return Failures of both ranges, either may be null
+         */
+        private static Failures concat(Failures first, Failures second) {
+            if(first == null) {
+                return second;
+            }
+            if(second != null) {
+                for(int i = 0; i < second.count; i++) {
+                    first.add(second.indexes[i], second.contexts[i]);
+                }
+            }
+            return first;
+        }
+
+        private BatchValidationResult toResult(int size) {
+            return new BatchValidationResult(size, Arrays.copyOf(indexes, count), Arrays.copyOf(contexts, count));
+        }
+    }
+}
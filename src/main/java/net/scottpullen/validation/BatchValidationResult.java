@@ -0,0 +1,60 @@
+package net.scottpullen.validation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of validating a batch of elements. Only the elements that failed are kept, indexed by their position in
+ * the batch.
+ */
+public final class BatchValidationResult {
+    private final int size;
+    private final int[] indexes;
+    private final ValidationContext[] failures;
+
+    /**
+     * @param size The number of elements in the batch
+     * @param indexes The positions of the failed elements, in ascending order
+     * @param failures The ValidationContexts of the failed elements, aligned with indexes
+     */
+    BatchValidationResult(int size, int[] indexes, ValidationContext[] failures) {
+        this.size = size;
+        this.indexes = indexes;
+        this.failures = failures;
+    }
+
+    /**
+     * @return int the number of elements in the batch
+     */
+    public int size() { return size; }
+
+    /**
+     * @return int the number of elements that failed
+     */
+    public int getFailureCount() { return indexes.length; }
+
+    public boolean isValid() { return indexes.length == 0; }
+    public boolean isInvalid() { return !isValid(); }
+
+    /**
+     * @return int[] the positions of the failed elements, in ascending order
+     */
+    public int[] getFailedIndexes() { return indexes.clone(); }
+
+    /**
+     * @return List the ValidationContexts of the failed elements, in the order of getFailedIndexes
+     */
+    public List<ValidationContext> getFailures() {
+        return Collections.unmodifiableList(Arrays.asList(failures));
+    }
+
+    /**
+     * @param index The position of an element in the batch
+     * @return ValidationContext of the element, or null if the element is valid
+     */
+    public ValidationContext getFailure(int index) {
+        int i = Arrays.binarySearch(indexes, index);
+        return i >= 0 ? failures[i] : null;
+    }
+}
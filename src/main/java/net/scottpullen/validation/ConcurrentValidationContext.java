@@ -0,0 +1,159 @@
+package net.scottpullen.validation;
+
+import net.scottpullen.validation.validators.Validator;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * A ValidationContext that many threads can add validators, errors and nested contexts to at the same time.
+ *
+ * Additions are appended to lock-free queues and moved into the context the next time it is read or validated. Read
+ * and validate the context once the threads adding to it are done, the order of additions from one thread is kept,
+ * additions from different threads are interleaved in the order they arrived. Nested contexts are concurrent as well.
+ */
+public class ConcurrentValidationContext extends ValidationContext {
+    private final Queue<Validator> pendingValidators = new ConcurrentLinkedQueue<>();
+    private final Queue<ValidationError> pendingErrors = new ConcurrentLinkedQueue<>();
+    private final Queue<ValidationContext> pendingNestedContexts = new ConcurrentLinkedQueue<>();
+    private final Queue<AsyncCheck> pendingAsyncChecks = new ConcurrentLinkedQueue<>();
+
+    protected ConcurrentValidationContext(String label) {
+        super(label);
+    }
+
+    @Override
+    protected void addError(ValidationError error) {
+        require(error, "ValidationError required");
+        pendingErrors.add(error);
+    }
+
+    @Override
+    protected void addNestedContext(ValidationContext context) {
+        require(context, "ValidationContext required");
+        pendingNestedContexts.add(context);
+    }
+
+    @Override
+    protected void addValidator(Validator validator) {
+        require(validator, "Validator required");
+        pendingValidators.add(validator);
+    }
+
+    /**
+     * Drains the validators added so far first, so the group keeps its place among them
+     */
+    @Override
+    synchronized void addRuleGroup(RuleGroup group) {
+        drain();
+        super.addRuleGroup(group);
+    }
+
+    @Override
+    void addAsyncCheck(AsyncCheck check) {
+        pendingAsyncChecks.add(check);
+    }
+
+    @Override
+    ValidationContext newNestedContext(String label) {
+        return withParent(new ConcurrentValidationContext(label));
+    }
+
+    @Override
+    public List<ValidationError> getErrors() {
+        drain();
+        return super.getErrors();
+    }
+
+    @Override
+    public List<ValidationContext> getNestedContexts() {
+        drain();
+        return super.getNestedContexts();
+    }
+
+    @Override
+    public boolean isInvalid() {
+        drainAll();
+        return super.isInvalid();
+    }
+
+    @Override
+    protected boolean validate(boolean failFast) {
+        drainAll();
+        return super.validate(failFast);
+    }
+
+    @Override
+    protected void revalidate() {
+        drainAll();
+        super.revalidate();
+    }
+
+    @Override
+    protected void reset() {
+        drainAll();
+        super.reset();
+    }
+
+    @Override
+    protected void validateParallel(ForkJoinPool pool) {
+        drainAll();
+        super.validateParallel(pool);
+    }
+
+    @Override
+    void drainAsyncChecks(List<AsyncCheck> checks, List<ValidationContext> contexts) {
+        drainAll();
+        super.drainAsyncChecks(checks, contexts);
+    }
+
+    @Override
+    boolean hasAsyncChecks() {
+        drainAll();
+        return super.hasAsyncChecks();
+    }
+
+    /**
+     * Moves the pending additions of this context and its nested contexts into them
+     */
+    private void drainAll() {
+        drain();
+
+        List<ValidationContext> nestedContexts = super.getNestedContexts();
+        for(int i = 0; i < nestedContexts.size(); i++) {
+            ValidationContext nestedContext = nestedContexts.get(i);
+            if(nestedContext instanceof ConcurrentValidationContext) {
+                ((ConcurrentValidationContext) nestedContext).drainAll();
+            }
+        }
+    }
+
+    /**
+     * Moves the pending additions of this context into it
+     */
+    private synchronized void drain() {
+        Validator validator;
+        while((validator = pendingValidators.poll()) != null) {
+            super.addValidator(validator);
+        }
+
+        ValidationError error;
+        while((error = pendingErrors.poll()) != null) {
+            super.addError(error);
+        }
+
+        ValidationContext nestedContext;
+        while((nestedContext = pendingNestedContexts.poll()) != null) {
+            super.addNestedContext(nestedContext);
+        }
+
+        AsyncCheck check;
+        while((check = pendingAsyncChecks.poll()) != null) {
+            super.addAsyncCheck(check);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package net.scottpullen.validation;
+
+import net.scottpullen.validation.metrics.ValidationListener;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * A group of rules that are only built when the ValidationContext holding them is validated, and only if they apply.
+ * Rules that do not apply are never built, so they can assume their prerequisites hold (ex. a value is present).
+ */
+final class ConditionalRules implements RuleGroup {
+    private final BooleanSupplier condition;
+    private final boolean dependent;
+    private final boolean stopOnFirstFailure;
+    private final Consumer<Validation> rules;
+    private final boolean eager;
+
+    private ConditionalRules(BooleanSupplier condition, boolean dependent, boolean stopOnFirstFailure, Consumer<Validation> rules, boolean eager) {
+        require(rules, "rules required");
+
+        this.condition = condition;
+        this.dependent = dependent;
+        this.stopOnFirstFailure = stopOnFirstFailure;
+        this.rules = rules;
+        this.eager = eager;
+    }
+
+    /**
+     * @return ConditionalRules added only if the condition is true when validating
+     */
+    static ConditionalRules when(BooleanSupplier condition, Consumer<Validation> rules, boolean eager) {
+        return new ConditionalRules(condition, false, false, rules, eager);
+    }
+
+    /**
+     * @return ConditionalRules added only if the rule before them passed
+     */
+    static ConditionalRules then(Consumer<Validation> rules, boolean eager) {
+        return new ConditionalRules(null, true, false, rules, eager);
+    }
+
+    /**
+     * @return ConditionalRules that stop at their first failing rule
+     */
+    static ConditionalRules stopOnFirstFailure(Consumer<Validation> rules, boolean eager) {
+        return new ConditionalRules(null, false, true, rules, eager);
+    }
+
+    @Override
+    public boolean isDependent() { return dependent; }
+
+    /**
+     * Builds the rules in a scratch context, if they apply, and runs them in the place of the group
+     */
+    @Override
+    public boolean run(ValidationContext context, boolean failFast, ValidationListener listener) {
+        if(condition != null && !condition.getAsBoolean()) {
+            return false;
+        }
+
+        boolean stop = failFast || stopOnFirstFailure;
+        ValidationContext scope = context.newScope();
+        rules.accept(new Validation(scope, eager, stop));
+        return context.runScope(scope, stop, listener);
+    }
+}
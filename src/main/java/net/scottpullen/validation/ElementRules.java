@@ -0,0 +1,56 @@
+package net.scottpullen.validation;
+
+import net.scottpullen.validation.metrics.ValidationListener;
+
+import java.util.function.BiConsumer;
+
+/**
+ * The rules of each element of an Iterable (see Validation.eachElement). The elements are built and validated one at a
+ * time in a single reused context, a nested context labeled with the element's index (ex. items[42]) is only added for
+ * the elements that fail, or that have asynchronous validators still to run.
+ *
+ * @param <T> The type of the elements
+ */
+final class ElementRules<T> implements RuleGroup {
+    private final Iterable<T> elements;
+    private final String label;
+    private final BiConsumer<T, Validation> nested;
+    private final boolean eager;
+
+    ElementRules(Iterable<T> elements, String label, BiConsumer<T, Validation> nested, boolean eager) {
+        this.elements = elements;
+        this.label = label;
+        this.nested = nested;
+        this.eager = eager;
+    }
+
+    @Override
+    public boolean run(ValidationContext context, boolean failFast, ValidationListener listener) {
+        ValidationContext elementContext = context.withParent(new ValidationContext(label));
+        Validation elementValidation = new Validation(elementContext, eager, failFast);
+
+        boolean failed = false;
+        int index = 0;
+        for(T element : elements) {
+            elementContext.setElementIndex(index);
+            nested.accept(element, elementValidation);
+            elementContext.validate(failFast, listener);
+
+            if(elementContext.isInvalid()) {
+                context.appendNestedContext(elementContext.detach(label + "[" + index + "]"));
+                failed = true;
+
+                if(failFast) {
+                    break;
+                }
+            } else if(elementContext.hasAsyncChecks()) {
+                context.appendNestedContext(elementContext.detach(label + "[" + index + "]"));
+            } else {
+                elementContext.clear();
+            }
+            index++;
+        }
+
+        return failed;
+    }
+}
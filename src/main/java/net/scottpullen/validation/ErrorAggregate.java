@@ -0,0 +1,71 @@
+package net.scottpullen.validation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The errors with the same label and key, counted, with a sample of the paths they were found at
+ */
+public final class ErrorAggregate {
+    private final String label;
+    private final String key;
+    private long count;
+    private final String[] samplePaths;
+    private int sampleCount;
+
+    ErrorAggregate(String label, String key, int samples) {
+        this.label = label;
+        this.key = key;
+        this.samplePaths = new String[samples];
+    }
+
+    /**
+     * Counts an error, keeping its path with the probability that leaves every path equally likely to be sampled
+     * (reservoir sampling)
+     *
+     * @param context The context the error was added to
+     * @param random A random number between 0 and count, used once the reservoir is full
+     */
+    void add(ValidationContext context, long random) {
+        count++;
+        if(sampleCount < samplePaths.length) {
+            samplePaths[sampleCount++] = context.getPath(label);
+        } else if(random < samplePaths.length) {
+            samplePaths[(int) random] = context.getPath(label);
+        }
+    }
+
+    /**
+     * Takes an error off the count, and its path off the sample if it is there
+     *
+     * @param context The context the error was added to
+     */
+    void remove(ValidationContext context) {
+        count--;
+
+        String path = context.getPath(label);
+        for(int i = 0; i < sampleCount; i++) {
+            if(samplePaths[i].equals(path)) {
+                samplePaths[i] = samplePaths[--sampleCount];
+                samplePaths[sampleCount] = null;
+                return;
+            }
+        }
+    }
+
+    public String getLabel() { return label; }
+    public String getKey() { return key; }
+
+    /**
+     * @return long the number of errors, recorded or not
+     */
+    public long getCount() { return count; }
+
+    /**
+     * @return List a sample of the paths of the errors (ex. order.items[3].sku)
+     */
+    public List<String> getSamplePaths() {
+        return Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(samplePaths, sampleCount)));
+    }
+}
@@ -0,0 +1,126 @@
+package net.scottpullen.validation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Caps the number of ValidationErrors a validation keeps. Every error is counted in an ErrorAggregate per label and
+ * key, only the first maxErrors are added to their ValidationContext. The memory used does not grow with the number
+ * of errors, only with the number of different labels and keys.
+ */
+public final class ErrorSummary {
+    public static final int DEFAULT_SAMPLES = 5;
+
+    private final int maxErrors;
+    private final int samples;
+    private final Map<String, Map<String, ErrorAggregate>> aggregates = new HashMap<>();
+    private final List<ErrorAggregate> ordered = new ArrayList<>();
+    private long errorCount;
+    private long keptCount;
+
+    ErrorSummary(int maxErrors, int samples) {
+        if(maxErrors < 1) {
+            throw new IllegalArgumentException("maxErrors must be at least 1");
+        }
+        if(samples < 0) {
+            throw new IllegalArgumentException("samples must not be negative");
+        }
+
+        this.maxErrors = maxErrors;
+        this.samples = samples;
+    }
+
+    /**
+     * @param context The context the error is being added to
+     * @param error ValidationError
+     * @return boolean whether the error should be added to the context
+     */
+    synchronized boolean record(ValidationContext context, ValidationError error) {
+        errorCount++;
+
+        Map<String, ErrorAggregate> byKey = aggregates.get(error.getLabel());
+        if(byKey == null) {
+            byKey = new HashMap<>(4);
+            aggregates.put(error.getLabel(), byKey);
+        }
+
+        ErrorAggregate aggregate = byKey.get(error.getKey());
+        if(aggregate == null) {
+            aggregate = new ErrorAggregate(error.getLabel(), error.getKey(), samples);
+            byKey.put(error.getKey(), aggregate);
+            ordered.add(aggregate);
+        }
+
+        long count = aggregate.getCount() + 1;
+        aggregate.add(context, count > samples ? ThreadLocalRandom.current().nextLong(count) : 0);
+
+        if(keptCount < maxErrors) {
+            keptCount++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Takes an error that was recorded off the counts, see ValidationContext.revalidate
+     *
+     * @param context The context the error was added to
+     * @param error ValidationError
+     * @param kept Whether the error was added to the context
+     */
+    synchronized void remove(ValidationContext context, ValidationError error, boolean kept) {
+        errorCount--;
+        if(kept) {
+            keptCount--;
+        }
+
+        Map<String, ErrorAggregate> byKey = aggregates.get(error.getLabel());
+        ErrorAggregate aggregate = byKey != null ? byKey.get(error.getKey()) : null;
+        if(aggregate != null) {
+            aggregate.remove(context);
+        }
+    }
+
+    /**
+     * Forgets the errors counted so far, see ValidationContext.reset
+     */
+    synchronized void reset() {
+        aggregates.clear();
+        ordered.clear();
+        errorCount = 0;
+        keptCount = 0;
+    }
+
+    public int getMaxErrors() { return maxErrors; }
+
+    /**
+     * @return long the number of errors found, recorded or not
+     */
+    public synchronized long getErrorCount() { return errorCount; }
+
+    /**
+     * @return long the number of errors that were only counted, not added to their ValidationContext
+     */
+    public synchronized long getDroppedCount() { return errorCount - keptCount; }
+
+    /**
+     * @return boolean whether any errors were dropped
+     */
+    public synchronized boolean isCapped() { return errorCount > keptCount; }
+
+    /**
+     * @return List of the aggregates, in the order their label and key were first seen
+     */
+    public synchronized List<ErrorAggregate> getAggregates() {
+        List<ErrorAggregate> counted = new ArrayList<>(ordered.size());
+        for(ErrorAggregate aggregate : ordered) {
+            if(aggregate.getCount() > 0) {
+                counted.add(aggregate);
+            }
+        }
+        return counted;
+    }
+}
@@ -0,0 +1,382 @@
+package net.scottpullen.validation;
+
+import net.scottpullen.validation.validators.AsciiValidator;
+import net.scottpullen.validation.validators.DigitsValidator;
+import net.scottpullen.validation.validators.DistinctIntValidator;
+import net.scottpullen.validation.validators.DistinctLongValidator;
+import net.scottpullen.validation.validators.DistinctValidator;
+import net.scottpullen.validation.validators.DoubleComparisonValidator;
+import net.scottpullen.validation.validators.DoubleRangeValidator;
+import net.scottpullen.validation.validators.EmailValidator;
+import net.scottpullen.validation.validators.GreaterThanOrEqualToValidator;
+import net.scottpullen.validation.validators.GreaterThanValidator;
+import net.scottpullen.validation.validators.IntComparisonValidator;
+import net.scottpullen.validation.validators.IntMembershipValidator;
+import net.scottpullen.validation.validators.IntRangeValidator;
+import net.scottpullen.validation.validators.IsoDateValidator;
+import net.scottpullen.validation.validators.LessThanOrEqualToValidator;
+import net.scottpullen.validation.validators.LessThanValidator;
+import net.scottpullen.validation.validators.LongComparisonValidator;
+import net.scottpullen.validation.validators.LongMembershipValidator;
+import net.scottpullen.validation.validators.LongRangeValidator;
+import net.scottpullen.validation.validators.MaxBytesValidator;
+import net.scottpullen.validation.validators.MaxLengthValidator;
+import net.scottpullen.validation.validators.NotBlankValidator;
+import net.scottpullen.validation.validators.PatternValidator;
+import net.scottpullen.validation.validators.PresenceAndNotEmptyValidator;
+import net.scottpullen.validation.validators.PresenceValidator;
+import net.scottpullen.validation.validators.StringMembershipValidator;
+import net.scottpullen.validation.validators.Utf8Validator;
+import net.scottpullen.validation.validators.UuidValidator;
+import net.scottpullen.validation.validators.Validator;
+
+import java.lang.reflect.Array;
+
+/**
+ * Runs the Validators of a large ValidationContext grouped by class. Each built in validator class is tested in its
+ * own loop over an array of that class, so every isInvalid call site only ever sees one class and the JIT can inline
+ * it, where a single loop over many classes makes the call megamorphic. Custom validators are tested in a last,
+ * shared loop. The outcomes are kept by position, so the errors are added in the order the validators were.
+ *
+ * A plan is built for the validators of one context and reused for as long as they do not change. It is only used
+ * to run every validator (not failFast) without a listener, TrackedRules are not supported.
+ */
+final class EvaluationPlan {
+    /**
+     * The number of validators from which a context is run with a plan, smaller contexts are run in one loop
+     */
+    static final int THRESHOLD = 16;
+
+    private static final ClassValue<Kind> KINDS = new ClassValue<Kind>() {
+        @Override
+        protected Kind computeValue(Class<?> type) {
+            for(Kind kind : Kind.values()) {
+                if(kind.type == type) {
+                    return kind;
+                }
+            }
+            return Kind.CUSTOM;
+        }
+    };
+
+    private final Kind[] kinds;
+    private final Validator[][] groups;
+    private final int[][] positions;
+    private final int count;
+
+    private EvaluationPlan(int count, Kind[] kinds, Validator[][] groups, int[][] positions) {
+        this.count = count;
+        this.kinds = kinds;
+        this.groups = groups;
+        this.positions = positions;
+    }
+
+    /**
+     * @param validators The validators of a context
+     * @param count The number of validators
+     * @return EvaluationPlan, or null if a validator can not be run by a plan
+     */
+    static EvaluationPlan of(Validator[] validators, int count) {
+        Kind[] all = Kind.values();
+        int[] sizes = new int[all.length];
+        Kind[] kindOf = new Kind[count];
+
+        for(int i = 0; i < count; i++) {
+            Validator validator = validators[i];
+            if(validator instanceof TrackedRule) {
+                return null;
+            }
+            kindOf[i] = KINDS.get(validator.getClass());
+            sizes[kindOf[i].ordinal()]++;
+        }
+
+        int groupCount = 0;
+        for(int size : sizes) {
+            if(size > 0) {
+                groupCount++;
+            }
+        }
+
+        Kind[] kinds = new Kind[groupCount];
+        Validator[][] groups = new Validator[groupCount][];
+        int[][] positions = new int[groupCount][];
+        int[] groupOf = new int[all.length];
+
+        for(int k = 0, g = 0; k < all.length; k++) {
+            if(sizes[k] > 0) {
+                kinds[g] = all[k];
+                groups[g] = (Validator[]) Array.newInstance(all[k].type, sizes[k]);
+                positions[g] = new int[sizes[k]];
+                groupOf[k] = g++;
+            }
+        }
+
+        int[] filled = new int[groupCount];
+        for(int i = 0; i < count; i++) {
+            int g = groupOf[kindOf[i].ordinal()];
+            groups[g][filled[g]] = validators[i];
+            positions[g][filled[g]++] = i;
+        }
+
+        return new EvaluationPlan(count, kinds, groups, positions);
+    }
+
+    /**
+     * Tests every validator. The plan is not changed by a run, so it can be run by several threads at once.
+     *
+     * @return boolean[] whether the validator at each position is invalid
+     */
+    boolean[] run() {
+        boolean[] invalid = new boolean[count];
+        for(int g = 0; g < kinds.length; g++) {
+            kinds[g].run(groups[g], groups[g].length, positions[g], invalid);
+        }
+        return invalid;
+    }
+
+    /**
+     * The validator classes that are grouped, each runs its group in a loop of its own
+     */
+    private enum Kind {
+        PRESENCE(PresenceValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((PresenceValidator<?>) group[i]).isInvalid();
+                }
+            }
+        },
+        PRESENCE_AND_NOT_EMPTY(PresenceAndNotEmptyValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((PresenceAndNotEmptyValidator) group[i]).isInvalid();
+                }
+            }
+        },
+        NOT_BLANK(NotBlankValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((NotBlankValidator) group[i]).isInvalid();
+                }
+            }
+        },
+        GREATER_THAN(GreaterThanValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((GreaterThanValidator<?>) group[i]).isInvalid();
+                }
+            }
+        },
+        GREATER_THAN_OR_EQUAL_TO(GreaterThanOrEqualToValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((GreaterThanOrEqualToValidator<?>) group[i]).isInvalid();
+                }
+            }
+        },
+        LESS_THAN(LessThanValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((LessThanValidator<?>) group[i]).isInvalid();
+                }
+            }
+        },
+        LESS_THAN_OR_EQUAL_TO(LessThanOrEqualToValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((LessThanOrEqualToValidator<?>) group[i]).isInvalid();
+                }
+            }
+        },
+        INT_COMPARISON(IntComparisonValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((IntComparisonValidator) group[i]).isInvalid();
+                }
+            }
+        },
+        LONG_COMPARISON(LongComparisonValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((LongComparisonValidator) group[i]).isInvalid();
+                }
+            }
+        },
+        DOUBLE_COMPARISON(DoubleComparisonValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((DoubleComparisonValidator) group[i]).isInvalid();
+                }
+            }
+        },
+        INT_RANGE(IntRangeValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((IntRangeValidator) group[i]).isInvalid();
+                }
+            }
+        },
+        LONG_RANGE(LongRangeValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((LongRangeValidator) group[i]).isInvalid();
+                }
+            }
+        },
+        DOUBLE_RANGE(DoubleRangeValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((DoubleRangeValidator) group[i]).isInvalid();
+                }
+            }
+        },
+        MAX_LENGTH(MaxLengthValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((MaxLengthValidator) group[i]).isInvalid();
+                }
+            }
+        },
+        MAX_BYTES(MaxBytesValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((MaxBytesValidator) group[i]).isInvalid();
+                }
+            }
+        },
+        ASCII(AsciiValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((AsciiValidator) group[i]).isInvalid();
+                }
+            }
+        },
+        DIGITS(DigitsValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((DigitsValidator) group[i]).isInvalid();
+                }
+            }
+        },
+        EMAIL(EmailValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((EmailValidator) group[i]).isInvalid();
+                }
+            }
+        },
+        UUID(UuidValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((UuidValidator) group[i]).isInvalid();
+                }
+            }
+        },
+        ISO_DATE(IsoDateValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((IsoDateValidator) group[i]).isInvalid();
+                }
+            }
+        },
+        PATTERN(PatternValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((PatternValidator) group[i]).isInvalid();
+                }
+            }
+        },
+        UTF8(Utf8Validator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((Utf8Validator) group[i]).isInvalid();
+                }
+            }
+        },
+        INT_MEMBERSHIP(IntMembershipValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((IntMembershipValidator) group[i]).isInvalid();
+                }
+            }
+        },
+        LONG_MEMBERSHIP(LongMembershipValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((LongMembershipValidator) group[i]).isInvalid();
+                }
+            }
+        },
+        STRING_MEMBERSHIP(StringMembershipValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((StringMembershipValidator) group[i]).isInvalid();
+                }
+            }
+        },
+        DISTINCT(DistinctValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((DistinctValidator<?>) group[i]).isInvalid();
+                }
+            }
+        },
+        DISTINCT_INT(DistinctIntValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((DistinctIntValidator<?>) group[i]).isInvalid();
+                }
+            }
+        },
+        DISTINCT_LONG(DistinctLongValidator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = ((DistinctLongValidator<?>) group[i]).isInvalid();
+                }
+            }
+        },
+        CUSTOM(Validator.class) {
+            @Override
+            void run(Validator[] group, int size, int[] positions, boolean[] invalid) {
+                for(int i = 0; i < size; i++) {
+                    invalid[positions[i]] = group[i].isInvalid();
+                }
+            }
+        };
+
+        private final Class<? extends Validator> type;
+
+        Kind(Class<? extends Validator> type) {
+            this.type = type;
+        }
+
+        abstract void run(Validator[] group, int size, int[] positions, boolean[] invalid);
+    }
+}
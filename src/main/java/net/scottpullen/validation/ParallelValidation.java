@@ -0,0 +1,57 @@
+package net.scottpullen.validation;
+
+import net.scottpullen.validation.metrics.ValidationListener;
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Validates a range of sibling ValidationContexts and everything nested under them, splitting the range in half until
+ * it is at most GRAIN contexts. A context's own validators and errors are only touched by the task that validates it.
+ */
+final class ParallelValidation extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Trees with fewer contexts are validated sequentially
+     */
+    static final int THRESHOLD = 256;
+
+    /**
+     * Ranges of at most GRAIN sibling contexts are validated by a single task
+     */
+    static final int GRAIN = 8;
+
+    private final List<ValidationContext> contexts;
+    private final int from;
+    private final int to;
+    private final ValidationListener listener;
+
+    ParallelValidation(List<ValidationContext> contexts, int from, int to, ValidationListener listener) {
+        this.contexts = contexts;
+        this.from = from;
+        this.to = to;
+        this.listener = listener;
+    }
+
+    @Override
+    protected void compute() {
+        if(to - from > GRAIN) {
+            int middle = (from + to) >>> 1;
+            invokeAll(
+                new ParallelValidation(contexts, from, middle, listener),
+                new ParallelValidation(contexts, middle, to, listener));
+            return;
+        }
+
+        for(int i = from; i < to; i++) {
+            ValidationContext context = contexts.get(i);
+            context.runValidators(false, listener);
+
+            List<ValidationContext> nestedContexts = context.getNestedContexts();
+            if(!nestedContexts.isEmpty()) {
+                new ParallelValidation(nestedContexts, 0, nestedContexts.size(), listener).compute();
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package net.scottpullen.validation;
+
+import net.scottpullen.validation.metrics.ValidationListener;
+
+/**
+ * Rules that are only built when the ValidationContext holding them is validated. A group keeps its place among the
+ * Validators of the context and is run in that place, but it is not a Validator itself.
+ */
+interface RuleGroup {
+
+    /**
+     * Builds and runs the rules, adding their errors and nested contexts to the context
+     *
+     * @param context ValidationContext holding the group
+     * @param failFast Whether to stop at the first failure
+     * @param listener ValidationListener, or null
+     * @return boolean true if any of the rules failed
+     */
+    boolean run(ValidationContext context, boolean failFast, ValidationListener listener);
+
+    /**
+     * @return boolean whether the group is skipped when the rule before it failed
+     */
+    default boolean isDependent() { return false; }
+}
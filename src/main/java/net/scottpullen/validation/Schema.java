@@ -0,0 +1,588 @@
+package net.scottpullen.validation;
+
+import net.scottpullen.validation.metrics.ValidationListener;
+import net.scottpullen.validation.validators.GreaterThanOrEqualToValidator;
+import net.scottpullen.validation.validators.GreaterThanValidator;
+import net.scottpullen.validation.validators.LessThanOrEqualToValidator;
+import net.scottpullen.validation.validators.LessThanValidator;
+import net.scottpullen.validation.validators.NotBlankValidator;
+import net.scottpullen.validation.validators.PresenceAndNotEmptyValidator;
+import net.scottpullen.validation.validators.PresenceValidator;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * A reusable set of validation rules for a type.
+ *
+ * A Schema is built once from getters and then used to validate any number of instances. It is immutable and can be
+ * shared between threads. Validating an instance does not create any rule objects, only the ValidationContext and,
+ * for the rules that fail, the Validator that builds their ValidationError.
+ *
+ * <pre>
+ * Schema&lt;Order&gt; schema = Schema.&lt;Order&gt;builder("order")
+ *     .presence(Order::getId, "id")
+ *     .notBlank(Order::getName, "name")
+ *     .greaterThan(Order::getQuantity, 0, "quantity")
+ *     .build();
+ *
+ * schema.validate(order, Validation::andThrow);
+ * </pre>
+ *
+ * @param <T> The type of the instances under test
+ */
+public final class Schema<T> {
+    private final String label;
+    private final boolean failFast;
+    private final SchemaRule<T>[] rules;
+    private final ValidationListener listener;
+
+    /**
+     * The run order of the rules in failFast mode, null unless the schema is adaptive
+     */
+    private final AdaptiveOrder adaptiveOrder;
+
+    private Schema(Builder<T> builder) {
+        this.label = builder.label;
+        this.failFast = builder.failFast;
+        this.rules = builder.toArray();
+        this.listener = builder.listener;
+        this.adaptiveOrder = builder.adaptive ? new AdaptiveOrder(movable(rules)) : null;
+    }
+
+    /**
+     * @param label A string representing the label of the ValidationContext produced by the schema
+     * @param <T> The type of the instances under test
+     * @return Builder
+     */
+    public static <T> Builder<T> builder(String label) {
+        return new Builder<>(label);
+    }
+
+    public String getLabel() { return label; }
+
+    /**
+     * Runs the rules against an instance
+     *
+     * @param instance The instance under test
+     * @return ValidationContext
+     */
+    public ValidationContext validate(T instance) {
+        ValidationContext context = new ValidationContext(label);
+        context.setListener(listener);
+        apply(instance, context, failFast);
+        return context;
+    }
+
+    /**
+     * Runs the rules against an instance and takes an action that accepts a ValidationContext
+     *
+     * @param instance The instance under test
+     * @param action Consumer that accepts a ValidationContext
+     * @return ValidationContext
+     */
+    public ValidationContext validate(T instance, Consumer<ValidationContext> action) {
+        ValidationContext context = validate(instance);
+        action.accept(context);
+        return context;
+    }
+
+    /**
+     * @param instance The instance under test
+     * @param context ValidationContext the errors are added to
+     * @param failFast Whether to stop at the first failing rule
+     * @return boolean true if any rule failed
+     */
+    boolean apply(T instance, ValidationContext context, boolean failFast) {
+        ValidationListener listener = context.getListener();
+        if(failFast && adaptiveOrder != null) {
+            return applyAdaptive(instance, context, listener);
+        }
+
+        boolean failed = false;
+
+        for(SchemaRule<T> rule : rules) {
+            if(listener == null ? rule.apply(instance, context, failFast) : apply(rule, instance, context, failFast, listener)) {
+                if(failFast) {
+                    return true;
+                }
+                failed = true;
+            }
+        }
+
+        return failed;
+    }
+
+    /**
+     * Applies the rules in the adaptive order, stopping at the first failure. A sampled run measures every rule of the
+     * segment the first failure is in, only the first failure is added to the context and reported to the listener.
+     */
+    private boolean applyAdaptive(T instance, ValidationContext context, ValidationListener listener) {
+        int[] order = adaptiveOrder.order();
+
+        if(!adaptiveOrder.sample()) {
+            for(int i = 0; i < order.length; i++) {
+                SchemaRule<T> rule = rules[order[i]];
+                if(listener == null ? rule.apply(instance, context, true) : apply(rule, instance, context, true, listener)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean failed = false;
+        for(int i = 0; i < order.length; i++) {
+            SchemaRule<T> rule = rules[order[i]];
+            if(!(rule instanceof Rule)) {
+                if(failed || (listener == null ? rule.apply(instance, context, true) : apply(rule, instance, context, true, listener))) {
+                    failed = true;
+                    break;
+                }
+                continue;
+            }
+
+            Rule<T> r = (Rule<T>) rule;
+            if(failed) {
+                measureAfterFailure(r, order[i], instance);
+                continue;
+            }
+
+            long start = System.nanoTime();
+            boolean valid = r.test.test(instance);
+            long nanos = System.nanoTime() - start;
+
+            adaptiveOrder.record(order[i], nanos, valid);
+            if(listener != null) {
+                listener.onEvaluated(r.label, r.key, valid, nanos);
+            }
+
+            if(!valid) {
+                context.addError(r.error.apply(instance));
+                failed = true;
+            }
+        }
+
+        adaptiveOrder.sampled();
+        return failed;
+    }
+
+    /**
+     * Measures a rule after the first failure of a sampled run, only for the statistics. A rule that throws (ex. because
+     * it relies on a rule before it passing) is skipped.
+     */
+    private void measureAfterFailure(Rule<T> rule, int index, T instance) {
+        long start = System.nanoTime();
+        boolean valid;
+        try {
+            valid = rule.test.test(instance);
+        } catch(RuntimeException e) {
+            return;
+        }
+        adaptiveOrder.record(index, System.nanoTime() - start, valid);
+    }
+
+    /**
+     * Package-private for testing
+     *
+     * @return int[] the declared indexes of the rules in the order they run in failFast mode
+     */
+    int[] getRuleOrder() {
+        return adaptiveOrder != null ? adaptiveOrder.order().clone() : AdaptiveOrder.declared(rules.length);
+    }
+
+    private static <T> boolean[] movable(SchemaRule<T>[] rules) {
+        boolean[] movable = new boolean[rules.length];
+        for(int i = 0; i < rules.length; i++) {
+            movable[i] = rules[i] instanceof Rule;
+        }
+        return movable;
+    }
+
+    /**
+     * Applies a rule and reports it to the listener, nested schemas are not reported themselves, their rules are
+     */
+    private static <T> boolean apply(SchemaRule<T> rule, T instance, ValidationContext context, boolean failFast, ValidationListener listener) {
+        if(!(rule instanceof Rule)) {
+            return rule.apply(instance, context, failFast);
+        }
+
+        long start = System.nanoTime();
+        boolean failed = rule.apply(instance, context, failFast);
+        long nanos = System.nanoTime() - start;
+
+        Rule<T> r = (Rule<T>) rule;
+        listener.onEvaluated(r.label, r.key, !failed, nanos);
+        return failed;
+    }
+
+    /**
+     * A single rule of a schema
+     *
+     * @param <T> The type of the instances under test
+     */
+    @FunctionalInterface
+    interface SchemaRule<T> {
+        /**
+         * @param instance The instance under test
+         * @param context ValidationContext any errors are added to
+         * @param failFast Whether to stop at the first failing rule
+         * @return boolean true if the rule failed
+         */
+        boolean apply(T instance, ValidationContext context, boolean failFast);
+    }
+
+    /**
+     * A rule that tests the instance, its label and key are reported to a ValidationListener
+     *
+     * @param <T> The type of the instances under test
+     */
+    private static final class Rule<T> implements SchemaRule<T> {
+        private final Predicate<T> test;
+        private final Function<T, ValidationError> error;
+        private final String label;
+        private final String key;
+
+        private Rule(Predicate<T> test, Function<T, ValidationError> error, String label, String key) {
+            this.test = test;
+            this.error = error;
+            this.label = label;
+            this.key = key;
+        }
+
+        @Override
+        public boolean apply(T instance, ValidationContext context, boolean failFast) {
+            if(test.test(instance)) {
+                return false;
+            }
+
+            context.addError(error.apply(instance));
+            return true;
+        }
+    }
+
+    public static final class Builder<T> {
+        private final String label;
+        private final List<SchemaRule<T>> rules = new ArrayList<>();
+        private boolean failFast = false;
+        private boolean adaptive = false;
+        private ValidationListener listener;
+
+        private Builder(String label) {
+            require(label, "label required");
+            this.label = label;
+        }
+
+        /**
+         * Determines whether a value is present or not
+         *
+         * @param getter A function that returns the value under test
+         * @param label A string representing what is being tested
+         * @return Builder
+         */
+        public Builder<T> presence(Function<T, ?> getter, String label) {
+            return presence(getter, label, PresenceValidator.DEFAULT_KEY);
+        }
+
+        /**
+         * Determines whether a value is present or not
+         *
+         * @param getter A function that returns the value under test
+         * @param label A string representing what is being tested
+         * @param key A string representing a specific message key
+         * @return Builder
+         */
+        public Builder<T> presence(Function<T, ?> getter, String label, String key) {
+            require(getter, "getter required");
+            return rule(
+                instance -> getter.apply(instance) != null,
+                instance -> new PresenceValidator<>(getter.apply(instance), label, key).buildValidationError(),
+                label, key);
+        }
+
+        /**
+         * Determines whether a collection is present or not and has items
+         *
+         * @param getter A function that returns the collection under test
+         * @param label A string representing what is being tested
+         * @return Builder
+         */
+        public Builder<T> presenceAndNotEmpty(Function<T, ? extends Collection<?>> getter, String label) {
+            return presenceAndNotEmpty(getter, label, PresenceAndNotEmptyValidator.DEFAULT_KEY);
+        }
+
+        /**
+         * Determines whether a collection is present or not and has items
+         *
+         * @param getter A function that returns the collection under test
+         * @param label A string representing what is being tested
+         * @param key A string representing a specific message key
+         * @return Builder
+         */
+        public Builder<T> presenceAndNotEmpty(Function<T, ? extends Collection<?>> getter, String label, String key) {
+            require(getter, "getter required");
+            return rule(
+                instance -> {
+                    Collection<?> c = getter.apply(instance);
+                    return c != null && !c.isEmpty();
+                },
+                instance -> new PresenceAndNotEmptyValidator(getter.apply(instance), label, key).buildValidationError(),
+                label, key);
+        }
+
+        /**
+         * Determines whether a string is notBlank
+         *
+         * @param getter A function that returns the string under test
+         * @param label A string representing what is being tested
+         * @return Builder
+         */
+        public Builder<T> notBlank(Function<T, String> getter, String label) {
+            return notBlank(getter, label, NotBlankValidator.DEFAULT_KEY);
+        }
+
+        /**
+         * Determines whether a string is notBlank
+         *
+         * @param getter A function that returns the string under test
+         * @param label A string representing what is being tested
+         * @param key A string representing a specific message key
+         * @return Builder
+         */
+        public Builder<T> notBlank(Function<T, String> getter, String label, String key) {
+            require(getter, "getter required");
+            return rule(
+                instance -> !StringUtils.isBlank(getter.apply(instance)),
+                instance -> new NotBlankValidator(getter.apply(instance), label, key).buildValidationError(),
+                label, key);
+        }
+
+        /**
+         * Determines whether a value is greater than a minimum value
+         *
+         * @param getter A function that returns the comparable value under test
+         * @param min The minimum value the value under test has to be
+         * @param label A string representing what is being tested
+         * @param <V> The type of the comparable value
+         * @return Builder
+         */
+        public <V> Builder<T> greaterThan(Function<T, ? extends Comparable<V>> getter, V min, String label) {
+            return greaterThan(getter, min, label, GreaterThanValidator.DEFAULT_KEY);
+        }
+
+        /**
+         * Determines whether a value is greater than a minimum value
+         *
+         * @param getter A function that returns the comparable value under test
+         * @param min The minimum value the value under test has to be
+         * @param label A string representing what is being tested
+         * @param key A string representing a specific message key
+         * @param <V> The type of the comparable value
+         * @return Builder
+         */
+        public <V> Builder<T> greaterThan(Function<T, ? extends Comparable<V>> getter, V min, String label, String key) {
+            require(getter, "getter required");
+            return rule(
+                instance -> getter.apply(instance).compareTo(min) > 0,
+                instance -> new GreaterThanValidator<V>(getter.apply(instance), min, label, key).buildValidationError(),
+                label, key);
+        }
+
+        /**
+         * Determines whether a value is greater than or equal to a minimum value
+         *
+         * @param getter A function that returns the comparable value under test
+         * @param min The minimum value the value under test has to be
+         * @param label A string representing what is being tested
+         * @param <V> The type of the comparable value
+         * @return Builder
+         */
+        public <V> Builder<T> greaterThanOrEqualTo(Function<T, ? extends Comparable<V>> getter, V min, String label) {
+            return greaterThanOrEqualTo(getter, min, label, GreaterThanOrEqualToValidator.DEFAULT_KEY);
+        }
+
+        /**
+         * Determines whether a value is greater than or equal to a minimum value
+         *
+         * @param getter A function that returns the comparable value under test
+         * @param min The minimum value the value under test has to be
+         * @param label A string representing what is being tested
+         * @param key A string representing a specific message key
+         * @param <V> The type of the comparable value
+         * @return Builder
+         */
+        public <V> Builder<T> greaterThanOrEqualTo(Function<T, ? extends Comparable<V>> getter, V min, String label, String key) {
+            require(getter, "getter required");
+            return rule(
+                instance -> getter.apply(instance).compareTo(min) >= 0,
+                instance -> new GreaterThanOrEqualToValidator<V>(getter.apply(instance), min, label, key).buildValidationError(),
+                label, key);
+        }
+
+        /**
+         * Determines whether a value is less than a maximum value
+         *
+         * @param getter A function that returns the comparable value under test
+         * @param max The maximum value the value under test has to be
+         * @param label A string representing what is being tested
+         * @param <V> The type of the comparable value
+         * @return Builder
+         */
+        public <V> Builder<T> lessThan(Function<T, ? extends Comparable<V>> getter, V max, String label) {
+            return lessThan(getter, max, label, LessThanValidator.DEFAULT_KEY);
+        }
+
+        /**
+         * Determines whether a value is less than a maximum value
+         *
+         * @param getter A function that returns the comparable value under test
+         * @param max The maximum value the value under test has to be
+         * @param label A string representing what is being tested
+         * @param key A string representing a specific message key
+         * @param <V> The type of the comparable value
+         * @return Builder
+         */
+        public <V> Builder<T> lessThan(Function<T, ? extends Comparable<V>> getter, V max, String label, String key) {
+            require(getter, "getter required");
+            return rule(
+                instance -> getter.apply(instance).compareTo(max) < 0,
+                instance -> new LessThanValidator<V>(getter.apply(instance), max, label, key).buildValidationError(),
+                label, key);
+        }
+
+        /**
+         * Determines whether a value is less than or equal to a maximum value
+         *
+         * @param getter A function that returns the comparable value under test
+         * @param max The maximum value the value under test has to be
+         * @param label A string representing what is being tested
+         * @param <V> The type of the comparable value
+         * @return Builder
+         */
+        public <V> Builder<T> lessThanOrEqualTo(Function<T, ? extends Comparable<V>> getter, V max, String label) {
+            return lessThanOrEqualTo(getter, max, label, LessThanOrEqualToValidator.DEFAULT_KEY);
+        }
+
+        /**
+         * Determines whether a value is less than or equal to a maximum value
+         *
+         * @param getter A function that returns the comparable value under test
+         * @param max The maximum value the value under test has to be
+         * @param label A string representing what is being tested
+         * @param key A string representing a specific message key
+         * @param <V> The type of the comparable value
+         * @return Builder
+         */
+        public <V> Builder<T> lessThanOrEqualTo(Function<T, ? extends Comparable<V>> getter, V max, String label, String key) {
+            require(getter, "getter required");
+            return rule(
+                instance -> getter.apply(instance).compareTo(max) <= 0,
+                instance -> new LessThanOrEqualToValidator<V>(getter.apply(instance), max, label, key).buildValidationError(),
+                label, key);
+        }
+
+        /**
+         * Accepts any test for an instance
+         *
+         * @param test A predicate that returns true when the instance is valid
+         * @param error A function that builds the ValidationError when the instance is invalid
+         * @return Builder
+         */
+        public Builder<T> rule(Predicate<T> test, Function<T, ValidationError> error) {
+            require(test, "test required");
+            require(error, "error required");
+
+            rules.add(new Rule<>(test, error, label, null));
+            return this;
+        }
+
+        /**
+         * Validates a nested value with another schema
+         *
+         * A nested ValidationContext labeled with the nested schema's label is always added. When the nested value is
+         * null the nested rules are skipped, use presence to test for it.
+         *
+         * @param getter A function that returns the nested value
+         * @param schema The Schema used to validate the nested value
+         * @param <R> The type of the nested value
+         * @return Builder
+         */
+        public <R> Builder<T> nested(Function<T, R> getter, Schema<R> schema) {
+            require(getter, "getter required");
+            require(schema, "schema required");
+
+            rules.add((instance, context, failFast) -> {
+                ValidationContext nestedContext = context.withParent(new ValidationContext(schema.getLabel()));
+                context.addNestedContext(nestedContext);
+
+                R value = getter.apply(instance);
+                return value != null && schema.apply(value, nestedContext, failFast);
+            });
+            return this;
+        }
+
+        /**
+         * Stop validating at the first failing rule, skipping the remaining rules and nested schemas
+         *
+         * @return Builder
+         */
+        public Builder<T> failFast() {
+            this.failFast = true;
+            return this;
+        }
+
+        /**
+         * Lets the schema learn the cost and failure rate of its rules and run the cheap, frequently failing rules
+         * first in failFast mode. Rules are reordered among their neighbours, nested schemas stay in place.
+         *
+         * The rules have to be independent and free of side effects. In failFast mode the error reported is the first
+         * failure in the learned order, full runs always run the rules and report their errors in declared order.
+         *
+         * @return Builder
+         */
+        public Builder<T> adaptive() {
+            this.adaptive = true;
+            return this;
+        }
+
+        /**
+         * Notify a listener of every rule the schema evaluates, including the rules of nested schemas. The listeners
+         * of the nested schemas themselves are not used.
+         *
+         * @param listener ValidationListener (ex. ValidationMetrics), or null
+         * @return Builder
+         */
+        public Builder<T> listener(ValidationListener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * @return Schema
+         */
+        public Schema<T> build() {
+            return new Schema<>(this);
+        }
+
+        private Builder<T> rule(Predicate<T> test, Function<T, ValidationError> error, String label, String key) {
+            require(label, "label required");
+            require(key, "key required");
+            require(test, "test required");
+            require(error, "error required");
+
+            rules.add(new Rule<>(test, error, label, key));
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        private SchemaRule<T>[] toArray() {
+            return (SchemaRule<T>[]) rules.toArray(new SchemaRule<?>[0]);
+        }
+    }
+}
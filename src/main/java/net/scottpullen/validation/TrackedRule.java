@@ -0,0 +1,85 @@
+package net.scottpullen.validation;
+
+import net.scottpullen.validation.validators.Validator;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A Validator built from the current value of an input. It remembers the value it was last evaluated with, so
+ * revalidate only evaluates it again when the input changed (compared with equals). validate always reads the input
+ * again.
+ *
+ * @param <V> The type of the input
+ */
+final class TrackedRule<V> implements Validator {
+    private final Supplier<V> input;
+    private final Function<V, Validator> rule;
+
+    private boolean evaluated;
+    private V value;
+    private Validator current;
+
+    TrackedRule(Supplier<V> input, Function<V, Validator> rule) {
+        this.input = input;
+        this.rule = rule;
+    }
+
+    /**
+     * Reads the input and keeps it for the next evaluation
+     *
+     * @return boolean whether the input changed since the last evaluation
+     */
+    boolean refresh() {
+        V next = input.get();
+        if(evaluated && Objects.equals(next, value)) {
+            return false;
+        }
+
+        value = next;
+        current = null;
+        return true;
+    }
+
+    /**
+     * Forgets the last evaluation, the next one reads the input again
+     */
+    void invalidate() {
+        evaluated = false;
+        value = null;
+        current = null;
+    }
+
+    @Override
+    public boolean isValid() {
+        if(current == null) {
+            if(!evaluated) {
+                value = input.get();
+            }
+            current = rule.apply(value);
+            evaluated = true;
+        }
+        return current.isValid();
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return !isValid();
+    }
+
+    @Override
+    public ValidationError buildValidationError() {
+        return current.buildValidationError();
+    }
+
+    @Override
+    public String getLabel() {
+        return current != null ? current.getLabel() : null;
+    }
+
+    @Override
+    public String getKey() {
+        return current != null ? current.getKey() : null;
+    }
+}
@@ -1,20 +1,61 @@
 package net.scottpullen.validation;
 
+import net.scottpullen.validation.cache.CacheSpec;
+import net.scottpullen.validation.cache.ValidatorCache;
+import net.scottpullen.validation.helpers.PatternCache;
+import net.scottpullen.validation.metrics.ValidationListener;
+import net.scottpullen.validation.sets.IntSet;
+import net.scottpullen.validation.sets.LongSet;
+import net.scottpullen.validation.sets.StringSet;
+import net.scottpullen.validation.validators.AsciiValidator;
+import net.scottpullen.validation.validators.Comparison;
+import net.scottpullen.validation.validators.DistinctIntValidator;
+import net.scottpullen.validation.validators.DistinctLongValidator;
+import net.scottpullen.validation.validators.DistinctValidator;
+import net.scottpullen.validation.validators.DoubleComparisonValidator;
+import net.scottpullen.validation.validators.DigitsValidator;
+import net.scottpullen.validation.validators.DoubleRangeValidator;
+import net.scottpullen.validation.validators.EmailValidator;
+import net.scottpullen.validation.validators.IntComparisonValidator;
+import net.scottpullen.validation.validators.IntMembershipValidator;
+import net.scottpullen.validation.validators.IntRangeValidator;
+import net.scottpullen.validation.validators.IsoDateValidator;
+import net.scottpullen.validation.validators.LongComparisonValidator;
+import net.scottpullen.validation.validators.LongMembershipValidator;
+import net.scottpullen.validation.validators.LongRangeValidator;
+import net.scottpullen.validation.validators.MaxBytesValidator;
+import net.scottpullen.validation.validators.MaxLengthValidator;
+import net.scottpullen.validation.validators.Membership;
 import net.scottpullen.validation.validators.NotBlankValidator;
+import net.scottpullen.validation.validators.PatternValidator;
 import net.scottpullen.validation.validators.GreaterThanOrEqualToValidator;
 import net.scottpullen.validation.validators.GreaterThanValidator;
 import net.scottpullen.validation.validators.LessThanOrEqualToValidator;
 import net.scottpullen.validation.validators.LessThanValidator;
 import net.scottpullen.validation.validators.PresenceAndNotEmptyValidator;
 import net.scottpullen.validation.validators.PresenceValidator;
+import net.scottpullen.validation.validators.StringMembershipValidator;
+import net.scottpullen.validation.validators.Utf8Check;
+import net.scottpullen.validation.validators.Utf8Validator;
+import net.scottpullen.validation.validators.UuidValidator;
 import net.scottpullen.validation.validators.Validator;
-import org.apache.commons.lang3.NotImplementedException;
 
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 import static net.scottpullen.validation.helpers.ArgumentValidation.require;
 
@@ -39,207 +80,1839 @@ public class Validation {
      * @param eager boolean
      * @param failFast boolean
      */
-    private Validation(ValidationContext context, boolean eager, boolean failFast) {
+    Validation(ValidationContext context, boolean eager, boolean failFast) {
         require(context, "ValidationContext required");
         this.context = context;
         this.eager = eager;
         this.failFast = failFast;
     }
 
+    /**
+     * Creates a Validation that many threads can add validators to at the same time (ex. workers that each check a
+     * part of a large payload). Call failFast before sharing it, and validate once the threads are done.
+     *
+     * @param label A string representing the label of the Validation being done
+     * @return Validation
+     */
+    public static Validation concurrent(String label) {
+        require(label, "label required");
+        return new Validation(new ConcurrentValidationContext(label), false, false);
+    }
+
     private ValidationContext getContext() {
         return this.context;
     }
 
     /**
-     * Merge a context from another Validation into the current Validation
+     * Stop validating at the first failing validator, skipping the remaining validators and nested validations
+     *
+     * @return Validation
+     */
+    public Validation failFast() {
+        this.failFast = true;
+        return this;
+    }
+
+    /**
+     * Keep at most maxErrors ValidationErrors, the errors after that are only counted per label and key, with a sample
+     * of their paths (see getErrorSummary on the ValidationContext). Call before adding nested validations.
+     *
+     * @param maxErrors The number of errors to keep, at least 1
+     * @return Validation
+     */
+    public Validation capErrors(int maxErrors) {
+        return capErrors(maxErrors, ErrorSummary.DEFAULT_SAMPLES);
+    }
+
+    /**
+     * Keep at most maxErrors ValidationErrors, the errors after that are only counted per label and key, with a sample
+     * of their paths (see getErrorSummary on the ValidationContext). Call before adding nested validations. The counts
+     * start over every time the Validation is validated.
+     *
+     * @param maxErrors The number of errors to keep, at least 1
+     * @param samples The number of paths to sample for each label and key
+     * @return Validation
+     */
+    public Validation capErrors(int maxErrors, int samples) {
+        context.capErrors(maxErrors, samples);
+        return this;
+    }
+
+    /**
+     * Notify a listener of every Validator this Validation and its nested validations evaluate. Asynchronous
+     * validators and Supplier validators are not reported. Call before adding nested validations.
+     *
+     * Rules are only timed when a listener is set, other validations are not affected.
+     *
+     * @param listener ValidationListener (ex. ValidationMetrics, shared between validations), or null
+     * @return Validation
+     */
+    public Validation listener(ValidationListener listener) {
+        context.setListener(listener);
+        return this;
+    }
+
+    /**
+     * Merge a context from another Validation into the current Validation
+     *
+     * @param otherValidation Validation
+     * @return Validation
+     */
+    public Validation merge(Validation otherValidation) {
+        require(otherValidation, "otherValidation required");
+
+        context.addNestedContext(otherValidation.getContext());
+        return this;
+    }
+
+    /**
+     * Determines whether an object is present or not
+     *
+     * @param object Object under test
+     * @param label A string representing what is being tested
+     * @param <T> The type of the object under test
+     * @return Validation
+     */
+    public <T> Validation presence(T object, String label) {
+        return isValid(new PresenceValidator<T>(object, label));
+    }
+
+    /**
+     * Determines whether an object is present or not
+     *
+     * @param object Object under test
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @param <T> The type of the object under test
+     * @return Validation
+     */
+    public <T> Validation presence(T object, String label, String key) {
+        return isValid(new PresenceValidator<T>(object, label, key));
+    }
+
+    /**
+     * Determines whether a collection is present or not and has items
+     *
+     * @param c The collection under test
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation presenceAndNotEmpty(Collection c, String label) {
+        return isValid(new PresenceAndNotEmptyValidator(c, label));
+    }
+
+    /**
+     * Determines whether a collection is present or not and has items
+     *
+     * @param c The collection under test
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation presenceAndNotEmpty(Collection c, String label, String key) {
+        return isValid(new PresenceAndNotEmptyValidator(c, label, key));
+    }
+
+    /**
+     * Determines whether the elements of a collection have distinct keys (compared with equals). Null is valid.
+     *
+     * @param c Collection under test
+     * @param keyFunction A function that returns the key of an element
+     * @param label A string representing what is being tested
+     * @param <T> The type of the elements
+     * @return Validation
+     */
+    public <T> Validation distinctBy(Collection<T> c, Function<? super T, ?> keyFunction, String label) {
+        return isValid(new DistinctValidator<T>(c, keyFunction, label));
+    }
+
+    /**
+     * Determines whether the elements of a collection have distinct keys (compared with equals). Null is valid.
+     *
+     * @param c Collection under test
+     * @param keyFunction A function that returns the key of an element
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @param <T> The type of the elements
+     * @return Validation
+     */
+    public <T> Validation distinctBy(Collection<T> c, Function<? super T, ?> keyFunction, String label, String key) {
+        return isValid(new DistinctValidator<T>(c, keyFunction, label, key));
+    }
+
+    /**
+     * Determines whether the elements of a collection have distinct int keys, without boxing them. Null is valid.
+     *
+     * @param c Collection under test
+     * @param keyFunction A function that returns the key of an element
+     * @param label A string representing what is being tested
+     * @param <T> The type of the elements
+     * @return Validation
+     */
+    public <T> Validation distinctByInt(Collection<T> c, ToIntFunction<? super T> keyFunction, String label) {
+        return isValid(new DistinctIntValidator<T>(c, keyFunction, label));
+    }
+
+    /**
+     * Determines whether the elements of a collection have distinct int keys, without boxing them. Null is valid.
+     *
+     * @param c Collection under test
+     * @param keyFunction A function that returns the key of an element
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @param <T> The type of the elements
+     * @return Validation
+     */
+    public <T> Validation distinctByInt(Collection<T> c, ToIntFunction<? super T> keyFunction, String label, String key) {
+        return isValid(new DistinctIntValidator<T>(c, keyFunction, label, key));
+    }
+
+    /**
+     * Determines whether the elements of a collection have distinct long keys, without boxing them. Null is valid.
+     *
+     * @param c Collection under test
+     * @param keyFunction A function that returns the key of an element
+     * @param label A string representing what is being tested
+     * @param <T> The type of the elements
+     * @return Validation
+     */
+    public <T> Validation distinctByLong(Collection<T> c, ToLongFunction<? super T> keyFunction, String label) {
+        return isValid(new DistinctLongValidator<T>(c, keyFunction, label));
+    }
+
+    /**
+     * Determines whether the elements of a collection have distinct long keys, without boxing them. Null is valid.
+     *
+     * @param c Collection under test
+     * @param keyFunction A function that returns the key of an element
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @param <T> The type of the elements
+     * @return Validation
+     */
+    public <T> Validation distinctByLong(Collection<T> c, ToLongFunction<? super T> keyFunction, String label, String key) {
+        return isValid(new DistinctLongValidator<T>(c, keyFunction, label, key));
+    }
+
+    /**
+     * Determines whether a string is notBlank
+     *
+     * @param s String under test
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation notBlank(CharSequence s, String label) {
+        return isValid(new NotBlankValidator(s, label));
+    }
+
+    /**
+     * Determines whether a string is notBlank
+     *
+     * @param s String under test
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation notBlank(CharSequence s, String label, String key) {
+        return isValid(new NotBlankValidator(s, label, key));
+    }
+
+    /**
+     * Determines whether a value matches a Pattern
+     *
+     * @param s Characters under test
+     * @param pattern A compiled Pattern the whole value has to match
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation matches(CharSequence s, Pattern pattern, String label) {
+        return isValid(new PatternValidator(s, pattern, label));
+    }
+
+    /**
+     * Determines whether a value matches a Pattern
+     *
+     * @param s Characters under test
+     * @param pattern A compiled Pattern the whole value has to match
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation matches(CharSequence s, Pattern pattern, String label, String key) {
+        return isValid(new PatternValidator(s, pattern, label, key));
+    }
+
+    /**
+     * Determines whether a value matches a regular expression
+     *
+     * @param s Characters under test
+     * @param regex A regular expression the whole value has to match, compiled once and cached
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation matches(CharSequence s, String regex, String label) {
+        return isValid(new PatternValidator(s, PatternCache.get(regex), label));
+    }
+
+    /**
+     * Determines whether a value matches a regular expression
+     *
+     * @param s Characters under test
+     * @param regex A regular expression the whole value has to match, compiled once and cached
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation matches(CharSequence s, String regex, String label, String key) {
+        return isValid(new PatternValidator(s, PatternCache.get(regex), label, key));
+    }
+
+    /**
+     * Determines whether a value is an email address
+     *
+     * @param s Characters under test
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation email(CharSequence s, String label) {
+        return isValid(new EmailValidator(s, label));
+    }
+
+    /**
+     * Determines whether a value is an email address
+     *
+     * @param s Characters under test
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation email(CharSequence s, String label, String key) {
+        return isValid(new EmailValidator(s, label, key));
+    }
+
+    /**
+     * Determines whether a value is a UUID
+     *
+     * @param s Characters under test
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation uuid(CharSequence s, String label) {
+        return isValid(new UuidValidator(s, label));
+    }
+
+    /**
+     * Determines whether a value is a UUID
+     *
+     * @param s Characters under test
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation uuid(CharSequence s, String label, String key) {
+        return isValid(new UuidValidator(s, label, key));
+    }
+
+    /**
+     * Determines whether a value is an ISO-8601 date (yyyy-MM-dd)
+     *
+     * @param s Characters under test
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation isoDate(CharSequence s, String label) {
+        return isValid(new IsoDateValidator(s, label));
+    }
+
+    /**
+     * Determines whether a value is an ISO-8601 date (yyyy-MM-dd)
+     *
+     * @param s Characters under test
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation isoDate(CharSequence s, String label, String key) {
+        return isValid(new IsoDateValidator(s, label, key));
+    }
+
+    /**
+     * Determines whether a value only contains digits
+     *
+     * @param s Characters under test
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation digits(CharSequence s, String label) {
+        return isValid(new DigitsValidator(s, label));
+    }
+
+    /**
+     * Determines whether a value only contains digits
+     *
+     * @param s Characters under test
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation digits(CharSequence s, String label, String key) {
+        return isValid(new DigitsValidator(s, label, key));
+    }
+
+    /**
+     * Determines whether a value has at most a maximum number of characters
+     *
+     * @param s Characters under test
+     * @param max The maximum number of characters
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation maxLength(CharSequence s, int max, String label) {
+        return isValid(new MaxLengthValidator(s, max, label));
+    }
+
+    /**
+     * Determines whether a value has at most a maximum number of characters
+     *
+     * @param s Characters under test
+     * @param max The maximum number of characters
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation maxLength(CharSequence s, int max, String label, String key) {
+        return isValid(new MaxLengthValidator(s, max, label, key));
+    }
+
+    /**
+     * Determines whether a value only contains ASCII characters
+     *
+     * @param s Characters under test
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation ascii(CharSequence s, String label) {
+        return isValid(new AsciiValidator(s, label));
+    }
+
+    /**
+     * Determines whether a value only contains ASCII characters
+     *
+     * @param s Characters under test
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation ascii(CharSequence s, String label, String key) {
+        return isValid(new AsciiValidator(s, label, key));
+    }
+
+    /**
+     * Determines whether a value encodes to at most a maximum number of UTF-8 bytes, without encoding it
+     *
+     * @param s Characters under test
+     * @param max The maximum number of bytes
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation maxBytes(CharSequence s, int max, String label) {
+        return isValid(new MaxBytesValidator(s, max, label));
+    }
+
+    /**
+     * Determines whether a value encodes to at most a maximum number of UTF-8 bytes, without encoding it
+     *
+     * @param s Characters under test
+     * @param max The maximum number of bytes
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation maxBytes(CharSequence s, int max, String label, String key) {
+        return isValid(new MaxBytesValidator(s, max, label, key));
+    }
+
+    /**
+     * Determines whether bytes are well-formed UTF-8
+     *
+     * @param bytes UTF-8 bytes under test, between the position and the limit of the buffer
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation utf8(ByteBuffer bytes, String label) {
+        return isValid(new Utf8Validator(bytes, Utf8Check.WELL_FORMED, label));
+    }
+
+    /**
+     * Determines whether bytes are well-formed UTF-8
+     *
+     * @param bytes UTF-8 bytes under test, between the position and the limit of the buffer
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation utf8(ByteBuffer bytes, String label, String key) {
+        return isValid(new Utf8Validator(bytes, Utf8Check.WELL_FORMED, label, key));
+    }
+
+    /**
+     * Determines whether bytes are well-formed UTF-8
+     *
+     * @param bytes UTF-8 bytes under test
+     * @param offset The index of the first byte under test
+     * @param length The number of bytes under test
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation utf8(byte[] bytes, int offset, int length, String label) {
+        return isValid(new Utf8Validator(wrap(bytes, offset, length), Utf8Check.WELL_FORMED, label));
+    }
+
+    /**
+     * Determines whether bytes are well-formed UTF-8
+     *
+     * @param bytes UTF-8 bytes under test
+     * @param offset The index of the first byte under test
+     * @param length The number of bytes under test
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation utf8(byte[] bytes, int offset, int length, String label, String key) {
+        return isValid(new Utf8Validator(wrap(bytes, offset, length), Utf8Check.WELL_FORMED, label, key));
+    }
+
+    /**
+     * Determines whether UTF-8 bytes are not blank, without decoding them
+     *
+     * @param bytes UTF-8 bytes under test, between the position and the limit of the buffer
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation notBlankUtf8(ByteBuffer bytes, String label) {
+        return isValid(new Utf8Validator(bytes, Utf8Check.NOT_BLANK, label));
+    }
+
+    /**
+     * Determines whether UTF-8 bytes are not blank, without decoding them
+     *
+     * @param bytes UTF-8 bytes under test, between the position and the limit of the buffer
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation notBlankUtf8(ByteBuffer bytes, String label, String key) {
+        return isValid(new Utf8Validator(bytes, Utf8Check.NOT_BLANK, label, key));
+    }
+
+    /**
+     * Determines whether UTF-8 bytes are not blank, without decoding them
+     *
+     * @param bytes UTF-8 bytes under test
+     * @param offset The index of the first byte under test
+     * @param length The number of bytes under test
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation notBlankUtf8(byte[] bytes, int offset, int length, String label) {
+        return isValid(new Utf8Validator(wrap(bytes, offset, length), Utf8Check.NOT_BLANK, label));
+    }
+
+    /**
+     * Determines whether UTF-8 bytes are not blank, without decoding them
+     *
+     * @param bytes UTF-8 bytes under test
+     * @param offset The index of the first byte under test
+     * @param length The number of bytes under test
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation notBlankUtf8(byte[] bytes, int offset, int length, String label, String key) {
+        return isValid(new Utf8Validator(wrap(bytes, offset, length), Utf8Check.NOT_BLANK, label, key));
+    }
+
+    /**
+     * Determines whether UTF-8 bytes only contain ASCII characters
+     *
+     * @param bytes UTF-8 bytes under test, between the position and the limit of the buffer
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation asciiUtf8(ByteBuffer bytes, String label) {
+        return isValid(new Utf8Validator(bytes, Utf8Check.ASCII, label));
+    }
+
+    /**
+     * Determines whether UTF-8 bytes only contain ASCII characters
+     *
+     * @param bytes UTF-8 bytes under test, between the position and the limit of the buffer
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation asciiUtf8(ByteBuffer bytes, String label, String key) {
+        return isValid(new Utf8Validator(bytes, Utf8Check.ASCII, label, key));
+    }
+
+    /**
+     * Determines whether UTF-8 bytes only contain ASCII characters
+     *
+     * @param bytes UTF-8 bytes under test
+     * @param offset The index of the first byte under test
+     * @param length The number of bytes under test
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation asciiUtf8(byte[] bytes, int offset, int length, String label) {
+        return isValid(new Utf8Validator(wrap(bytes, offset, length), Utf8Check.ASCII, label));
+    }
+
+    /**
+     * Determines whether UTF-8 bytes only contain ASCII characters
+     *
+     * @param bytes UTF-8 bytes under test
+     * @param offset The index of the first byte under test
+     * @param length The number of bytes under test
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation asciiUtf8(byte[] bytes, int offset, int length, String label, String key) {
+        return isValid(new Utf8Validator(wrap(bytes, offset, length), Utf8Check.ASCII, label, key));
+    }
+
+    /**
+     * Determines whether UTF-8 bytes only contain digits, without decoding them
+     *
+     * @param bytes UTF-8 bytes under test, between the position and the limit of the buffer
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation digitsUtf8(ByteBuffer bytes, String label) {
+        return isValid(new Utf8Validator(bytes, Utf8Check.DIGITS, label));
+    }
+
+    /**
+     * Determines whether UTF-8 bytes only contain digits, without decoding them
+     *
+     * @param bytes UTF-8 bytes under test, between the position and the limit of the buffer
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation digitsUtf8(ByteBuffer bytes, String label, String key) {
+        return isValid(new Utf8Validator(bytes, Utf8Check.DIGITS, label, key));
+    }
+
+    /**
+     * Determines whether UTF-8 bytes only contain digits, without decoding them
+     *
+     * @param bytes UTF-8 bytes under test
+     * @param offset The index of the first byte under test
+     * @param length The number of bytes under test
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation digitsUtf8(byte[] bytes, int offset, int length, String label) {
+        return isValid(new Utf8Validator(wrap(bytes, offset, length), Utf8Check.DIGITS, label));
+    }
+
+    /**
+     * Determines whether UTF-8 bytes only contain digits, without decoding them
+     *
+     * @param bytes UTF-8 bytes under test
+     * @param offset The index of the first byte under test
+     * @param length The number of bytes under test
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation digitsUtf8(byte[] bytes, int offset, int length, String label, String key) {
+        return isValid(new Utf8Validator(wrap(bytes, offset, length), Utf8Check.DIGITS, label, key));
+    }
+
+    /**
+     * Determines whether UTF-8 bytes decode to at most a maximum number of characters (UTF-16 code units), without decoding them. Null is valid.
+     *
+     * @param bytes UTF-8 bytes under test, between the position and the limit of the buffer
+     * @param max The maximum number of characters
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation maxLengthUtf8(ByteBuffer bytes, int max, String label) {
+        return isValid(new Utf8Validator(bytes, Utf8Check.MAX_LENGTH, max, label));
+    }
+
+    /**
+     * Determines whether UTF-8 bytes decode to at most a maximum number of characters (UTF-16 code units), without decoding them. Null is valid.
+     *
+     * @param bytes UTF-8 bytes under test, between the position and the limit of the buffer
+     * @param max The maximum number of characters
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation maxLengthUtf8(ByteBuffer bytes, int max, String label, String key) {
+        return isValid(new Utf8Validator(bytes, Utf8Check.MAX_LENGTH, max, label, key));
+    }
+
+    /**
+     * Determines whether UTF-8 bytes decode to at most a maximum number of characters (UTF-16 code units), without decoding them. Null is valid.
+     *
+     * @param bytes UTF-8 bytes under test
+     * @param offset The index of the first byte under test
+     * @param length The number of bytes under test
+     * @param max The maximum number of characters
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation maxLengthUtf8(byte[] bytes, int offset, int length, int max, String label) {
+        return isValid(new Utf8Validator(wrap(bytes, offset, length), Utf8Check.MAX_LENGTH, max, label));
+    }
+
+    /**
+     * Determines whether UTF-8 bytes decode to at most a maximum number of characters (UTF-16 code units), without decoding them. Null is valid.
+     *
+     * @param bytes UTF-8 bytes under test
+     * @param offset The index of the first byte under test
+     * @param length The number of bytes under test
+     * @param max The maximum number of characters
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation maxLengthUtf8(byte[] bytes, int offset, int length, int max, String label, String key) {
+        return isValid(new Utf8Validator(wrap(bytes, offset, length), Utf8Check.MAX_LENGTH, max, label, key));
+    }
+
+    /**
+     * Determines whether UTF-8 bytes are well-formed and at most a maximum number of bytes. Null is valid.
+     *
+     * @param bytes UTF-8 bytes under test, between the position and the limit of the buffer
+     * @param max The maximum number of bytes
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation maxBytesUtf8(ByteBuffer bytes, int max, String label) {
+        return isValid(new Utf8Validator(bytes, Utf8Check.MAX_BYTES, max, label));
+    }
+
+    /**
+     * Determines whether UTF-8 bytes are well-formed and at most a maximum number of bytes. Null is valid.
+     *
+     * @param bytes UTF-8 bytes under test, between the position and the limit of the buffer
+     * @param max The maximum number of bytes
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation maxBytesUtf8(ByteBuffer bytes, int max, String label, String key) {
+        return isValid(new Utf8Validator(bytes, Utf8Check.MAX_BYTES, max, label, key));
+    }
+
+    /**
+     * Determines whether UTF-8 bytes are well-formed and at most a maximum number of bytes. Null is valid.
+     *
+     * @param bytes UTF-8 bytes under test
+     * @param offset The index of the first byte under test
+     * @param length The number of bytes under test
+     * @param max The maximum number of bytes
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation maxBytesUtf8(byte[] bytes, int offset, int length, int max, String label) {
+        return isValid(new Utf8Validator(wrap(bytes, offset, length), Utf8Check.MAX_BYTES, max, label));
+    }
+
+    /**
+     * Determines whether UTF-8 bytes are well-formed and at most a maximum number of bytes. Null is valid.
+     *
+     * @param bytes UTF-8 bytes under test
+     * @param offset The index of the first byte under test
+     * @param length The number of bytes under test
+     * @param max The maximum number of bytes
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation maxBytesUtf8(byte[] bytes, int offset, int length, int max, String label, String key) {
+        return isValid(new Utf8Validator(wrap(bytes, offset, length), Utf8Check.MAX_BYTES, max, label, key));
+    }
+
+    /**
+     * @return ByteBuffer over the range of the array, without copying it, or null
+     */
+    private static ByteBuffer wrap(byte[] bytes, int offset, int length) {
+        return bytes == null ? null : ByteBuffer.wrap(bytes, offset, length);
+    }
+
+    /**
+     * Determines whether a value is greater than a minimum value
+     *
+     * @param c The comparable object under test
+     * @param min The minimum value the object under test has to be
+     * @param label A string representing what is being tested
+     * @param <T> The type of the comparable object
+     * @return Validation
+     */
+    public <T> Validation greaterThan(Comparable<T> c, T min, String label) {
+        return isValid(new GreaterThanValidator<T>(c, min, label));
+    }
+
+    /**
+     * Determines whether a value is greater than a minimum value
+     *
+     * @param c The comparable object under test
+     * @param min The minimum value the object under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @param <T> The type of the comparable object
+     * @return Validation
+     */
+    public <T> Validation greaterThan(Comparable<T> c, T min, String label, String key) {
+        return isValid(new GreaterThanValidator<T>(c, min, label, key));
+    }
+
+    /**
+     * Determines whether a value is greater than or equal to a minimum value
+     *
+     * @param c The comparable object under test
+     * @param min The minimum value the object under test has to be
+     * @param label A string representing what is being tested
+     * @param <T> The type of the comparable object
+     * @return Validation
+     */
+    public <T> Validation greaterThanOrEqualTo(Comparable<T> c, T min, String label) {
+        return isValid(new GreaterThanOrEqualToValidator<T>(c, min, label));
+    }
+
+    /**
+     * Determines whether a value is greater than or equal to a minimum value
+     *
+     * @param c The comparable object under test
+     * @param min The minimum value the object under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @param <T> The type of the comparable object
+     * @return Validation
+     */
+    public <T> Validation greaterThanOrEqualTo(Comparable<T> c, T min, String label, String key) {
+        return isValid(new GreaterThanOrEqualToValidator<T>(c, min, label, key));
+    }
+
+    /**
+     * Determines whether a value is less than a minimum value
+     *
+     * @param c The comparable object under test
+     * @param max The maximum value the object under test has to be
+     * @param label A string representing what is being tested
+     * @param <T> The type of the comparable object
+     * @return Validation
+     */
+    public <T> Validation lessThan(Comparable<T> c, T max, String label) {
+        return isValid(new LessThanValidator<T>(c, max, label));
+    }
+
+    /**
+     * Determines whether a value is less than a minimum value
+     *
+     * @param c The comparable object under test
+     * @param max The maximum value the object under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @param <T> The type of the comparable object
+     * @return Validation
+     */
+    public <T> Validation lessThan(Comparable<T> c, T max, String label, String key) {
+        return isValid(new LessThanValidator<T>(c, max, label, key));
+    }
+
+    /**
+     * Determines whether a value is less than a minimum value
+     *
+     * @param c The comparable object under test
+     * @param max The maximum value the object under test has to be
+     * @param label A string representing what is being tested
+     * @param <T> The type of the comparable object
+     * @return Validation
+     */
+    public <T> Validation lessThanOrEqualTo(Comparable<T> c, T max, String label) {
+        return isValid(new LessThanOrEqualToValidator<T>(c, max, label));
+    }
+
+    /**
+     * Determines whether a value is less than a minimum value
+     *
+     * @param c The comparable object under test
+     * @param max The maximum value the object under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @param <T> The type of the comparable object
+     * @return Validation
+     */
+    public <T> Validation lessThanOrEqualTo(Comparable<T> c, T max, String label, String key) {
+        return isValid(new LessThanOrEqualToValidator<T>(c, max, label, key));
+    }
+
+    /**
+     * Determines whether a value is greater than a minimum value, without boxing
+     *
+     * @param c The value under test
+     * @param min The minimum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation greaterThan(int c, int min, String label) {
+        return isValid(new IntComparisonValidator(c, Comparison.GREATER_THAN, min, label));
+    }
+
+    /**
+     * Determines whether a value is greater than a minimum value, without boxing
+     *
+     * @param c The value under test
+     * @param min The minimum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation greaterThan(int c, int min, String label, String key) {
+        return isValid(new IntComparisonValidator(c, Comparison.GREATER_THAN, min, label, key));
+    }
+
+    /**
+     * Determines whether a value is greater than a minimum value, without boxing
+     *
+     * @param c The value under test
+     * @param min The minimum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation greaterThan(long c, long min, String label) {
+        return isValid(new LongComparisonValidator(c, Comparison.GREATER_THAN, min, label));
+    }
+
+    /**
+     * Determines whether a value is greater than a minimum value, without boxing
+     *
+     * @param c The value under test
+     * @param min The minimum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation greaterThan(long c, long min, String label, String key) {
+        return isValid(new LongComparisonValidator(c, Comparison.GREATER_THAN, min, label, key));
+    }
+
+    /**
+     * Determines whether a value is greater than a minimum value, without boxing
+     *
+     * @param c The value under test
+     * @param min The minimum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation greaterThan(double c, double min, String label) {
+        return isValid(new DoubleComparisonValidator(c, Comparison.GREATER_THAN, min, label));
+    }
+
+    /**
+     * Determines whether a value is greater than a minimum value, without boxing
+     *
+     * @param c The value under test
+     * @param min The minimum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation greaterThan(double c, double min, String label, String key) {
+        return isValid(new DoubleComparisonValidator(c, Comparison.GREATER_THAN, min, label, key));
+    }
+
+    /**
+     * Determines whether a boxed value is greater than a primitive minimum value, keeps calls such as
+     * greaterThan(someInteger, 0, label) resolving to a single method. A null value is tested when validating,
+     * as by the Comparable overloads.
+     *
+     * @param c The value under test
+     * @param min The minimum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation greaterThan(Integer c, int min, String label) {
+        return c == null ? isValid(new GreaterThanValidator<Integer>(c, min, label)) : greaterThan((int) c, min, label);
+    }
+
+    /**
+     * Determines whether a boxed value is greater than a primitive minimum value, keeps calls such as
+     * greaterThan(someInteger, 0, label) resolving to a single method. A null value is tested when validating,
+     * as by the Comparable overloads.
+     *
+     * @param c The value under test
+     * @param min The minimum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation greaterThan(Integer c, int min, String label, String key) {
+        return c == null ? isValid(new GreaterThanValidator<Integer>(c, min, label, key)) : greaterThan((int) c, min, label, key);
+    }
+
+    /**
+     * Determines whether a boxed value is greater than a primitive minimum value, keeps calls such as
+     * greaterThan(someInteger, 0, label) resolving to a single method. A null value is tested when validating,
+     * as by the Comparable overloads.
+     *
+     * @param c The value under test
+     * @param min The minimum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation greaterThan(Long c, long min, String label) {
+        return c == null ? isValid(new GreaterThanValidator<Long>(c, min, label)) : greaterThan((long) c, min, label);
+    }
+
+    /**
+     * Determines whether a boxed value is greater than a primitive minimum value, keeps calls such as
+     * greaterThan(someInteger, 0, label) resolving to a single method. A null value is tested when validating,
+     * as by the Comparable overloads.
+     *
+     * @param c The value under test
+     * @param min The minimum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation greaterThan(Long c, long min, String label, String key) {
+        return c == null ? isValid(new GreaterThanValidator<Long>(c, min, label, key)) : greaterThan((long) c, min, label, key);
+    }
+
+    /**
+     * Determines whether a boxed value is greater than a primitive minimum value, keeps calls such as
+     * greaterThan(someInteger, 0, label) resolving to a single method. A null value is tested when validating,
+     * as by the Comparable overloads.
+     *
+     * @param c The value under test
+     * @param min The minimum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation greaterThan(Double c, double min, String label) {
+        return c == null ? isValid(new GreaterThanValidator<Double>(c, min, label)) : greaterThan((double) c, min, label);
+    }
+
+    /**
+     * Determines whether a boxed value is greater than a primitive minimum value, keeps calls such as
+     * greaterThan(someInteger, 0, label) resolving to a single method. A null value is tested when validating,
+     * as by the Comparable overloads.
+     *
+     * @param c The value under test
+     * @param min The minimum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation greaterThan(Double c, double min, String label, String key) {
+        return c == null ? isValid(new GreaterThanValidator<Double>(c, min, label, key)) : greaterThan((double) c, min, label, key);
+    }
+
+    /**
+     * Determines whether a value is greater than or equal to a minimum value, without boxing
+     *
+     * @param c The value under test
+     * @param min The minimum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation greaterThanOrEqualTo(int c, int min, String label) {
+        return isValid(new IntComparisonValidator(c, Comparison.GREATER_THAN_OR_EQUAL_TO, min, label));
+    }
+
+    /**
+     * Determines whether a value is greater than or equal to a minimum value, without boxing
+     *
+     * @param c The value under test
+     * @param min The minimum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation greaterThanOrEqualTo(int c, int min, String label, String key) {
+        return isValid(new IntComparisonValidator(c, Comparison.GREATER_THAN_OR_EQUAL_TO, min, label, key));
+    }
+
+    /**
+     * Determines whether a value is greater than or equal to a minimum value, without boxing
+     *
+     * @param c The value under test
+     * @param min The minimum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation greaterThanOrEqualTo(long c, long min, String label) {
+        return isValid(new LongComparisonValidator(c, Comparison.GREATER_THAN_OR_EQUAL_TO, min, label));
+    }
+
+    /**
+     * Determines whether a value is greater than or equal to a minimum value, without boxing
+     *
+     * @param c The value under test
+     * @param min The minimum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation greaterThanOrEqualTo(long c, long min, String label, String key) {
+        return isValid(new LongComparisonValidator(c, Comparison.GREATER_THAN_OR_EQUAL_TO, min, label, key));
+    }
+
+    /**
+     * Determines whether a value is greater than or equal to a minimum value, without boxing
+     *
+     * @param c The value under test
+     * @param min The minimum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation greaterThanOrEqualTo(double c, double min, String label) {
+        return isValid(new DoubleComparisonValidator(c, Comparison.GREATER_THAN_OR_EQUAL_TO, min, label));
+    }
+
+    /**
+     * Determines whether a value is greater than or equal to a minimum value, without boxing
+     *
+     * @param c The value under test
+     * @param min The minimum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation greaterThanOrEqualTo(double c, double min, String label, String key) {
+        return isValid(new DoubleComparisonValidator(c, Comparison.GREATER_THAN_OR_EQUAL_TO, min, label, key));
+    }
+
+    /**
+     * Determines whether a boxed value is greater than or equal to a primitive minimum value, keeps calls such as
+     * greaterThanOrEqualTo(someInteger, 0, label) resolving to a single method. A null value is tested when validating,
+     * as by the Comparable overloads.
+     *
+     * @param c The value under test
+     * @param min The minimum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation greaterThanOrEqualTo(Integer c, int min, String label) {
+        return c == null ? isValid(new GreaterThanOrEqualToValidator<Integer>(c, min, label)) : greaterThanOrEqualTo((int) c, min, label);
+    }
+
+    /**
+     * Determines whether a boxed value is greater than or equal to a primitive minimum value, keeps calls such as
+     * greaterThanOrEqualTo(someInteger, 0, label) resolving to a single method. A null value is tested when validating,
+     * as by the Comparable overloads.
+     *
+     * @param c The value under test
+     * @param min The minimum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation greaterThanOrEqualTo(Integer c, int min, String label, String key) {
+        return c == null ? isValid(new GreaterThanOrEqualToValidator<Integer>(c, min, label, key)) : greaterThanOrEqualTo((int) c, min, label, key);
+    }
+
+    /**
+     * Determines whether a boxed value is greater than or equal to a primitive minimum value, keeps calls such as
+     * greaterThanOrEqualTo(someInteger, 0, label) resolving to a single method. A null value is tested when validating,
+     * as by the Comparable overloads.
+     *
+     * @param c The value under test
+     * @param min The minimum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation greaterThanOrEqualTo(Long c, long min, String label) {
+        return c == null ? isValid(new GreaterThanOrEqualToValidator<Long>(c, min, label)) : greaterThanOrEqualTo((long) c, min, label);
+    }
+
+    /**
+     * Determines whether a boxed value is greater than or equal to a primitive minimum value, keeps calls such as
+     * greaterThanOrEqualTo(someInteger, 0, label) resolving to a single method. A null value is tested when validating,
+     * as by the Comparable overloads.
+     *
+     * @param c The value under test
+     * @param min The minimum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation greaterThanOrEqualTo(Long c, long min, String label, String key) {
+        return c == null ? isValid(new GreaterThanOrEqualToValidator<Long>(c, min, label, key)) : greaterThanOrEqualTo((long) c, min, label, key);
+    }
+
+    /**
+     * Determines whether a boxed value is greater than or equal to a primitive minimum value, keeps calls such as
+     * greaterThanOrEqualTo(someInteger, 0, label) resolving to a single method. A null value is tested when validating,
+     * as by the Comparable overloads.
+     *
+     * @param c The value under test
+     * @param min The minimum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation greaterThanOrEqualTo(Double c, double min, String label) {
+        return c == null ? isValid(new GreaterThanOrEqualToValidator<Double>(c, min, label)) : greaterThanOrEqualTo((double) c, min, label);
+    }
+
+    /**
+     * Determines whether a boxed value is greater than or equal to a primitive minimum value, keeps calls such as
+     * greaterThanOrEqualTo(someInteger, 0, label) resolving to a single method. A null value is tested when validating,
+     * as by the Comparable overloads.
+     *
+     * @param c The value under test
+     * @param min The minimum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation greaterThanOrEqualTo(Double c, double min, String label, String key) {
+        return c == null ? isValid(new GreaterThanOrEqualToValidator<Double>(c, min, label, key)) : greaterThanOrEqualTo((double) c, min, label, key);
+    }
+
+    /**
+     * Determines whether a value is less than a maximum value, without boxing
+     *
+     * @param c The value under test
+     * @param max The maximum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation lessThan(int c, int max, String label) {
+        return isValid(new IntComparisonValidator(c, Comparison.LESS_THAN, max, label));
+    }
+
+    /**
+     * Determines whether a value is less than a maximum value, without boxing
+     *
+     * @param c The value under test
+     * @param max The maximum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation lessThan(int c, int max, String label, String key) {
+        return isValid(new IntComparisonValidator(c, Comparison.LESS_THAN, max, label, key));
+    }
+
+    /**
+     * Determines whether a value is less than a maximum value, without boxing
+     *
+     * @param c The value under test
+     * @param max The maximum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation lessThan(long c, long max, String label) {
+        return isValid(new LongComparisonValidator(c, Comparison.LESS_THAN, max, label));
+    }
+
+    /**
+     * Determines whether a value is less than a maximum value, without boxing
+     *
+     * @param c The value under test
+     * @param max The maximum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation lessThan(long c, long max, String label, String key) {
+        return isValid(new LongComparisonValidator(c, Comparison.LESS_THAN, max, label, key));
+    }
+
+    /**
+     * Determines whether a value is less than a maximum value, without boxing
+     *
+     * @param c The value under test
+     * @param max The maximum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation lessThan(double c, double max, String label) {
+        return isValid(new DoubleComparisonValidator(c, Comparison.LESS_THAN, max, label));
+    }
+
+    /**
+     * Determines whether a value is less than a maximum value, without boxing
+     *
+     * @param c The value under test
+     * @param max The maximum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation lessThan(double c, double max, String label, String key) {
+        return isValid(new DoubleComparisonValidator(c, Comparison.LESS_THAN, max, label, key));
+    }
+
+    /**
+     * Determines whether a boxed value is less than a primitive maximum value, keeps calls such as
+     * lessThan(someInteger, 0, label) resolving to a single method. A null value is tested when validating,
+     * as by the Comparable overloads.
+     *
+     * @param c The value under test
+     * @param max The maximum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation lessThan(Integer c, int max, String label) {
+        return c == null ? isValid(new LessThanValidator<Integer>(c, max, label)) : lessThan((int) c, max, label);
+    }
+
+    /**
+     * Determines whether a boxed value is less than a primitive maximum value, keeps calls such as
+     * lessThan(someInteger, 0, label) resolving to a single method. A null value is tested when validating,
+     * as by the Comparable overloads.
+     *
+     * @param c The value under test
+     * @param max The maximum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation lessThan(Integer c, int max, String label, String key) {
+        return c == null ? isValid(new LessThanValidator<Integer>(c, max, label, key)) : lessThan((int) c, max, label, key);
+    }
+
+    /**
+     * Determines whether a boxed value is less than a primitive maximum value, keeps calls such as
+     * lessThan(someInteger, 0, label) resolving to a single method. A null value is tested when validating,
+     * as by the Comparable overloads.
+     *
+     * @param c The value under test
+     * @param max The maximum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation lessThan(Long c, long max, String label) {
+        return c == null ? isValid(new LessThanValidator<Long>(c, max, label)) : lessThan((long) c, max, label);
+    }
+
+    /**
+     * Determines whether a boxed value is less than a primitive maximum value, keeps calls such as
+     * lessThan(someInteger, 0, label) resolving to a single method. A null value is tested when validating,
+     * as by the Comparable overloads.
+     *
+     * @param c The value under test
+     * @param max The maximum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation lessThan(Long c, long max, String label, String key) {
+        return c == null ? isValid(new LessThanValidator<Long>(c, max, label, key)) : lessThan((long) c, max, label, key);
+    }
+
+    /**
+     * Determines whether a boxed value is less than a primitive maximum value, keeps calls such as
+     * lessThan(someInteger, 0, label) resolving to a single method. A null value is tested when validating,
+     * as by the Comparable overloads.
+     *
+     * @param c The value under test
+     * @param max The maximum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation lessThan(Double c, double max, String label) {
+        return c == null ? isValid(new LessThanValidator<Double>(c, max, label)) : lessThan((double) c, max, label);
+    }
+
+    /**
+     * Determines whether a boxed value is less than a primitive maximum value, keeps calls such as
+     * lessThan(someInteger, 0, label) resolving to a single method. A null value is tested when validating,
+     * as by the Comparable overloads.
+     *
+     * @param c The value under test
+     * @param max The maximum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation lessThan(Double c, double max, String label, String key) {
+        return c == null ? isValid(new LessThanValidator<Double>(c, max, label, key)) : lessThan((double) c, max, label, key);
+    }
+
+    /**
+     * Determines whether a value is less than or equal to a maximum value, without boxing
+     *
+     * @param c The value under test
+     * @param max The maximum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation lessThanOrEqualTo(int c, int max, String label) {
+        return isValid(new IntComparisonValidator(c, Comparison.LESS_THAN_OR_EQUAL_TO, max, label));
+    }
+
+    /**
+     * Determines whether a value is less than or equal to a maximum value, without boxing
+     *
+     * @param c The value under test
+     * @param max The maximum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation lessThanOrEqualTo(int c, int max, String label, String key) {
+        return isValid(new IntComparisonValidator(c, Comparison.LESS_THAN_OR_EQUAL_TO, max, label, key));
+    }
+
+    /**
+     * Determines whether a value is less than or equal to a maximum value, without boxing
+     *
+     * @param c The value under test
+     * @param max The maximum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation lessThanOrEqualTo(long c, long max, String label) {
+        return isValid(new LongComparisonValidator(c, Comparison.LESS_THAN_OR_EQUAL_TO, max, label));
+    }
+
+    /**
+     * Determines whether a value is less than or equal to a maximum value, without boxing
+     *
+     * @param c The value under test
+     * @param max The maximum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation lessThanOrEqualTo(long c, long max, String label, String key) {
+        return isValid(new LongComparisonValidator(c, Comparison.LESS_THAN_OR_EQUAL_TO, max, label, key));
+    }
+
+    /**
+     * Determines whether a value is less than or equal to a maximum value, without boxing
+     *
+     * @param c The value under test
+     * @param max The maximum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation lessThanOrEqualTo(double c, double max, String label) {
+        return isValid(new DoubleComparisonValidator(c, Comparison.LESS_THAN_OR_EQUAL_TO, max, label));
+    }
+
+    /**
+     * Determines whether a value is less than or equal to a maximum value, without boxing
+     *
+     * @param c The value under test
+     * @param max The maximum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation lessThanOrEqualTo(double c, double max, String label, String key) {
+        return isValid(new DoubleComparisonValidator(c, Comparison.LESS_THAN_OR_EQUAL_TO, max, label, key));
+    }
+
+    /**
+     * Determines whether a boxed value is less than or equal to a primitive maximum value, keeps calls such as
+     * lessThanOrEqualTo(someInteger, 0, label) resolving to a single method. A null value is tested when validating,
+     * as by the Comparable overloads.
+     *
+     * @param c The value under test
+     * @param max The maximum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation lessThanOrEqualTo(Integer c, int max, String label) {
+        return c == null ? isValid(new LessThanOrEqualToValidator<Integer>(c, max, label)) : lessThanOrEqualTo((int) c, max, label);
+    }
+
+    /**
+     * Determines whether a boxed value is less than or equal to a primitive maximum value, keeps calls such as
+     * lessThanOrEqualTo(someInteger, 0, label) resolving to a single method. A null value is tested when validating,
+     * as by the Comparable overloads.
+     *
+     * @param c The value under test
+     * @param max The maximum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation lessThanOrEqualTo(Integer c, int max, String label, String key) {
+        return c == null ? isValid(new LessThanOrEqualToValidator<Integer>(c, max, label, key)) : lessThanOrEqualTo((int) c, max, label, key);
+    }
+
+    /**
+     * Determines whether a boxed value is less than or equal to a primitive maximum value, keeps calls such as
+     * lessThanOrEqualTo(someInteger, 0, label) resolving to a single method. A null value is tested when validating,
+     * as by the Comparable overloads.
+     *
+     * @param c The value under test
+     * @param max The maximum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation lessThanOrEqualTo(Long c, long max, String label) {
+        return c == null ? isValid(new LessThanOrEqualToValidator<Long>(c, max, label)) : lessThanOrEqualTo((long) c, max, label);
+    }
+
+    /**
+     * Determines whether a boxed value is less than or equal to a primitive maximum value, keeps calls such as
+     * lessThanOrEqualTo(someInteger, 0, label) resolving to a single method. A null value is tested when validating,
+     * as by the Comparable overloads.
+     *
+     * @param c The value under test
+     * @param max The maximum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation lessThanOrEqualTo(Long c, long max, String label, String key) {
+        return c == null ? isValid(new LessThanOrEqualToValidator<Long>(c, max, label, key)) : lessThanOrEqualTo((long) c, max, label, key);
+    }
+
+    /**
+     * Determines whether a boxed value is less than or equal to a primitive maximum value, keeps calls such as
+     * lessThanOrEqualTo(someInteger, 0, label) resolving to a single method. A null value is tested when validating,
+     * as by the Comparable overloads.
+     *
+     * @param c The value under test
+     * @param max The maximum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation lessThanOrEqualTo(Double c, double max, String label) {
+        return c == null ? isValid(new LessThanOrEqualToValidator<Double>(c, max, label)) : lessThanOrEqualTo((double) c, max, label);
+    }
+
+    /**
+     * Determines whether a boxed value is less than or equal to a primitive maximum value, keeps calls such as
+     * lessThanOrEqualTo(someInteger, 0, label) resolving to a single method. A null value is tested when validating,
+     * as by the Comparable overloads.
+     *
+     * @param c The value under test
+     * @param max The maximum value the value under test has to be
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation lessThanOrEqualTo(Double c, double max, String label, String key) {
+        return c == null ? isValid(new LessThanOrEqualToValidator<Double>(c, max, label, key)) : lessThanOrEqualTo((double) c, max, label, key);
+    }
+
+    /**
+     * Determines whether a value is between a minimum and a maximum value, both inclusive, without boxing
+     *
+     * @param c The value under test
+     * @param min The minimum value
+     * @param max The maximum value
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation between(int c, int min, int max, String label) {
+        return isValid(new IntRangeValidator(c, min, max, true, label));
+    }
+
+    /**
+     * Determines whether a value is between a minimum and a maximum value, both inclusive, without boxing
+     *
+     * @param c The value under test
+     * @param min The minimum value
+     * @param max The maximum value
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation between(int c, int min, int max, String label, String key) {
+        return isValid(new IntRangeValidator(c, min, max, true, label, key));
+    }
+
+    /**
+     * Determines whether a value is between a minimum and a maximum value, both inclusive, without boxing
+     *
+     * @param c The value under test
+     * @param min The minimum value
+     * @param max The maximum value
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation between(long c, long min, long max, String label) {
+        return isValid(new LongRangeValidator(c, min, max, true, label));
+    }
+
+    /**
+     * Determines whether a value is between a minimum and a maximum value, both inclusive, without boxing
+     *
+     * @param c The value under test
+     * @param min The minimum value
+     * @param max The maximum value
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation between(long c, long min, long max, String label, String key) {
+        return isValid(new LongRangeValidator(c, min, max, true, label, key));
+    }
+
+    /**
+     * Determines whether a value is between a minimum and a maximum value, both inclusive, without boxing
+     *
+     * @param c The value under test
+     * @param min The minimum value
+     * @param max The maximum value
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation between(double c, double min, double max, String label) {
+        return isValid(new DoubleRangeValidator(c, min, max, true, label));
+    }
+
+    /**
+     * Determines whether a value is between a minimum and a maximum value, both inclusive, without boxing
+     *
+     * @param c The value under test
+     * @param min The minimum value
+     * @param max The maximum value
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
+     * @return Validation
+     */
+    public Validation between(double c, double min, double max, String label, String key) {
+        return isValid(new DoubleRangeValidator(c, min, max, true, label, key));
+    }
+
+    /**
+     * Determines whether a value is at least a minimum value and less than a maximum value, without boxing
+     *
+     * @param c The value under test
+     * @param min The minimum value
+     * @param max The maximum value
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation inRange(int c, int min, int max, String label) {
+        return isValid(new IntRangeValidator(c, min, max, false, label));
+    }
+
+    /**
+     * Determines whether a value is at least a minimum value and less than a maximum value, without boxing
      *
-     * @param otherValidation Validation
+     * @param c The value under test
+     * @param min The minimum value
+     * @param max The maximum value
+     * @param label A string representing what is being tested
+     * @param key A string representing a specific message key
      * @return Validation
      */
-    public Validation merge(Validation otherValidation) {
-        require(otherValidation, "otherValidation required");
+    public Validation inRange(int c, int min, int max, String label, String key) {
+        return isValid(new IntRangeValidator(c, min, max, false, label, key));
+    }
 
-        context.addNestedContext(otherValidation.getContext());
-        return this;
+    /**
+     * Determines whether a value is at least a minimum value and less than a maximum value, without boxing
+     *
+     * @param c The value under test
+     * @param min The minimum value
+     * @param max The maximum value
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation inRange(long c, long min, long max, String label) {
+        return isValid(new LongRangeValidator(c, min, max, false, label));
     }
 
     /**
-     * Determines whether an object is present or not
+     * Determines whether a value is at least a minimum value and less than a maximum value, without boxing
      *
-     * @param object Object under test
+     * @param c The value under test
+     * @param min The minimum value
+     * @param max The maximum value
      * @param label A string representing what is being tested
-     * @param <T> The type of the object under test
+     * @param key A string representing a specific message key
      * @return Validation
      */
-    public <T> Validation presence(T object, String label) {
-        return isValid(new PresenceValidator<T>(object, label));
+    public Validation inRange(long c, long min, long max, String label, String key) {
+        return isValid(new LongRangeValidator(c, min, max, false, label, key));
     }
 
     /**
-     * Determines whether an object is present or not
+     * Determines whether a value is at least a minimum value and less than a maximum value, without boxing
      *
-     * @param object Object under test
+     * @param c The value under test
+     * @param min The minimum value
+     * @param max The maximum value
+     * @param label A string representing what is being tested
+     * @return Validation
+     */
+    public Validation inRange(double c, double min, double max, String label) {
+        return isValid(new DoubleRangeValidator(c, min, max, false, label));
+    }
+
+    /**
+     * Determines whether a value is at least a minimum value and less than a maximum value, without boxing
+     *
+     * @param c The value under test
+     * @param min The minimum value
+     * @param max The maximum value
      * @param label A string representing what is being tested
      * @param key A string representing a specific message key
-     * @param <T> The type of the object under test
      * @return Validation
      */
-    public <T> Validation presence(T object, String label, String key) {
-        return isValid(new PresenceValidator<T>(object, label, key));
+    public Validation inRange(double c, double min, double max, String label, String key) {
+        return isValid(new DoubleRangeValidator(c, min, max, false, label, key));
     }
 
     /**
-     * Determines whether a collection is present or not and has items
+     * Determines whether a value is one of the values of a prebuilt set
      *
-     * @param c The collection under test
+     * @param value Value under test
+     * @param set IntSet, built once and shared
      * @param label A string representing what is being tested
      * @return Validation
      */
-    public Validation presenceAndNotEmpty(Collection c, String label) {
-        return isValid(new PresenceAndNotEmptyValidator(c, label));
+    public Validation oneOf(int value, IntSet set, String label) {
+        return isValid(new IntMembershipValidator(value, Membership.ONE_OF, set, label));
     }
 
     /**
-     * Determines whether a collection is present or not and has items
+     * Determines whether a value is one of the values of a prebuilt set
      *
-     * @param c The collection under test
+     * @param value Value under test
+     * @param set IntSet, built once and shared
      * @param label A string representing what is being tested
      * @param key A string representing a specific message key
      * @return Validation
      */
-    public Validation presenceAndNotEmpty(Collection c, String label, String key) {
-        return isValid(new PresenceAndNotEmptyValidator(c, label, key));
+    public Validation oneOf(int value, IntSet set, String label, String key) {
+        return isValid(new IntMembershipValidator(value, Membership.ONE_OF, set, label, key));
     }
 
     /**
-     * Determines whether a string is notBlank
+     * Determines whether a value is one of the values of a prebuilt set
      *
-     * @param s String under test
+     * @param value Value under test
+     * @param set LongSet, built once and shared
      * @param label A string representing what is being tested
      * @return Validation
      */
-    public Validation notBlank(String s, String label) {
-        return isValid(new NotBlankValidator(s, label));
+    public Validation oneOf(long value, LongSet set, String label) {
+        return isValid(new LongMembershipValidator(value, Membership.ONE_OF, set, label));
     }
 
     /**
-     * Determines whether a string is notBlank
+     * Determines whether a value is one of the values of a prebuilt set
      *
-     * @param s String under test
+     * @param value Value under test
+     * @param set LongSet, built once and shared
      * @param label A string representing what is being tested
      * @param key A string representing a specific message key
      * @return Validation
      */
-    public Validation notBlank(String s, String label, String key) {
-        return isValid(new NotBlankValidator(s, label, key));
+    public Validation oneOf(long value, LongSet set, String label, String key) {
+        return isValid(new LongMembershipValidator(value, Membership.ONE_OF, set, label, key));
     }
 
     /**
-     * Determines whether a value is greater than a minimum value
+     * Determines whether a value is one of the values of a prebuilt set
      *
-     * @param c The comparable object under test
-     * @param min The minimum value the object under test has to be
+     * @param value Characters under test, null is never in the set
+     * @param set StringSet, built once and shared
      * @param label A string representing what is being tested
-     * @param <T> The type of the comparable object
      * @return Validation
      */
-    public <T> Validation greaterThan(Comparable<T> c, T min, String label) {
-        return isValid(new GreaterThanValidator<T>(c, min, label));
+    public Validation oneOf(CharSequence value, StringSet set, String label) {
+        return isValid(new StringMembershipValidator(value, Membership.ONE_OF, set, label));
     }
 
     /**
-     * Determines whether a value is greater than a minimum value
+     * Determines whether a value is one of the values of a prebuilt set
      *
-     * @param c The comparable object under test
-     * @param min The minimum value the object under test has to be
+     * @param value Characters under test, null is never in the set
+     * @param set StringSet, built once and shared
      * @param label A string representing what is being tested
      * @param key A string representing a specific message key
-     * @param <T> The type of the comparable object
      * @return Validation
      */
-    public <T> Validation greaterThan(Comparable<T> c, T min, String label, String key) {
-        return isValid(new GreaterThanValidator<T>(c, min, label, key));
+    public Validation oneOf(CharSequence value, StringSet set, String label, String key) {
+        return isValid(new StringMembershipValidator(value, Membership.ONE_OF, set, label, key));
     }
 
     /**
-     * Determines whether a value is greater than or equal to a minimum value
+     * Determines whether a value is not one of the values of a prebuilt set
      *
-     * @param c The comparable object under test
-     * @param min The minimum value the object under test has to be
+     * @param value Value under test
+     * @param set IntSet, built once and shared
      * @param label A string representing what is being tested
-     * @param <T> The type of the comparable object
      * @return Validation
      */
-    public <T> Validation greaterThanOrEqualTo(Comparable<T> c, T min, String label) {
-        return isValid(new GreaterThanOrEqualToValidator<T>(c, min, label));
+    public Validation notIn(int value, IntSet set, String label) {
+        return isValid(new IntMembershipValidator(value, Membership.NOT_IN, set, label));
     }
 
     /**
-     * Determines whether a value is greater than or equal to a minimum value
+     * Determines whether a value is not one of the values of a prebuilt set
      *
-     * @param c The comparable object under test
-     * @param min The minimum value the object under test has to be
+     * @param value Value under test
+     * @param set IntSet, built once and shared
      * @param label A string representing what is being tested
      * @param key A string representing a specific message key
-     * @param <T> The type of the comparable object
      * @return Validation
      */
-    public <T> Validation greaterThanOrEqualTo(Comparable<T> c, T min, String label, String key) {
-        return isValid(new GreaterThanOrEqualToValidator<T>(c, min, label, key));
+    public Validation notIn(int value, IntSet set, String label, String key) {
+        return isValid(new IntMembershipValidator(value, Membership.NOT_IN, set, label, key));
     }
 
     /**
-     * Determines whether a value is less than a minimum value
+     * Determines whether a value is not one of the values of a prebuilt set
      *
-     * @param c The comparable object under test
-     * @param max The maximum value the object under test has to be
+     * @param value Value under test
+     * @param set LongSet, built once and shared
      * @param label A string representing what is being tested
-     * @param <T> The type of the comparable object
      * @return Validation
      */
-    public <T> Validation lessThan(Comparable<T> c, T max, String label) {
-        return isValid(new LessThanValidator<T>(c, max, label));
+    public Validation notIn(long value, LongSet set, String label) {
+        return isValid(new LongMembershipValidator(value, Membership.NOT_IN, set, label));
     }
 
     /**
-     * Determines whether a value is less than a minimum value
+     * Determines whether a value is not one of the values of a prebuilt set
      *
-     * @param c The comparable object under test
-     * @param max The maximum value the object under test has to be
+     * @param value Value under test
+     * @param set LongSet, built once and shared
      * @param label A string representing what is being tested
      * @param key A string representing a specific message key
-     * @param <T> The type of the comparable object
      * @return Validation
      */
-    public <T> Validation lessThan(Comparable<T> c, T max, String label, String key) {
-        return isValid(new LessThanValidator<T>(c, max, label, key));
+    public Validation notIn(long value, LongSet set, String label, String key) {
+        return isValid(new LongMembershipValidator(value, Membership.NOT_IN, set, label, key));
     }
 
     /**
-     * Determines whether a value is less than a minimum value
+     * Determines whether a value is not one of the values of a prebuilt set
      *
-     * @param c The comparable object under test
-     * @param max The maximum value the object under test has to be
+     * @param value Characters under test, null is never in the set
+     * @param set StringSet, built once and shared
      * @param label A string representing what is being tested
-     * @param <T> The type of the comparable object
      * @return Validation
      */
-    public <T> Validation lessThanOrEqualTo(Comparable<T> c, T max, String label) {
-        return isValid(new LessThanOrEqualToValidator<T>(c, max, label));
+    public Validation notIn(CharSequence value, StringSet set, String label) {
+        return isValid(new StringMembershipValidator(value, Membership.NOT_IN, set, label));
     }
 
     /**
-     * Determines whether a value is less than a minimum value
+     * Determines whether a value is not one of the values of a prebuilt set
      *
-     * @param c The comparable object under test
-     * @param max The maximum value the object under test has to be
+     * @param value Characters under test, null is never in the set
+     * @param set StringSet, built once and shared
      * @param label A string representing what is being tested
      * @param key A string representing a specific message key
-     * @param <T> The type of the comparable object
      * @return Validation
      */
-    public <T> Validation lessThanOrEqualTo(Comparable<T> c, T max, String label, String key) {
-        return isValid(new LessThanOrEqualToValidator<T>(c, max, label, key));
+    public Validation notIn(CharSequence value, StringSet set, String label, String key) {
+        return isValid(new StringMembershipValidator(value, Membership.NOT_IN, set, label, key));
     }
 
     /**
@@ -253,6 +1926,42 @@ public class Validation {
         return this;
     }
 
+    /**
+     * Accepts a Validator built from the current value of an input. validate always reads the input and tests it, after
+     * that revalidate only tests it again when the input has changed (compared with equals), so inputs should be values
+     * rather than mutable objects.
+     *
+     * <pre>
+     * validation.track(draft::getTitle, title -&gt; new NotBlankValidator(title, "title"));
+     * </pre>
+     *
+     * @param input Supplier of the value under test, read on every revalidate
+     * @param rule A function that builds the Validator for a value
+     * @param <V> The type of the value under test
+     * @return Validation
+     */
+    public <V> Validation track(Supplier<V> input, Function<V, Validator> rule) {
+        require(input, "input required");
+        require(rule, "rule required");
+
+        context.addTrackedRule(new TrackedRule<>(input, rule));
+        return this;
+    }
+
+    /**
+     * Accepts a value to be tested by a ValidatorCache, the Validator only runs if the result for the value is not
+     * cached
+     *
+     * @param value The value under test
+     * @param cache ValidatorCache of the Validator
+     * @param <V> The type of the value under test
+     * @return Validation
+     */
+    public <V> Validation cached(V value, ValidatorCache<V> cache) {
+        require(cache, "cache required");
+        return isValid(cache.validator(value));
+    }
+
     /**
      * Validates a nested resource
      *
@@ -263,12 +1972,106 @@ public class Validation {
      * @return Validation
      */
     public <T> Validation isValid(T o, String label, BiConsumer<T, Validation> nested) {
-        ValidationContext nestedContext = new ValidationContext(label);
+        ValidationContext nestedContext = context.newNestedContext(label);
         context.addNestedContext(nestedContext);
         nested.accept(o, new Validation(nestedContext, eager, failFast));
         return this;
     }
 
+    /**
+     * Validates each element of an Iterable
+     *
+     * The elements are validated one at a time as they are streamed when validating, in the place of this call among
+     * the validators. A nested context labeled with the element's index (ex. items[42]) is only added for the elements
+     * that fail, or that have asynchronous validators still to run. The Validation passed to the function is reused
+     * for every element and must not be kept. With failFast the elements are not built at all once a validator before
+     * them failed.
+     *
+     * @param elements The elements under test
+     * @param label A String to label the elements, the index is appended to it
+     * @param nested A function that is passed each element and a Validation
+     * @param <T> The type of the elements
+     * @return Validation
+     */
+    public <T> Validation eachElement(Iterable<T> elements, String label, BiConsumer<T, Validation> nested) {
+        require(label, "label required");
+        require(nested, "nested required");
+
+        if(elements != null) {
+            context.addRuleGroup(new ElementRules<>(elements, label, nested, eager));
+        }
+        return this;
+    }
+
+    /**
+     * Adds rules only if a condition holds
+     *
+     * @param condition Whether the rules apply
+     * @param rules A function that is passed this Validation to add the rules to
+     * @return Validation
+     */
+    public Validation when(boolean condition, Consumer<Validation> rules) {
+        require(rules, "rules required");
+
+        if(condition) {
+            rules.accept(this);
+        }
+        return this;
+    }
+
+    /**
+     * Adds rules that only apply if a condition holds when validating. The condition is tested in the order of the
+     * validators, the rules are not built unless it holds.
+     *
+     * @param condition A function that determines whether the rules apply
+     * @param rules A function that is passed a Validation to add the rules to
+     * @return Validation
+     */
+    public Validation when(BooleanSupplier condition, Consumer<Validation> rules) {
+        require(condition, "condition required");
+
+        context.addRuleGroup(ConditionalRules.when(condition, rules, eager));
+        return this;
+    }
+
+    /**
+     * Adds rules that depend on the validator added before them, they are only built and run if it passed (ex. a
+     * comparison that can only be made once a value is known to be present).
+     *
+     * <pre>
+     * validation.presence(quantity, "quantity")
+     *     .then(v -&gt; v.greaterThan(quantity, 0, "quantity"));
+     * </pre>
+     *
+     * Rules following rules that were skipped are skipped as well.
+     *
+     * @param rules A function that is passed a Validation to add the rules to
+     * @return Validation
+     */
+    public Validation then(Consumer<Validation> rules) {
+        context.addRuleGroup(ConditionalRules.then(rules, eager));
+        return this;
+    }
+
+    /**
+     * Adds rules that stop at their first failure, the rules after it are not run. The group is only built when
+     * validating, the validators following it are run as usual.
+     *
+     * <pre>
+     * validation.stopOnFirstFailure(v -&gt; v
+     *     .notBlank(sku, "sku")
+     *     .maxLength(sku, 32, "sku")
+     *     .cached(sku, SKUS));
+     * </pre>
+     *
+     * @param rules A function that is passed a Validation to add the rules to
+     * @return Validation
+     */
+    public Validation stopOnFirstFailure(Consumer<Validation> rules) {
+        context.addRuleGroup(ConditionalRules.stopOnFirstFailure(rules, eager));
+        return this;
+    }
+
     /**
      * @param validator A function that returns an Optional ValidationError
      * @return Validation
@@ -280,12 +2083,50 @@ public class Validation {
     }
 
     /**
-     * Run the validations
+     * Accepts an asynchronous validator, it is run by validateAsync
+     *
+     * @param label A string representing what is being tested
+     * @param validator A function that starts the validation and returns a future of an Optional ValidationError
+     * @return Validation
+     */
+    public Validation isValidAsync(String label, Supplier<CompletableFuture<Optional<ValidationError>>> validator) {
+        require(label, "label required");
+        require(validator, "validator required");
+
+        context.addAsyncCheck(new AsyncCheck(label, validator, null));
+        return this;
+    }
+
+    /**
+     * Accepts an asynchronous validator, it is run by validateAsync. If it takes longer than the timeout a
+     * "validation.timeout" error is added for the label.
+     *
+     * @param label A string representing what is being tested
+     * @param validator A function that starts the validation and returns a future of an Optional ValidationError
+     * @param timeout How long the validator may take
+     * @return Validation
+     */
+    public Validation isValidAsync(String label, Supplier<CompletableFuture<Optional<ValidationError>>> validator, Duration timeout) {
+        require(label, "label required");
+        require(validator, "validator required");
+        require(timeout, "timeout required");
+
+        context.addAsyncCheck(new AsyncCheck(label, validator, timeout));
+        return this;
+    }
+
+    /**
+     * Run the validations. Validating again runs the validators again and replaces their errors, errors that were
+     * added directly (ex. by a Supplier validator) are kept.
+     *
+     * The errors are written to the one ValidationContext of this Validation, so it must not be validated by two
+     * threads at once, even when created with concurrent (only adding validators is thread safe). Build a Validation
+     * per thread instead (see ValidationPool and validateAll).
      *
      * @return ValidationContext
      */
     public ValidationContext validate() {
-        context.validate();
+        context.validate(failFast);
         return context;
     }
 
@@ -296,11 +2137,101 @@ public class Validation {
      * @return ValidationContext
      */
     public ValidationContext validate(Consumer<ValidationContext> action) {
-        context.validate();
+        context.validate(failFast);
         action.accept(context);
         return context;
     }
 
+    /**
+     * Test the tracked validators (see track) whose input changed since the last run again, and patch their errors in
+     * the ValidationContext in place. The other validators are not run again.
+     *
+     * @return ValidationContext
+     */
+    public ValidationContext revalidate() {
+        context.revalidate();
+        return context;
+    }
+
+    /**
+     * Removes every validator, error and nested validation so this Validation can be built and validated again, ex.
+     * once per request by the same thread (see ValidationPool). The label, failFast, capErrors and listener are kept,
+     * as are the internal arrays and lists and the contexts of the nested validations, which are reused when the nested
+     * validations are added again with the same labels. A ValidationContext returned before the reset must no longer
+     * be used, keep a ValidationResult (see collect) instead.
+     *
+     * @return Validation
+     */
+    public Validation reset() {
+        context.reset();
+        return this;
+    }
+
+    /**
+     * Run the validators, fanning out over the nested validations on a ForkJoinPool. The errors and their order are
+     * the same as those of validate(), small trees and failFast validations are run on the calling thread.
+     *
+     * @param pool ForkJoinPool the nested validations are run on
+     * @return ValidationContext
+     */
+    public ValidationContext validateParallel(ForkJoinPool pool) {
+        require(pool, "pool required");
+
+        if(failFast) {
+            context.validate(true);
+        } else {
+            context.validateParallel(pool);
+        }
+        return context;
+    }
+
+    /**
+     * Run the validators and collect the errors into an immutable ValidationResult, without throwing
+     *
+     * @return ValidationResult
+     */
+    public ValidationResult collect() {
+        context.validate(failFast);
+        return context.toResult();
+    }
+
+    /**
+     * Runs the validations, then all asynchronous validators in parallel on an Executor (ex. a virtual thread per task
+     * executor on Java 21+). Their results are merged into the ValidationContext tree in the order they were added.
+     * When failFast is set and a synchronous validator fails the asynchronous validators are skipped.
+     *
+     * @param executor Executor the asynchronous validators are started on
+     * @return CompletableFuture of the ValidationContext
+     */
+    public CompletableFuture<ValidationContext> validateAsync(Executor executor) {
+        require(executor, "executor required");
+
+        return runAsync(executor, null);
+    }
+
+    /**
+     * Runs the validations, then all asynchronous validators in parallel on an Executor. Asynchronous validators that
+     * have not finished when the timeout runs out are recorded as "validation.timeout" errors.
+     *
+     * @param executor Executor the asynchronous validators are started on
+     * @param timeout How long all asynchronous validators together may take
+     * @return CompletableFuture of the ValidationContext
+     */
+    public CompletableFuture<ValidationContext> validateAsync(Executor executor, Duration timeout) {
+        require(executor, "executor required");
+        require(timeout, "timeout required");
+
+        return runAsync(executor, timeout);
+    }
+
+    private CompletableFuture<ValidationContext> runAsync(Executor executor, Duration timeout) {
+        if(context.validate(failFast)) {
+            context.drainAsyncChecks(new ArrayList<>(), new ArrayList<>());
+            return CompletableFuture.completedFuture(context);
+        }
+        return AsyncValidation.run(context, executor, timeout);
+    }
+
     /**
      * Checks the validation and throws a ValidationException if there are any
      *
@@ -312,4 +2243,94 @@ public class Validation {
             throw new ValidationException(context);
         }
     }
+
+    /**
+     * Checks the validation and throws a ValidationException without a stack trace if there are any errors, so a
+     * rejected validation costs little more than an accepted one
+     *
+     * @param context ValidationContext
+     * @throws ValidationException exception that is thrown if there is an invalid validation
+     */
+    public static void andThrowWithoutStackTrace(ValidationContext context) throws ValidationException {
+        if(context.isInvalid()) {
+            throw new ValidationException(context, false);
+        }
+    }
+
+    /**
+     * Creates a cache that memoizes whether values are valid for an expensive Validator, see cached(V, ValidatorCache)
+     *
+     * @param factory A function that creates the Validator for a value
+     * @param spec CacheSpec describing the bounds of the cache
+     * @param <V> The type of the values under test
+     * @return ValidatorCache to be shared between validations
+     */
+    public static <V> ValidatorCache<V> cached(Function<V, Validator> factory, CacheSpec spec) {
+        return new ValidatorCache<>(factory, spec);
+    }
+
+    /**
+     * Validates each element of a batch in parallel on the common ForkJoinPool
+     *
+     * @param items The elements under test
+     * @param label A String to label the Validation of each element
+     * @param validation A function that is passed an element and its Validation
+     * @param <T> The type of the elements
+     * @return BatchValidationResult with the failed elements indexed by position
+     */
+    public static <T> BatchValidationResult validateAll(Collection<T> items, String label, BiConsumer<T, Validation> validation) {
+        return validateAll(items, label, validation, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validates each element of a batch in parallel on an Executor
+     *
+     * @param items The elements under test
+     * @param label A String to label the Validation of each element
+     * @param validation A function that is passed an element and its Validation
+     * @param executor Executor the elements are validated on, a ForkJoinPool splits the batch by work-stealing
+     * @param <T> The type of the elements
+     * @return BatchValidationResult with the failed elements indexed by position
+     */
+    public static <T> BatchValidationResult validateAll(Collection<T> items, String label, BiConsumer<T, Validation> validation, Executor executor) {
+        require(items, "items required");
+        require(label, "label required");
+        require(validation, "validation required");
+        require(executor, "executor required");
+
+        return new BatchValidation<T>(items, item -> {
+            Validation v = new Validation(label);
+            validation.accept(item, v);
+            return v.validate();
+        }).run(executor);
+    }
+
+    /**
+     * Validates each element of a batch with a Schema in parallel on the common ForkJoinPool
+     *
+     * @param items The elements under test
+     * @param schema Schema each element is validated with
+     * @param <T> The type of the elements
+     * @return BatchValidationResult with the failed elements indexed by position
+     */
+    public static <T> BatchValidationResult validateAll(Collection<T> items, Schema<T> schema) {
+        return validateAll(items, schema, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validates each element of a batch with a Schema in parallel on an Executor
+     *
+     * @param items The elements under test
+     * @param schema Schema each element is validated with
+     * @param executor Executor the elements are validated on, a ForkJoinPool splits the batch by work-stealing
+     * @param <T> The type of the elements
+     * @return BatchValidationResult with the failed elements indexed by position
+     */
+    public static <T> BatchValidationResult validateAll(Collection<T> items, Schema<T> schema, Executor executor) {
+        require(items, "items required");
+        require(schema, "schema required");
+        require(executor, "executor required");
+
+        return new BatchValidation<T>(items, schema::validate).run(executor);
+    }
 }
@@ -1,44 +1,117 @@
 package net.scottpullen.validation;
 
+import net.scottpullen.validation.metrics.ValidationListener;
 import net.scottpullen.validation.validators.Validator;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import static net.scottpullen.validation.helpers.ArgumentValidation.require;
 
 public class ValidationContext {
+    private static final Validator[] NO_VALIDATORS = new Validator[0];
+    private static final int INITIAL_VALIDATORS = 8;
+
     /**
      * A label to describe what it being validated
      */
     private final String label;
 
     /**
-     * A list of Validators to run
+     * The Validators to run, grown as they are added
+     */
+    private Validator[] validators = NO_VALIDATORS;
+    private int validatorCount;
+
+    /**
+     * The RuleGroups to run in their place among the validators, created with the first one. groupPositions holds the
+     * number of validators added before each group.
+     */
+    private RuleGroup[] groups;
+    private int[] groupPositions;
+    private int groupCount;
+
+    /**
+     * The EvaluationPlan of the validators, built by the first run with enough of them. planCount is the number of
+     * validators it was built for, or -1, the plan is null if they can not be run by one.
+     */
+    private EvaluationPlan plan;
+    private int planCount = -1;
+
+    /**
+     * The ErrorSummary shared by the contexts of a capped validation, null unless errors are capped. The parent and
+     * the element index are only kept to build the paths of the sampled errors.
+     */
+    private ErrorSummary errorSummary;
+    private ValidationContext parent;
+    private int elementIndex = -1;
+
+    /**
+     * The ValidationListener shared by the contexts of a validation, null unless one is set (see Validation.listener)
+     */
+    private ValidationListener listener;
+
+    /**
+     * Whether any validator is a TrackedRule, the error of each validator is then kept so revalidate can patch it
+     */
+    private boolean tracked;
+    private ValidationError[] validatorErrors;
+
+    /**
+     * The errors of the validators that were only counted because errors are capped, so revalidate can take them off
+     * the ErrorSummary again. Null unless tracked and capped.
      */
-    private List<Validator> validators;
+    private ValidationError[] droppedErrors;
 
     /**
-     * A list of ValidationErrors
+     * A list of ValidationErrors, created with the first error
      */
     private List<ValidationError> errors;
 
     /**
-     * A sub-ValidationContext
+     * A sub-ValidationContext, created with the first nested context
      */
     private List<ValidationContext> nestedContexts;
 
+    /**
+     * The number of errors and nested contexts added directly, -1 until the first run. They are kept in front of those
+     * of the validators, which are replaced by the next run so validating again does not duplicate them.
+     */
+    private int addedErrors = -1;
+    private int addedNestedContexts;
+
+    /**
+     * The nested contexts of the last run before a reset, reused in order by newNestedContext when their label matches
+     */
+    private List<ValidationContext> recycledContexts;
+    private int recycledIndex;
+
+    /**
+     * The context that created this one with newNestedContext, only its reset resets and recycles this context
+     */
+    private ValidationContext owner;
+
+    /**
+     * Asynchronous validators waiting for validateAsync, created with the first one
+     */
+    private List<AsyncCheck> asyncChecks;
 
     protected ValidationContext(String label) {
         this.label = label;
-        validators = new ArrayList<>();
-        errors = new ArrayList<>();
-        nestedContexts = new ArrayList<>();
     }
 
     public String getLabel() { return label; }
-    public List<ValidationError> getErrors() {return errors; }
-    public List<ValidationContext> getNestedContexts() { return nestedContexts; }
+
+    public List<ValidationError> getErrors() {
+        return errors == null ? Collections.emptyList() : errors;
+    }
+
+    public List<ValidationContext> getNestedContexts() {
+        return nestedContexts == null ? Collections.emptyList() : nestedContexts;
+    }
 
     /**
      * Adds a ValidationError to the list of errors
@@ -47,7 +120,30 @@ public class ValidationContext {
     protected void addError(ValidationError error) {
         require(error, "ValidationError required");
 
+        if(addedErrors < 0) {
+            appendError(error);
+        } else if(errorSummary == null || errorSummary.record(this, error)) {
+            if(errors == null) {
+                errors = new ArrayList<>(4);
+            }
+            errors.add(addedErrors++, error);
+        }
+    }
+
+    /**
+     * @param error ValidationError
+     * @return boolean false if the error was only counted because errors are capped
+     */
+    private boolean appendError(ValidationError error) {
+        if(errorSummary != null && !errorSummary.record(this, error)) {
+            return false;
+        }
+
+        if(errors == null) {
+            errors = new ArrayList<>(4);
+        }
         errors.add(error);
+        return true;
     }
 
     /**
@@ -56,26 +152,733 @@ public class ValidationContext {
      * @param context ValidationContext
      */
     protected void addNestedContext(ValidationContext context) {
-        this.nestedContexts.add(context);
+        if(nestedContexts == null) {
+            nestedContexts = new ArrayList<>(4);
+        }
+
+        if(addedErrors < 0) {
+            this.nestedContexts.add(context);
+        } else {
+            this.nestedContexts.add(addedNestedContexts++, context);
+        }
     }
 
     /**
      * @param validator Validator to be tested
      */
     protected void addValidator(Validator validator) {
-        validators.add(validator);
+        if(validatorCount == validators.length) {
+            validators = Arrays.copyOf(validators, Math.max(INITIAL_VALIDATORS, validatorCount * 2));
+        }
+        validators[validatorCount++] = validator;
+    }
+
+    /**
+     * @param group RuleGroup to be built and run after the validators added so far
+     */
+    void addRuleGroup(RuleGroup group) {
+        if(groups == null) {
+            groups = new RuleGroup[4];
+            groupPositions = new int[4];
+        } else if(groupCount == groups.length) {
+            groups = Arrays.copyOf(groups, groupCount * 2);
+            groupPositions = Arrays.copyOf(groupPositions, groupCount * 2);
+        }
+        groups[groupCount] = group;
+        groupPositions[groupCount++] = validatorCount;
+    }
+
+    /**
+     * @param rule TrackedRule to be tested, and tested again by revalidate when its input changes
+     */
+    void addTrackedRule(TrackedRule<?> rule) {
+        tracked = true;
+        addValidator(rule);
+    }
+
+    /**
+     * Creates the context of a nested validation, to be added with addNestedContext
+     *
+     * @param label A label for the nested context
+     * @return ValidationContext
+     */
+    ValidationContext newNestedContext(String label) {
+        if(recycledContexts != null && recycledIndex < recycledContexts.size()) {
+            ValidationContext recycled = recycledContexts.get(recycledIndex);
+            if(recycled.getClass() == ValidationContext.class && recycled.label.equals(label)) {
+                recycledIndex++;
+                return withParent(recycled);
+            }
+        }
+
+        ValidationContext created = new ValidationContext(label);
+        created.owner = this;
+        return withParent(created);
+    }
+
+    /**
+     * Adds a nested context produced by a run of the validators, it is replaced by the next run
+     *
+     * @param context ValidationContext
+     */
+    void appendNestedContext(ValidationContext context) {
+        if(nestedContexts == null) {
+            nestedContexts = new ArrayList<>(4);
+        }
+        nestedContexts.add(context);
+    }
+
+    /**
+     * Shares the ValidationListener of this context, and the ErrorSummary if errors are capped, with a context nested
+     * under it
+     *
+     * @param nested The nested context
+     * @return ValidationContext the nested context
+     */
+    ValidationContext withParent(ValidationContext nested) {
+        nested.listener = listener;
+        if(errorSummary != null) {
+            nested.errorSummary = errorSummary;
+            nested.parent = this;
+        }
+        return nested;
+    }
+
+    /**
+     * Caps the errors of this context and the contexts nested under it later, see ErrorSummary
+     *
+     * @param maxErrors The number of errors to keep
+     * @param samples The number of paths to sample for each label and key
+     */
+    void capErrors(int maxErrors, int samples) {
+        errorSummary = new ErrorSummary(maxErrors, samples);
+    }
+
+    /**
+     * Reports the rules run by this context and the contexts nested under it later to a listener
+     *
+     * @param listener ValidationListener, or null
+     */
+    void setListener(ValidationListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * @return ValidationListener of this context, or null
+     */
+    ValidationListener getListener() { return listener; }
+
+    /**
+     * @return ErrorSummary of a capped validation, or null if errors are not capped
+     */
+    public ErrorSummary getErrorSummary() { return errorSummary; }
+
+    /**
+     * @param index The index of the element this context validates, or -1
+     */
+    void setElementIndex(int index) {
+        this.elementIndex = index;
+    }
+
+    /**
+     * @param errorLabel The label of an error
+     * @return String the path of an error of this context (ex. order.items[3].sku)
+     */
+    String getPath(String errorLabel) {
+        StringBuilder path = new StringBuilder();
+        appendPath(path);
+        return path.append('.').append(errorLabel).toString();
+    }
+
+    private void appendPath(StringBuilder path) {
+        if(parent != null) {
+            parent.appendPath(path);
+            path.append('.');
+        }
+        path.append(label);
+        if(elementIndex >= 0) {
+            path.append('[').append(elementIndex).append(']');
+        }
+    }
+
+    /**
+     * @param check AsyncCheck to be run by validateAsync
+     */
+    void addAsyncCheck(AsyncCheck check) {
+        if(asyncChecks == null) {
+            asyncChecks = new ArrayList<>(4);
+        }
+        asyncChecks.add(check);
+    }
+
+    /**
+     * Moves the pending AsyncChecks of this context and any nested contexts into a list
+     *
+     * @param checks List the checks are added to
+     * @param contexts List the context of each check is added to
+     */
+    void drainAsyncChecks(List<AsyncCheck> checks, List<ValidationContext> contexts) {
+        if(asyncChecks != null) {
+            for(int i = 0; i < asyncChecks.size(); i++) {
+                checks.add(asyncChecks.get(i));
+                contexts.add(this);
+            }
+            asyncChecks = null;
+        }
+
+        if(nestedContexts != null) {
+            for(int i = 0; i < nestedContexts.size(); i++) {
+                nestedContexts.get(i).drainAsyncChecks(checks, contexts);
+            }
+        }
+    }
+
+    /**
+     * @return boolean whether this context or any nested context has pending AsyncChecks
+     */
+    boolean hasAsyncChecks() {
+        if(asyncChecks != null) {
+            return true;
+        }
+
+        if(nestedContexts != null) {
+            for(int i = 0; i < nestedContexts.size(); i++) {
+                if(nestedContexts.get(i).hasAsyncChecks()) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Moves the errors and nested contexts of an already validated context into a new context and clears this one so
+     * it can be used again. The validators of the nested contexts are dropped so they do not run a second time.
+     *
+     * @param label A label for the new context
+     * @return ValidationContext holding the errors and nested contexts
+     */
+    ValidationContext detach(String label) {
+        ValidationContext detached = new ValidationContext(label);
+        detached.listener = listener;
+        detached.errors = errors;
+        detached.nestedContexts = nestedContexts;
+        detached.clearNestedValidators();
+
+        if(errorSummary != null) {
+            detached.errorSummary = errorSummary;
+            detached.parent = parent;
+            if(nestedContexts != null) {
+                for(int i = 0; i < nestedContexts.size(); i++) {
+                    nestedContexts.get(i).parent = detached;
+                }
+            }
+        }
+
+        detached.asyncChecks = asyncChecks;
+
+        errors = null;
+        nestedContexts = null;
+        asyncChecks = null;
+        addedErrors = -1;
+        clearValidators();
+        return detached;
+    }
+
+    private void clearValidators() {
+        Arrays.fill(validators, 0, validatorCount, null);
+        validatorCount = 0;
+        if(groups != null) {
+            Arrays.fill(groups, 0, groupCount, null);
+            groupCount = 0;
+        }
+        plan = null;
+        planCount = -1;
+        tracked = false;
+        validatorErrors = null;
+        droppedErrors = null;
+    }
+
+    private void clearNestedValidators() {
+        if(nestedContexts != null) {
+            for(int i = 0; i < nestedContexts.size(); i++) {
+                ValidationContext nestedContext = nestedContexts.get(i);
+                nestedContext.clearValidators();
+                nestedContext.addedErrors = -1;
+                nestedContext.clearNestedValidators();
+            }
+        }
+    }
+
+    /**
+     * Removes all validators, errors and nested contexts
+     */
+    void clear() {
+        clearValidators();
+        if(errors != null) {
+            errors.clear();
+        }
+        if(nestedContexts != null) {
+            nestedContexts.clear();
+        }
+        asyncChecks = null;
+        addedErrors = -1;
+    }
+
+    /**
+     * Removes all validators, errors and nested contexts of this context and its nested contexts so it can be built
+     * and validated again. The arrays and lists are kept, and the nested contexts are reused by newNestedContext when
+     * they are added again with the same labels in the same order. Contexts this one did not create (ex. merged from
+     * another Validation) are only removed, they are left as they are.
+     */
+    protected void reset() {
+        clearValidators();
+        if(errors != null) {
+            errors.clear();
+        }
+
+        if(nestedContexts != null) {
+            int kept = 0;
+            for(int i = 0; i < nestedContexts.size(); i++) {
+                ValidationContext nested = nestedContexts.get(i);
+                if(nested.owner == this) {
+                    nested.reset();
+                    nestedContexts.set(kept++, nested);
+                }
+            }
+            nestedContexts.subList(kept, nestedContexts.size()).clear();
+
+            List<ValidationContext> recycled = nestedContexts;
+            nestedContexts = recycledContexts;
+            recycledContexts = recycled;
+            if(nestedContexts != null) {
+                nestedContexts.clear();
+            }
+        } else if(recycledContexts != null) {
+            recycledContexts.clear();
+        }
+        recycledIndex = 0;
+
+        if(errorSummary != null && parent == null) {
+            errorSummary.reset();
+        }
+        asyncChecks = null;
+        addedErrors = -1;
+    }
+
+    /**
+     * Starts a run of the validators of this context, removing the errors and nested contexts of the last run
+     */
+    private void beginRun() {
+        if(addedErrors < 0) {
+            addedErrors = errors == null ? 0 : errors.size();
+            addedNestedContexts = nestedContexts == null ? 0 : nestedContexts.size();
+            return;
+        }
+
+        if(errors != null && errors.size() > addedErrors) {
+            errors.subList(addedErrors, errors.size()).clear();
+        }
+        if(nestedContexts != null && nestedContexts.size() > addedNestedContexts) {
+            nestedContexts.subList(addedNestedContexts, nestedContexts.size()).clear();
+        }
+    }
+
+    /**
+     * Removes the errors and nested contexts of the last run from this context and its nested contexts, for a failFast
+     * run that may stop before reaching them
+     */
+    private void clearLastRun() {
+        if(addedErrors >= 0) {
+            beginRun();
+        }
+
+        if(nestedContexts != null) {
+            for(int i = 0; i < nestedContexts.size(); i++) {
+                nestedContexts.get(i).clearLastRun();
+            }
+        }
+    }
+
+    /**
+     * Starts the ErrorSummary of a capped validation over when it is validated again, so it only counts the errors
+     * added before validating and those of the new run
+     */
+    private void restartErrorSummary() {
+        if(errorSummary != null && parent == null && addedErrors >= 0) {
+            errorSummary.reset();
+            recordAddedErrors();
+        }
+    }
+
+    private void recordAddedErrors() {
+        int added = addedErrors < 0 ? (errors == null ? 0 : errors.size()) : addedErrors;
+        for(int i = 0; i < added; i++) {
+            errorSummary.record(this, errors.get(i));
+        }
+
+        int addedNested = addedErrors < 0 ? (nestedContexts == null ? 0 : nestedContexts.size()) : addedNestedContexts;
+        for(int i = 0; i < addedNested; i++) {
+            ValidationContext nested = nestedContexts.get(i);
+            if(nested.errorSummary == errorSummary) {
+                nested.recordAddedErrors();
+            }
+        }
     }
 
     /**
      * Run validators for ValidatorContext and any nested ValidatorContexts
      */
     protected void validate() {
-        validators.stream()
-            .filter(Validator::isInvalid)
-            .map(Validator::buildValidationError)
-            .forEach(this::addError);
+        validate(false);
+    }
 
-        nestedContexts.forEach(ValidationContext::validate);
+    /**
+     * Run validators for ValidatorContext and any nested ValidatorContexts
+     *
+     * When failFast is set the run stops at the first failing validator, skipping the rest of the tree. Errors that
+     * were already added (ex. by a Supplier validator) count as a failure.
+     *
+     * @param failFast Whether to stop at the first failure
+     * @return boolean true if the run stopped because of a failure
+     */
+    protected boolean validate(boolean failFast) {
+        restartErrorSummary();
+        if(failFast && addedErrors >= 0) {
+            clearLastRun();
+        }
+        return validate(failFast, listener);
+    }
+
+    boolean validate(boolean failFast, ValidationListener listener) {
+        beginRun();
+
+        if(failFast && errors != null && !errors.isEmpty()) {
+            return true;
+        }
+
+        if(runValidators(failFast, listener)) {
+            return true;
+        }
+
+        if(nestedContexts != null) {
+            for(int i = 0; i < nestedContexts.size(); i++) {
+                if(nestedContexts.get(i).validate(failFast, listener)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Run the validators of this context only, not those of the nested contexts
+     *
+     * @param failFast Whether to stop at the first failure
+     * @param listener ValidationListener, or null
+     * @return boolean true if the run stopped because of a failure
+     */
+    boolean runValidators(boolean failFast, ValidationListener listener) {
+        beginRun();
+
+        if(tracked) {
+            validatorErrors = new ValidationError[validatorCount];
+            droppedErrors = errorSummary != null ? new ValidationError[validatorCount] : null;
+            for(int i = 0; i < validatorCount; i++) {
+                if(validators[i] instanceof TrackedRule) {
+                    ((TrackedRule<?>) validators[i]).invalidate();
+                }
+            }
+        } else if(!failFast && listener == null && groupCount == 0 && validatorCount >= EvaluationPlan.THRESHOLD && runPlan()) {
+            return false;
+        }
+
+        return runRules(tracked ? validatorErrors : null, failFast, listener) && failFast;
+    }
+
+    /**
+     * Runs every validator with the EvaluationPlan of this context, adding the errors in the order of the validators
+     *
+     * @return boolean false if the validators can not be run by a plan
+     */
+    private boolean runPlan() {
+        EvaluationPlan plan = this.plan;
+        if(planCount != validatorCount) {
+            plan = EvaluationPlan.of(validators, validatorCount);
+            this.plan = plan;
+            planCount = validatorCount;
+        }
+
+        if(plan == null) {
+            return false;
+        }
+
+        boolean[] invalid = plan.run();
+        for(int i = 0; i < validatorCount; i++) {
+            if(invalid[i]) {
+                appendError(validators[i].buildValidationError());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Run the validators and RuleGroups of this context, adding their errors to it. The groups are built and run in
+     * their place, a group that depends on the rule before it is skipped (and the groups depending on it in turn) if
+     * that one failed.
+     *
+     * @param trackedErrors The array the error of each validator is kept in, or null
+     * @param failFast Whether to stop at the first failure
+     * @param listener ValidationListener, or null
+     * @return boolean true if any validator failed
+     */
+    private boolean runRules(ValidationError[] trackedErrors, boolean failFast, ValidationListener listener) {
+        boolean failed = false;
+        boolean previousValid = true;
+        int group = 0;
+
+        for(int i = 0; ; i++) {
+            for(; group < groupCount && groupPositions[group] == i; group++) {
+                if(groups[group].isDependent() && !previousValid) {
+                    continue;
+                }
+
+                boolean invalid = groups[group].run(this, failFast, listener);
+                if(invalid) {
+                    failed = true;
+                    if(failFast) {
+                        return true;
+                    }
+                }
+                previousValid = !invalid;
+            }
+
+            if(i == validatorCount) {
+                return failed;
+            }
+
+            Validator validator = validators[i];
+            boolean invalid;
+
+            if(listener == null ? validator.isInvalid() : isInvalid(validator, listener)) {
+                ValidationError error = validator.buildValidationError();
+                if(appendError(error)) {
+                    if(trackedErrors != null) {
+                        trackedErrors[i] = error;
+                    }
+                } else if(trackedErrors != null) {
+                    droppedErrors[i] = error;
+                }
+                invalid = true;
+            } else {
+                invalid = false;
+            }
+
+            if(invalid) {
+                failed = true;
+                if(failFast) {
+                    return true;
+                }
+            }
+            previousValid = !invalid;
+        }
+    }
+
+    /**
+     * @return ValidationContext a scratch context with the same path, ErrorSummary and listener as this one, for rules
+     * built while validating (see runScope)
+     */
+    ValidationContext newScope() {
+        ValidationContext scope = new ValidationContext(label);
+        scope.errorSummary = errorSummary;
+        scope.parent = parent;
+        scope.elementIndex = elementIndex;
+        scope.listener = this.listener;
+        return scope;
+    }
+
+    /**
+     * Runs the rules built in a scratch context (see newScope), moving their errors, nested contexts and asynchronous
+     * validators into this context. Errors added while building count as failures.
+     *
+     * @param scope ValidationContext the rules were built in
+     * @param failFast Whether to stop at the first failure
+     * @param listener ValidationListener, or null
+     * @return boolean true if any of the rules failed
+     */
+    boolean runScope(ValidationContext scope, boolean failFast, ValidationListener listener) {
+        boolean failed = scope.errors != null && !scope.errors.isEmpty();
+        if(!failed || !failFast) {
+            failed |= scope.runRules(null, failFast, listener);
+        }
+
+        if(scope.errors != null) {
+            if(errors == null) {
+                errors = new ArrayList<>(4);
+            }
+            errors.addAll(scope.errors);
+        }
+        if(scope.nestedContexts != null) {
+            if(nestedContexts == null) {
+                nestedContexts = new ArrayList<>(4);
+            }
+            nestedContexts.addAll(scope.nestedContexts);
+        }
+        if(scope.asyncChecks != null) {
+            if(asyncChecks == null) {
+                asyncChecks = new ArrayList<>(4);
+            }
+            asyncChecks.addAll(scope.asyncChecks);
+        }
+        return failed;
+    }
+
+    /**
+     * Evaluates the TrackedRules of this context and any nested contexts again if their input changed, replacing,
+     * removing or inserting their errors in place. Other validators are not run again. Contexts with TrackedRules that
+     * were never validated are validated.
+     */
+    protected void revalidate() {
+        revalidate(listener);
+    }
+
+    private void revalidate(ValidationListener listener) {
+        if(tracked) {
+            if(validatorErrors == null) {
+                runValidators(false, listener);
+            } else {
+                for(int i = 0; i < validatorCount; i++) {
+                    Validator validator = validators[i];
+                    if(validator instanceof TrackedRule && ((TrackedRule<?>) validator).refresh()) {
+                        boolean invalid = listener == null ? validator.isInvalid() : isInvalid(validator, listener);
+                        patchError(i, invalid ? validator.buildValidationError() : null);
+                    }
+                }
+            }
+        }
+
+        if(nestedContexts != null) {
+            for(int i = 0; i < nestedContexts.size(); i++) {
+                nestedContexts.get(i).revalidate(listener);
+            }
+        }
+    }
+
+    /**
+     * Replaces the error of a validator, keeping the errors in the order of the validators. With capped errors the
+     * error it replaces is taken off the ErrorSummary before the new one is counted.
+     *
+     * @param index The index of the validator
+     * @param error The new error, or null if the validator is now valid
+     */
+    private void patchError(int index, ValidationError error) {
+        ValidationError previous = validatorErrors[index];
+
+        if(errorSummary != null) {
+            if(previous != null) {
+                errorSummary.remove(this, previous, true);
+            } else if(droppedErrors[index] != null) {
+                errorSummary.remove(this, droppedErrors[index], false);
+            }
+
+            droppedErrors[index] = null;
+            if(error != null && !errorSummary.record(this, error)) {
+                droppedErrors[index] = error;
+                error = null;
+            }
+        }
+
+        validatorErrors[index] = error;
+
+        if(previous != null && error != null) {
+            errors.set(indexOfError(previous), error);
+        } else if(previous != null) {
+            errors.remove(indexOfError(previous));
+        } else if(error != null) {
+            for(int i = index + 1; i < validatorCount; i++) {
+                if(validatorErrors[i] != null) {
+                    errors.add(indexOfError(validatorErrors[i]), error);
+                    return;
+                }
+            }
+            for(int i = index - 1; i >= 0; i--) {
+                if(validatorErrors[i] != null) {
+                    errors.add(indexOfError(validatorErrors[i]) + 1, error);
+                    return;
+                }
+            }
+            if(errors == null) {
+                errors = new ArrayList<>(4);
+            }
+            errors.add(error);
+        }
+    }
+
+    private int indexOfError(ValidationError error) {
+        for(int i = 0; i < errors.size(); i++) {
+            if(errors.get(i) == error) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("error of a tracked validator is missing");
+    }
+
+    /**
+     * Run validators for ValidatorContext and any nested ValidatorContexts, fanning out over the nested contexts on a
+     * ForkJoinPool. Each context only receives its own errors, so the errors and their order are the same as those of
+     * validate(). Trees with fewer than ParallelValidation.THRESHOLD contexts are validated on the calling thread.
+     *
+     * @param pool ForkJoinPool the nested contexts are validated on
+     */
+    protected void validateParallel(ForkJoinPool pool) {
+        require(pool, "pool required");
+
+        restartErrorSummary();
+        if(size(ParallelValidation.THRESHOLD) < ParallelValidation.THRESHOLD) {
+            validate(false, listener);
+            return;
+        }
+
+        runValidators(false, listener);
+        pool.invoke(new ParallelValidation(nestedContexts, 0, nestedContexts.size(), listener));
+    }
+
+    /**
+     * Counts this context and its nested contexts, stopping once the count reaches a limit
+     *
+     * @param limit The count to stop at
+     * @return int the count, or a number at least as big as the limit
+     */
+    private int size(int limit) {
+        int size = 1;
+        if(nestedContexts != null) {
+            for(int i = 0; i < nestedContexts.size() && size < limit; i++) {
+                size += nestedContexts.get(i).size(limit - size);
+            }
+        }
+        return size;
+    }
+
+    private static boolean isInvalid(Validator validator, ValidationListener listener) {
+        long start = System.nanoTime();
+        boolean invalid = validator.isInvalid();
+        long nanos = System.nanoTime() - start;
+
+        String label = validator.getLabel();
+        listener.onEvaluated(label != null ? label : validator.getClass().getName(), validator.getKey(), !invalid, nanos);
+        return invalid;
+    }
+
+    /**
+     * Flattens this context and its nested contexts into an immutable ValidationResult, indexed by path. The result is
+     * a snapshot, build it once after validating and query it as often as needed.
+     *
+     * @return ValidationResult
+     */
+    public ValidationResult toResult() {
+        return ValidationResult.of(this);
     }
 
     /**
@@ -83,6 +886,18 @@ public class ValidationContext {
      * @return boolean
      */
     public boolean isInvalid() {
-        return !errors.isEmpty() || nestedContexts.stream().anyMatch(ValidationContext::isInvalid);
+        if(errors != null && !errors.isEmpty()) {
+            return true;
+        }
+
+        if(nestedContexts != null) {
+            for(int i = 0; i < nestedContexts.size(); i++) {
+                if(nestedContexts.get(i).isInvalid()) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
     }
 }
@@ -1,11 +1,24 @@
 package net.scottpullen.validation;
 
+import net.scottpullen.validation.messages.MessageResolver;
+import net.scottpullen.validation.messages.MessageTemplate;
+
+import java.util.Locale;
+
 import static net.scottpullen.validation.helpers.ArgumentValidation.require;
 
 public final class ValidationError {
+    private static final Object[] NO_ARGS = new Object[0];
+
     private final String label;
     private final String key;
-    private final String message;
+    private final MessageTemplate template;
+    private final Object[] args;
+
+    /**
+     * The rendered default message, only built when it is asked for
+     */
+    private String message;
 
     /**
      * @param label A string representing what the corresponding error is related to (i.e. a field from a form, etc...)
@@ -18,10 +31,60 @@ public final class ValidationError {
 
         this.label = label;
         this.key = key;
+        this.template = null;
+        this.args = new Object[] { label };
         this.message = message;
     }
 
+    /**
+     * @param label A string representing what the corresponding error is related to (i.e. a field from a form, etc...)
+     * @param key A string representing a message key (ex. validation.presence)
+     * @param template The default MessageTemplate, rendered with args only when the message is asked for
+     * @param args The arguments of the message (ex. the label and the minimum value)
+     */
+    public ValidationError(String label, String key, MessageTemplate template, Object... args) {
+        require(label, "label required");
+        require(key, "key required");
+        require(template, "template required");
+
+        this.label = label;
+        this.key = key;
+        this.template = template;
+        this.args = args == null ? NO_ARGS : args;
+    }
+
     public String getLabel() { return label; }
     public String getKey() { return key; }
-    public String getMessage() { return message; }
+
+    /**
+     * @return Object[] a copy of the message arguments
+     */
+    public Object[] getArgs() { return args.clone(); }
+
+    /**
+     * @return String the default message
+     */
+    public String getMessage() {
+        String m = message;
+        if(m == null && template != null) {
+            m = template.render(args);
+            message = m;
+        }
+        return m;
+    }
+
+    /**
+     * Renders the message for the key from a MessageResolver, falling back to the default message when the resolver
+     * has no message for the key
+     *
+     * @param resolver MessageResolver used to look up the key
+     * @param locale The locale of the message
+     * @return String
+     */
+    public String getMessage(MessageResolver resolver, Locale locale) {
+        require(resolver, "resolver required");
+
+        MessageTemplate resolved = resolver.resolve(key, locale);
+        return resolved != null ? resolved.render(args) : getMessage();
+    }
 }
@@ -7,6 +7,15 @@ public class ValidationException extends RuntimeException {
     private final ValidationContext context;
 
     public ValidationException(final ValidationContext context) {
+        this(context, true);
+    }
+
+    /**
+     * @param context ValidationContext
+     * @param writableStackTrace Whether to capture the stack trace, capturing it is most of the cost of the exception
+     */
+    public ValidationException(final ValidationContext context, final boolean writableStackTrace) {
+        super(null, null, true, writableStackTrace);
         require(context, "ValidationContext required");
 
         this.context = context;
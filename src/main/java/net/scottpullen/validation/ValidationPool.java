@@ -0,0 +1,76 @@
+package net.scottpullen.validation;
+
+import java.util.function.Consumer;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * Keeps one Validation per thread so a hot code path (ex. a request handler) can build and validate the same
+ * validation again without allocating its contexts and lists every time.
+ *
+ * <pre>
+ * static final ValidationPool ORDERS = new ValidationPool("order", Validation::failFast);
+ *
+ * Validation validation = ORDERS.acquire();
+ * try {
+ *     return validation.notBlank(order.getName(), "name").collect();
+ * } finally {
+ *     ORDERS.release(validation);
+ * }
+ * </pre>
+ *
+ * A Validation acquired while the thread's Validation is still in use (ex. by a nested call) is a new one. Neither the
+ * Validation nor its ValidationContext may be used after it is released.
+ */
+public final class ValidationPool {
+    private final String label;
+    private final Consumer<Validation> setup;
+    private final ThreadLocal<Validation> idle = new ThreadLocal<>();
+
+    /**
+     * @param label A string representing the label of the Validations
+     */
+    public ValidationPool(String label) {
+        this(label, validation -> { });
+    }
+
+    /**
+     * @param label A string representing the label of the Validations
+     * @param setup A function that configures a new Validation (ex. Validation::failFast), once per thread
+     */
+    public ValidationPool(String label, Consumer<Validation> setup) {
+        require(label, "label required");
+        require(setup, "setup required");
+
+        this.label = label;
+        this.setup = setup;
+    }
+
+    /**
+     * @return Validation with no validators, errors or nested validations
+     */
+    public Validation acquire() {
+        Validation validation = idle.get();
+        if(validation == null) {
+            validation = new Validation(label);
+            setup.accept(validation);
+            return validation;
+        }
+
+        idle.set(null);
+        return validation;
+    }
+
+    /**
+     * Resets a Validation and keeps it for the next acquire on this thread
+     *
+     * @param validation A Validation acquired from this pool
+     */
+    public void release(Validation validation) {
+        require(validation, "validation required");
+
+        if(idle.get() == null) {
+            idle.set(validation.reset());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package net.scottpullen.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable, flattened snapshot of a validated ValidationContext tree.
+ *
+ * Every error is indexed by its full path, the labels of the contexts from the root down joined with '.' followed by
+ * the error's label (ex. order.items[3].sku). Looking up the errors of a path, the counts and the validity do not walk
+ * the tree.
+ */
+public final class ValidationResult {
+    private final String label;
+    private final List<ValidationError> errors;
+    private final Map<String, List<ValidationError>> errorsByPath;
+
+    private ValidationResult(String label, List<ValidationError> errors, Map<String, List<ValidationError>> errorsByPath) {
+        this.label = label;
+        this.errors = errors;
+        this.errorsByPath = errorsByPath;
+    }
+
+    /**
+     * @param context A validated ValidationContext
+     * @return ValidationResult of the context and its nested contexts
+     */
+    static ValidationResult of(ValidationContext context) {
+        if(!context.isInvalid()) {
+            return new ValidationResult(context.getLabel(), Collections.emptyList(), Collections.emptyMap());
+        }
+
+        List<ValidationError> errors = new ArrayList<>();
+        Map<String, List<ValidationError>> errorsByPath = new LinkedHashMap<>();
+        collect(context, new StringBuilder(context.getLabel()), errors, errorsByPath);
+
+        for(Map.Entry<String, List<ValidationError>> entry : errorsByPath.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+
+        return new ValidationResult(
+            context.getLabel(),
+            Collections.unmodifiableList(errors),
+            Collections.unmodifiableMap(errorsByPath));
+    }
+
+    private static void collect(ValidationContext context, StringBuilder path, List<ValidationError> errors,
+                                Map<String, List<ValidationError>> errorsByPath) {
+        int length = path.length();
+
+        List<ValidationError> contextErrors = context.getErrors();
+        for(int i = 0; i < contextErrors.size(); i++) {
+            ValidationError error = contextErrors.get(i);
+            errors.add(error);
+
+            path.append('.').append(error.getLabel());
+            errorsByPath.computeIfAbsent(path.toString(), p -> new ArrayList<>(2)).add(error);
+            path.setLength(length);
+        }
+
+        List<ValidationContext> nestedContexts = context.getNestedContexts();
+        for(int i = 0; i < nestedContexts.size(); i++) {
+            ValidationContext nestedContext = nestedContexts.get(i);
+            path.append('.').append(nestedContext.getLabel());
+            collect(nestedContext, path, errors, errorsByPath);
+            path.setLength(length);
+        }
+    }
+
+    /**
+     * @return String the label of the root context
+     */
+    public String getLabel() { return label; }
+
+    public boolean isValid() { return errors.isEmpty(); }
+    public boolean isInvalid() { return !isValid(); }
+
+    /**
+     * @return int the number of errors in the whole tree
+     */
+    public int getErrorCount() { return errors.size(); }
+
+    /**
+     * @return List every error in the tree, depth-first in the order they were added
+     */
+    public List<ValidationError> getErrors() { return errors; }
+
+    /**
+     * @param path The full path of a value (ex. order.items[3].sku)
+     * @return List the errors of the path, empty if there are none
+     */
+    public List<ValidationError> getErrors(String path) {
+        List<ValidationError> pathErrors = errorsByPath.get(path);
+        return pathErrors == null ? Collections.emptyList() : pathErrors;
+    }
+
+    /**
+     * @param path The full path of a value (ex. order.items[3].sku)
+     * @return boolean whether the path has any errors
+     */
+    public boolean hasErrors(String path) {
+        return errorsByPath.containsKey(path);
+    }
+
+    /**
+     * @return Map the errors of every path that has errors, in the order the paths were first seen
+     */
+    public Map<String, List<ValidationError>> getErrorsByPath() { return errorsByPath; }
+}
@@ -0,0 +1,52 @@
+package net.scottpullen.validation.cache;
+
+import java.time.Duration;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * Describes the bounds of a ValidatorCache
+ *
+ * <pre>
+ * CacheSpec.maximumSize(10_000).expireAfterWrite(Duration.ofMinutes(10))
+ * </pre>
+ */
+public final class CacheSpec {
+    private final int maximumSize;
+    private final Duration expireAfterWrite;
+
+    private CacheSpec(int maximumSize, Duration expireAfterWrite) {
+        this.maximumSize = maximumSize;
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    /**
+     * @param maximumSize The most values kept, the least recently used are evicted beyond it
+     * @return CacheSpec
+     */
+    public static CacheSpec maximumSize(int maximumSize) {
+        if(maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be greater than 0");
+        }
+        return new CacheSpec(maximumSize, null);
+    }
+
+    /**
+     * @param expireAfterWrite How long a result is kept after it was computed
+     * @return CacheSpec
+     */
+    public CacheSpec expireAfterWrite(Duration expireAfterWrite) {
+        require(expireAfterWrite, "expireAfterWrite required");
+        if(expireAfterWrite.isNegative() || expireAfterWrite.isZero()) {
+            throw new IllegalArgumentException("expireAfterWrite must be positive");
+        }
+        return new CacheSpec(maximumSize, expireAfterWrite);
+    }
+
+    public int getMaximumSize() { return maximumSize; }
+
+    /**
+     * @return Duration or null if results do not expire
+     */
+    public Duration getExpireAfterWrite() { return expireAfterWrite; }
+}
@@ -0,0 +1,37 @@
+package net.scottpullen.validation.cache;
+
+/**
+ * A snapshot of the counters of a ValidatorCache
+ */
+public final class CacheStats {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+
+    CacheStats(long hits, long misses, long evictions) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+
+    /**
+     * @return long the number of values evicted because of the maximum size or expiry
+     */
+    public long getEvictions() { return evictions; }
+
+    /**
+     * @return double the share of lookups that were hits, 0 if there were none
+     */
+    public double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + "}";
+    }
+}
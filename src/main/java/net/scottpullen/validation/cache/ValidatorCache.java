@@ -0,0 +1,224 @@
+package net.scottpullen.validation.cache;
+
+import net.scottpullen.validation.ValidationError;
+import net.scottpullen.validation.validators.Validator;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * Memoizes the result of an expensive Validator per input value.
+ *
+ * The cache is bounded and thread-safe: values are spread over segments that each keep their entries in least recently
+ * used order under their own lock, so lookups from different threads rarely contend. The Validator is created and
+ * run outside of any lock; two threads missing on the same value at once may both run it.
+ *
+ * A ValidatorCache is meant to be built once and shared, ex. as a static field.
+ *
+ * @param <V> The type of the values under test
+ */
+public final class ValidatorCache<V> {
+    private static final Object VALID = new Object();
+
+    private final Function<V, Validator> factory;
+    private final long expireAfterWriteNanos;
+    private final Segment[] segments;
+    private final int segmentMask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param factory A function that creates the Validator for a value
+     * @param spec CacheSpec describing the bounds of the cache
+     */
+    public ValidatorCache(Function<V, Validator> factory, CacheSpec spec) {
+        require(factory, "factory required");
+        require(spec, "spec required");
+
+        this.factory = factory;
+        this.expireAfterWriteNanos = spec.getExpireAfterWrite() == null ? 0 : spec.getExpireAfterWrite().toNanos();
+
+        int segmentCount = segmentCount(spec.getMaximumSize());
+        int capacity = (spec.getMaximumSize() + segmentCount - 1) / segmentCount;
+
+        this.segments = new Segment[segmentCount];
+        for(int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(capacity, evictions);
+        }
+        this.segmentMask = segmentCount - 1;
+    }
+
+    /**
+     * @param value The value under test
+     * @return Validator that looks the value up in the cache the first time it is asked whether it is valid
+     */
+    public Validator validator(V value) {
+        return new CachedValidator(value);
+    }
+
+    /**
+     * @return CacheStats with the current counters
+     */
+    public CacheStats getStats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    /**
+     * @return int the number of values currently cached
+     */
+    public int size() {
+        int size = 0;
+        for(Segment segment : segments) {
+            synchronized(segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Removes every cached value
+     */
+    public void invalidateAll() {
+        for(Segment segment : segments) {
+            synchronized(segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * @param value The value under test
+     * @return CachedResult of the value
+     */
+    private CachedResult lookup(V value) {
+        if(value == null) {
+            return evaluate(null, 0);
+        }
+
+        Segment segment = segments[spread(value.hashCode()) & segmentMask];
+        long now = expireAfterWriteNanos == 0 ? 0 : System.nanoTime();
+
+        synchronized(segment) {
+            CachedResult cached = segment.get(value);
+            if(cached != null) {
+                if(expireAfterWriteNanos == 0 || now - cached.writtenAt < expireAfterWriteNanos) {
+                    hits.increment();
+                    return cached;
+                }
+                segment.remove(value);
+                evictions.increment();
+            }
+        }
+
+        misses.increment();
+        CachedResult result = evaluate(value, now);
+
+        synchronized(segment) {
+            segment.put(value, result);
+        }
+        return result;
+    }
+
+    private CachedResult evaluate(V value, long now) {
+        Validator validator = factory.apply(value);
+        Object result = validator.isValid() ? VALID : validator.buildValidationError();
+        return new CachedResult(result, validator.getLabel(), validator.getKey(), now);
+    }
+
+    private static int segmentCount(int maximumSize) {
+        int wanted = Math.min(64, Runtime.getRuntime().availableProcessors() * 4);
+        int count = 1;
+        while(count < wanted && count * 2 <= maximumSize) {
+            count <<= 1;
+        }
+        return count;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * VALID or the ValidationError of a value, with the label and key of the Validator that produced it
+     */
+    private static final class CachedResult {
+        private final Object result;
+        private final String label;
+        private final String key;
+        private final long writtenAt;
+
+        private CachedResult(Object result, String label, String key, long writtenAt) {
+            this.result = result;
+            this.label = label;
+            this.key = key;
+            this.writtenAt = writtenAt;
+        }
+    }
+
+    private static final class Segment extends LinkedHashMap<Object, CachedResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+        private final LongAdder evictions;
+
+        private Segment(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, CachedResult> eldest) {
+            if(size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private final class CachedValidator implements Validator {
+        private final V value;
+        private CachedResult result;
+
+        private CachedValidator(V value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean isValid() {
+            if(result == null) {
+                result = lookup(value);
+            }
+            return result.result == VALID;
+        }
+
+        @Override
+        public boolean isInvalid() {
+            return !isValid();
+        }
+
+        @Override
+        public ValidationError buildValidationError() {
+            isValid();
+            return (ValidationError) result.result;
+        }
+
+        @Override
+        public String getLabel() {
+            return result != null ? result.label : null;
+        }
+
+        @Override
+        public String getKey() {
+            return result != null ? result.key : null;
+        }
+    }
+}
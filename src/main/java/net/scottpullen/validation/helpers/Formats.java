@@ -0,0 +1,211 @@
+package net.scottpullen.validation.helpers;
+
+/**
+ * Hand-written scanners for common formats, used in place of regular expressions
+ */
+public class Formats {
+    private static final int MAX_EMAIL_LENGTH = 254;
+    private static final int MAX_LOCAL_PART_LENGTH = 64;
+    private static final int MAX_DOMAIN_LENGTH = 253;
+    private static final int MAX_DOMAIN_LABEL_LENGTH = 63;
+
+    /**
+     * Checks for an email address in the common dot-atom form (ex. first.last+tag@example.com). Quoted local parts,
+     * comments and IP address literals are not accepted.
+     *
+     * @param s The characters under test
+     * @return boolean
+     */
+    public static boolean isEmail(CharSequence s) {
+        if(s == null || s.length() > MAX_EMAIL_LENGTH) {
+            return false;
+        }
+
+        int at = -1;
+        for(int i = 0; i < s.length(); i++) {
+            if(s.charAt(i) == '@') {
+                if(at >= 0) {
+                    return false;
+                }
+                at = i;
+            }
+        }
+
+        if(at < 1 || at > MAX_LOCAL_PART_LENGTH || s.length() - at - 1 > MAX_DOMAIN_LENGTH) {
+            return false;
+        }
+
+        return isLocalPart(s, 0, at) && isDomain(s, at + 1, s.length());
+    }
+
+    /**
+     * Checks for a UUID in its canonical form (ex. 123e4567-e89b-12d3-a456-426614174000), in either case
+     *
+     * @param s The characters under test
+     * @return boolean
+     */
+    public static boolean isUuid(CharSequence s) {
+        if(s == null || s.length() != 36) {
+            return false;
+        }
+
+        for(int i = 0; i < 36; i++) {
+            char ch = s.charAt(i);
+            if(i == 8 || i == 13 || i == 18 || i == 23) {
+                if(ch != '-') {
+                    return false;
+                }
+            } else if(!isHex(ch)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks for an ISO-8601 calendar date (yyyy-MM-dd) that exists, including leap days
+     *
+     * @param s The characters under test
+     * @return boolean
+     */
+    public static boolean isIsoDate(CharSequence s) {
+        if(s == null || s.length() != 10 || s.charAt(4) != '-' || s.charAt(7) != '-') {
+            return false;
+        }
+
+        int year = digits(s, 0, 4);
+        int month = digits(s, 5, 7);
+        int day = digits(s, 8, 10);
+        if(year < 0 || month < 1 || month > 12 || day < 1) {
+            return false;
+        }
+
+        return day <= daysInMonth(year, month);
+    }
+
+    /**
+     * Checks that every character is an ASCII character
+     *
+     * @param s The characters under test
+     * @return boolean
+     */
+    public static boolean isAscii(CharSequence s) {
+        if(s == null) {
+            return false;
+        }
+
+        for(int i = 0; i < s.length(); i++) {
+            if(s.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks that there is at least one character and that all of them are ASCII digits
+     *
+     * @param s The characters under test
+     * @return boolean
+     */
+    public static boolean isDigits(CharSequence s) {
+        if(s == null || s.length() == 0) {
+            return false;
+        }
+
+        for(int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+            if(ch < '0' || ch > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLocalPart(CharSequence s, int start, int end) {
+        if(s.charAt(start) == '.' || s.charAt(end - 1) == '.') {
+            return false;
+        }
+
+        for(int i = start; i < end; i++) {
+            char ch = s.charAt(i);
+            if(ch == '.') {
+                if(s.charAt(i - 1) == '.') {
+                    return false;
+                }
+            } else if(!isAtext(ch)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDomain(CharSequence s, int start, int end) {
+        int labels = 0;
+        int labelStart = start;
+
+        for(int i = start; i <= end; i++) {
+            if(i == end || s.charAt(i) == '.') {
+                int length = i - labelStart;
+                if(length < 1 || length > MAX_DOMAIN_LABEL_LENGTH
+                    || s.charAt(labelStart) == '-' || s.charAt(i - 1) == '-') {
+                    return false;
+                }
+                labels++;
+                labelStart = i + 1;
+            } else if(!isLetterOrDigit(s.charAt(i)) && s.charAt(i) != '-') {
+                return false;
+            }
+        }
+        return labels >= 2;
+    }
+
+    private static boolean isAtext(char ch) {
+        if(isLetterOrDigit(ch)) {
+            return true;
+        }
+
+        switch(ch) {
+            case '!': case '#': case '$': case '%': case '&': case '\'': case '*': case '+': case '/':
+            case '=': case '?': case '^': case '_': case '`': case '{': case '|': case '}': case '~': case '-':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isLetterOrDigit(char ch) {
+        return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9');
+    }
+
+    private static boolean isHex(char ch) {
+        return (ch >= '0' && ch <= '9') || (ch >= 'a' && ch <= 'f') || (ch >= 'A' && ch <= 'F');
+    }
+
+    /**
+     * @return int the value of the digits, or -1 if any character is not a digit
+     */
+    private static int digits(CharSequence s, int start, int end) {
+        int value = 0;
+        for(int i = start; i < end; i++) {
+            char ch = s.charAt(i);
+            if(ch < '0' || ch > '9') {
+                return -1;
+            }
+            value = value * 10 + (ch - '0');
+        }
+        return value;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        switch(month) {
+            case 2:
+                boolean leap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+                return leap ? 29 : 28;
+            case 4: case 6: case 9: case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+}
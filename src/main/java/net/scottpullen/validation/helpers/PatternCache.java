@@ -0,0 +1,37 @@
+package net.scottpullen.validation.helpers;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+/**
+ * A shared cache of compiled regular expressions, so a pattern given as a String is only compiled once.
+ *
+ * The cache stops growing at MAX_SIZE patterns; patterns beyond it are compiled on each use.
+ */
+public class PatternCache {
+    public static final int MAX_SIZE = 1024;
+
+    private static final ConcurrentMap<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+
+    /**
+     * @param regex A regular expression
+     * @return Pattern compiled from the regular expression
+     * @throws java.util.regex.PatternSyntaxException if the regular expression is invalid
+     */
+    public static Pattern get(String regex) {
+        ArgumentValidation.require(regex, "regex required");
+
+        Pattern pattern = PATTERNS.get(regex);
+        if(pattern == null) {
+            pattern = Pattern.compile(regex);
+            if(PATTERNS.size() < MAX_SIZE) {
+                Pattern existing = PATTERNS.putIfAbsent(regex, pattern);
+                if(existing != null) {
+                    pattern = existing;
+                }
+            }
+        }
+        return pattern;
+    }
+}
@@ -0,0 +1,203 @@
+package net.scottpullen.validation.helpers;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Scanners for UTF-8 encoded bytes, run in place without decoding them to a String.
+ *
+ * The bytes under test are those between the position and the limit of a ByteBuffer, read with absolute gets so the
+ * position of the buffer is never moved. Bytes that are not well-formed UTF-8 (ex. overlong forms, surrogates or
+ * truncated sequences) fail every check.
+ */
+public class Utf8 {
+
+    /**
+     * @param bytes The bytes under test
+     * @return boolean whether the bytes are well-formed UTF-8
+     */
+    public static boolean isWellFormed(ByteBuffer bytes) {
+        if(bytes == null) {
+            return false;
+        }
+
+        int limit = bytes.limit();
+        for(int i = bytes.position(); i < limit; ) {
+            int length = sequenceLength(bytes, i, limit);
+            if(length < 0) {
+                return false;
+            }
+            i += length;
+        }
+        return true;
+    }
+
+    /**
+     * @param bytes The bytes under test
+     * @return boolean whether the bytes are well-formed UTF-8 with at least one character that is not whitespace
+     * (see Character.isWhitespace)
+     */
+    public static boolean isNotBlank(ByteBuffer bytes) {
+        if(bytes == null) {
+            return false;
+        }
+
+        boolean text = false;
+        int limit = bytes.limit();
+        for(int i = bytes.position(); i < limit; ) {
+            int length = sequenceLength(bytes, i, limit);
+            if(length < 0) {
+                return false;
+            }
+
+            if(!text) {
+                int codePoint = length == 1 ? bytes.get(i) : codePoint(bytes, i, length);
+                text = !Character.isWhitespace(codePoint);
+            }
+            i += length;
+        }
+        return text;
+    }
+
+    /**
+     * @param bytes The bytes under test
+     * @return boolean whether every byte is an ASCII character
+     */
+    public static boolean isAscii(ByteBuffer bytes) {
+        if(bytes == null) {
+            return false;
+        }
+
+        int limit = bytes.limit();
+        for(int i = bytes.position(); i < limit; i++) {
+            if(bytes.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param bytes The bytes under test
+     * @return boolean whether there is at least one byte and every byte is an ASCII digit (0-9)
+     */
+    public static boolean isDigits(ByteBuffer bytes) {
+        if(bytes == null || !bytes.hasRemaining()) {
+            return false;
+        }
+
+        int limit = bytes.limit();
+        for(int i = bytes.position(); i < limit; i++) {
+            byte b = bytes.get(i);
+            if(b < '0' || b > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param bytes The bytes under test
+     * @return int the number of characters (UTF-16 code units, as String.length) the bytes decode to, or -1 if they
+     * are not well-formed UTF-8
+     */
+    public static int length(ByteBuffer bytes) {
+        int length = 0;
+        int limit = bytes.limit();
+        for(int i = bytes.position(); i < limit; ) {
+            int sequenceLength = sequenceLength(bytes, i, limit);
+            if(sequenceLength < 0) {
+                return -1;
+            }
+            length += sequenceLength == 4 ? 2 : 1;
+            i += sequenceLength;
+        }
+        return length;
+    }
+
+    /**
+     * Counts the bytes characters encode to without encoding them. An unpaired surrogate counts as one byte, as it is
+     * replaced with '?' by String.getBytes.
+     *
+     * @param s The characters under test
+     * @return int the number of bytes
+     */
+    public static int encodedLength(CharSequence s) {
+        int length = s.length();
+        int bytes = length;
+
+        for(int i = 0; i < length; i++) {
+            char ch = s.charAt(i);
+            if(ch < 0x80) {
+                continue;
+            }
+
+            if(ch < 0x800) {
+                bytes += 1;
+            } else if(Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                bytes += 2;
+                i++;
+            } else if(!Character.isSurrogate(ch)) {
+                bytes += 2;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * @param bytes The bytes under test
+     * @param i The index of the first byte of the sequence
+     * @param limit The index after the last byte
+     * @return int the number of bytes of the well-formed sequence at the index, or -1 (see RFC 3629)
+     */
+    private static int sequenceLength(ByteBuffer bytes, int i, int limit) {
+        int first = bytes.get(i) & 0xFF;
+        if(first < 0x80) {
+            return 1;
+        }
+
+        if(first < 0xC2) {
+            return -1;
+        }
+
+        if(first < 0xE0) {
+            return i + 1 < limit && isContinuation(bytes.get(i + 1)) ? 2 : -1;
+        }
+
+        if(first < 0xF0) {
+            if(i + 2 >= limit) {
+                return -1;
+            }
+            int second = bytes.get(i + 1) & 0xFF;
+            int min = first == 0xE0 ? 0xA0 : 0x80;
+            int max = first == 0xED ? 0x9F : 0xBF;
+            return second >= min && second <= max && isContinuation(bytes.get(i + 2)) ? 3 : -1;
+        }
+
+        if(first < 0xF5) {
+            if(i + 3 >= limit) {
+                return -1;
+            }
+            int second = bytes.get(i + 1) & 0xFF;
+            int min = first == 0xF0 ? 0x90 : 0x80;
+            int max = first == 0xF4 ? 0x8F : 0xBF;
+            return second >= min && second <= max && isContinuation(bytes.get(i + 2)) && isContinuation(bytes.get(i + 3)) ? 4 : -1;
+        }
+
+        return -1;
+    }
+
+    private static boolean isContinuation(byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+    private static int codePoint(ByteBuffer bytes, int i, int length) {
+        switch(length) {
+            case 2:
+                return (bytes.get(i) & 0x1F) << 6 | bytes.get(i + 1) & 0x3F;
+            case 3:
+                return (bytes.get(i) & 0x0F) << 12 | (bytes.get(i + 1) & 0x3F) << 6 | bytes.get(i + 2) & 0x3F;
+            default:
+                return (bytes.get(i) & 0x07) << 18 | (bytes.get(i + 1) & 0x3F) << 12 | (bytes.get(i + 2) & 0x3F) << 6 | bytes.get(i + 3) & 0x3F;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package net.scottpullen.validation.messages;
+
+/**
+ * The default messages of the built in validators. The label is always the first argument.
+ */
+public final class DefaultMessages {
+    public static final MessageTemplate PRESENCE = MessageTemplate.compile("{0} must be present");
+    public static final MessageTemplate PRESENCE_AND_NOT_EMPTY = MessageTemplate.compile("{0} must be present and not empty");
+    public static final MessageTemplate NOT_BLANK = MessageTemplate.compile("{0} cannot be blank");
+    public static final MessageTemplate GREATER_THAN = MessageTemplate.compile("{0} must be greater than {1}");
+    public static final MessageTemplate GREATER_THAN_OR_EQUAL_TO = MessageTemplate.compile("{0} must be greater than or equal to {1}");
+    public static final MessageTemplate LESS_THAN = MessageTemplate.compile("{0} must be less than {1}");
+    public static final MessageTemplate LESS_THAN_OR_EQUAL_TO = MessageTemplate.compile("{0} must be less than or equal to {1}");
+    public static final MessageTemplate BETWEEN = MessageTemplate.compile("{0} must be between {1} and {2}");
+    public static final MessageTemplate PATTERN = MessageTemplate.compile("{0} does not match the expected format");
+    public static final MessageTemplate EMAIL = MessageTemplate.compile("{0} must be a valid email address");
+    public static final MessageTemplate UUID = MessageTemplate.compile("{0} must be a valid UUID");
+    public static final MessageTemplate ISO_DATE = MessageTemplate.compile("{0} must be a date in the format yyyy-MM-dd");
+    public static final MessageTemplate DIGITS = MessageTemplate.compile("{0} must only contain digits");
+    public static final MessageTemplate MAX_LENGTH = MessageTemplate.compile("{0} must be at most {1} characters");
+    public static final MessageTemplate MAX_BYTES = MessageTemplate.compile("{0} must be at most {1} bytes");
+    public static final MessageTemplate ASCII = MessageTemplate.compile("{0} must only contain ASCII characters");
+    public static final MessageTemplate UTF8 = MessageTemplate.compile("{0} must be valid UTF-8");
+    public static final MessageTemplate ONE_OF = MessageTemplate.compile("{0} must be one of the allowed values");
+    public static final MessageTemplate NOT_IN = MessageTemplate.compile("{0} must not be {1}");
+    public static final MessageTemplate DISTINCT = MessageTemplate.compile("{0} must not contain duplicates");
+    public static final MessageTemplate TIMEOUT = MessageTemplate.compile("{0} could not be validated in time");
+    public static final MessageTemplate IN_RANGE = MessageTemplate.compile("{0} must be greater than or equal to {1} and less than {2}");
+
+    private DefaultMessages() {
+    }
+}
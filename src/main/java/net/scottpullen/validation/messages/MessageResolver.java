@@ -0,0 +1,54 @@
+package net.scottpullen.validation.messages;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * Resolves message keys to compiled MessageTemplates through a MessageSource.
+ *
+ * Each pattern is looked up and compiled once per locale and key, keys that are missing from the source are cached as
+ * well. A MessageResolver is thread-safe and is meant to be shared.
+ */
+public class MessageResolver {
+    private static final MessageTemplate MISSING = MessageTemplate.compile("");
+
+    private final MessageSource source;
+    private final ConcurrentMap<Locale, ConcurrentMap<String, MessageTemplate>> templates = new ConcurrentHashMap<>();
+
+    /**
+     * @param source MessageSource the patterns are looked up from
+     */
+    public MessageResolver(MessageSource source) {
+        require(source, "source required");
+        this.source = source;
+    }
+
+    /**
+     * @param key A string representing a message key (ex. validation.presence)
+     * @param locale The locale of the message
+     * @return MessageTemplate or null if the source has no pattern for the key
+     */
+    public MessageTemplate resolve(String key, Locale locale) {
+        require(key, "key required");
+        require(locale, "locale required");
+
+        ConcurrentMap<String, MessageTemplate> localeTemplates = templates.get(locale);
+        if(localeTemplates == null) {
+            localeTemplates = templates.computeIfAbsent(locale, l -> new ConcurrentHashMap<>());
+        }
+
+        MessageTemplate template = localeTemplates.get(key);
+        if(template == null) {
+            template = localeTemplates.computeIfAbsent(key, k -> compile(source.getPattern(k, locale)));
+        }
+
+        return template == MISSING ? null : template;
+    }
+
+    private static MessageTemplate compile(String pattern) {
+        return pattern == null ? MISSING : MessageTemplate.compile(pattern);
+    }
+}
@@ -0,0 +1,16 @@
+package net.scottpullen.validation.messages;
+
+import java.util.Locale;
+
+/**
+ * Looks up message patterns by key, ex. from your own message catalog
+ */
+@FunctionalInterface
+public interface MessageSource {
+    /**
+     * @param key A string representing a message key (ex. validation.presence)
+     * @param locale The locale of the message
+     * @return String the message pattern, or null if there is none for the key
+     */
+    String getPattern(String key, Locale locale);
+}
@@ -0,0 +1,117 @@
+package net.scottpullen.validation.messages;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * A message pattern that has been parsed once so it can be rendered many times.
+ *
+ * Arguments are referenced by index, ex. "{0} must be less than {1}". Any other text, including braces that do not
+ * wrap an index, is copied as is.
+ */
+public final class MessageTemplate {
+    private final String pattern;
+
+    /**
+     * The literal text before each argument, with the trailing text last
+     */
+    private final String[] literals;
+
+    /**
+     * The index of the argument that follows each literal
+     */
+    private final int[] argumentIndexes;
+
+    private final int literalLength;
+
+    private MessageTemplate(String pattern, String[] literals, int[] argumentIndexes) {
+        this.pattern = pattern;
+        this.literals = literals;
+        this.argumentIndexes = argumentIndexes;
+
+        int length = 0;
+        for(String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * @param pattern A message pattern (ex. "{0} must be present")
+     * @return MessageTemplate
+     */
+    public static MessageTemplate compile(String pattern) {
+        require(pattern, "pattern required");
+
+        List<String> literals = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while(i < pattern.length()) {
+            char ch = pattern.charAt(i);
+            int close = ch == '{' ? pattern.indexOf('}', i + 1) : -1;
+            int index = close > i + 1 ? parseIndex(pattern, i + 1, close) : -1;
+
+            if(index < 0) {
+                literal.append(ch);
+                i++;
+                continue;
+            }
+
+            literals.add(literal.toString());
+            indexes.add(index);
+            literal.setLength(0);
+            i = close + 1;
+        }
+        literals.add(literal.toString());
+
+        int[] argumentIndexes = new int[indexes.size()];
+        for(int j = 0; j < argumentIndexes.length; j++) {
+            argumentIndexes[j] = indexes.get(j);
+        }
+
+        return new MessageTemplate(pattern, literals.toArray(new String[0]), argumentIndexes);
+    }
+
+    public String getPattern() { return pattern; }
+
+    /**
+     * Renders the message, arguments that are missing are rendered as "null"
+     *
+     * @param args The arguments referenced by the pattern
+     * @return String
+     */
+    public String render(Object... args) {
+        if(argumentIndexes.length == 0) {
+            return literals[0];
+        }
+
+        StringBuilder sb = new StringBuilder(literalLength + 16 * argumentIndexes.length);
+        for(int i = 0; i < argumentIndexes.length; i++) {
+            int index = argumentIndexes[i];
+            sb.append(literals[i]).append(args != null && index < args.length ? args[index] : null);
+        }
+        sb.append(literals[literals.length - 1]);
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    private static int parseIndex(String pattern, int start, int end) {
+        int index = 0;
+        for(int i = start; i < end; i++) {
+            char ch = pattern.charAt(i);
+            if(ch < '0' || ch > '9' || index > 99) {
+                return -1;
+            }
+            index = index * 10 + (ch - '0');
+        }
+        return index;
+    }
+}
@@ -0,0 +1,32 @@
+package net.scottpullen.validation.messages;
+
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * A MessageSource backed by a ResourceBundle (ex. messages_en.properties)
+ */
+public class ResourceBundleMessageSource implements MessageSource {
+    private final String baseName;
+
+    /**
+     * @param baseName The base name of the resource bundle
+     */
+    public ResourceBundleMessageSource(String baseName) {
+        require(baseName, "baseName required");
+        this.baseName = baseName;
+    }
+
+    @Override
+    public String getPattern(String key, Locale locale) {
+        try {
+            ResourceBundle bundle = ResourceBundle.getBundle(baseName, locale);
+            return bundle.containsKey(key) ? bundle.getString(key) : null;
+        } catch(MissingResourceException e) {
+            return null;
+        }
+    }
+}
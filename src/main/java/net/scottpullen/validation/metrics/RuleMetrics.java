@@ -0,0 +1,113 @@
+package net.scottpullen.validation.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Evaluation and failure counts and a timing histogram for one rule (label and key).
+ *
+ * The histogram has power-of-two buckets, bucket 0 counts evaluations that took 0ns and bucket n counts evaluations
+ * that took between 2^(n-1) and 2^n - 1 nanoseconds. The last bucket also counts anything slower.
+ */
+public final class RuleMetrics {
+    public static final int BUCKETS = 40;
+
+    private final String label;
+    private final String key;
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+    RuleMetrics(String label, String key) {
+        this.label = label;
+        this.key = key;
+        for(int i = 0; i < BUCKETS; i++) {
+            histogram[i] = new LongAdder();
+        }
+    }
+
+    void record(boolean valid, long nanos) {
+        evaluations.increment();
+        if(!valid) {
+            failures.increment();
+        }
+        totalNanos.add(nanos);
+        histogram[bucket(nanos)].increment();
+    }
+
+    public String getLabel() { return label; }
+    public String getKey() { return key; }
+    public long getEvaluations() { return evaluations.sum(); }
+    public long getFailures() { return failures.sum(); }
+    public long getTotalNanos() { return totalNanos.sum(); }
+
+    /**
+     * @return double the average time of an evaluation in nanoseconds, 0 if there were none
+     */
+    public double getMeanNanos() {
+        long count = evaluations.sum();
+        return count == 0 ? 0 : (double) totalNanos.sum() / count;
+    }
+
+    /**
+     * @return long[] a snapshot of the count of each histogram bucket
+     */
+    public long[] getHistogram() {
+        long[] counts = new long[BUCKETS];
+        for(int i = 0; i < BUCKETS; i++) {
+            counts[i] = histogram[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * Estimates a percentile from the histogram, the result is the upper bound of the bucket the percentile falls in
+     *
+     * @param percentile A percentile between 0 and 100 (ex. 99.9)
+     * @return long the upper bound in nanoseconds, 0 if there were no evaluations
+     */
+    public long getPercentileNanos(double percentile) {
+        if(percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+
+        long[] counts = getHistogram();
+        long total = 0;
+        for(long count : counts) {
+            total += count;
+        }
+        if(total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for(int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if(seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    void reset() {
+        evaluations.reset();
+        failures.reset();
+        totalNanos.reset();
+        for(LongAdder bucket : histogram) {
+            bucket.reset();
+        }
+    }
+
+    static int bucket(long nanos) {
+        if(nanos <= 0) {
+            return 0;
+        }
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    private static long upperBound(int bucket) {
+        return bucket == 0 ? 0 : (1L << bucket) - 1;
+    }
+}
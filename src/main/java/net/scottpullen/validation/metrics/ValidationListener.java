@@ -0,0 +1,18 @@
+package net.scottpullen.validation.metrics;
+
+/**
+ * Notified of every rule a validation evaluates, set one with Validation.listener or Schema.Builder.listener.
+ *
+ * A listener is called on the thread that runs the validation, often many request threads at once, so it has to be
+ * thread-safe and should not block.
+ */
+@FunctionalInterface
+public interface ValidationListener {
+    /**
+     * @param label The label of the rule, or the class name of a custom Validator that does not provide one
+     * @param key The message key of the rule, null when it is not known before the rule runs
+     * @param valid Whether the rule passed
+     * @param nanos How long the rule took, in nanoseconds
+     */
+    void onEvaluated(String label, String key, boolean valid, long nanos);
+}
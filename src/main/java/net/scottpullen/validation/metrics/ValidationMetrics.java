@@ -0,0 +1,69 @@
+package net.scottpullen.validation.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A ValidationListener that keeps RuleMetrics per label and key.
+ *
+ * Counters are LongAdders, so request threads recording the same rule do not contend, and looking up a rule that has
+ * been seen before does not allocate.
+ */
+public final class ValidationMetrics implements ValidationListener {
+    private static final String NO_KEY = "";
+
+    private final ConcurrentMap<String, ConcurrentMap<String, RuleMetrics>> rules = new ConcurrentHashMap<>();
+
+    @Override
+    public void onEvaluated(String label, String key, boolean valid, long nanos) {
+        metrics(label, key).record(valid, nanos);
+    }
+
+    /**
+     * @param label The label of the rule
+     * @param key The message key of the rule, or null
+     * @return RuleMetrics for the rule, or null if it has not been evaluated
+     */
+    public RuleMetrics get(String label, String key) {
+        ConcurrentMap<String, RuleMetrics> byKey = rules.get(label);
+        return byKey == null ? null : byKey.get(key == null ? NO_KEY : key);
+    }
+
+    /**
+     * @return List of the RuleMetrics of every rule that has been evaluated
+     */
+    public List<RuleMetrics> getRules() {
+        List<RuleMetrics> all = new ArrayList<>();
+        for(ConcurrentMap<String, RuleMetrics> byKey : rules.values()) {
+            all.addAll(byKey.values());
+        }
+        return all;
+    }
+
+    /**
+     * Sets every count back to zero
+     */
+    public void reset() {
+        for(ConcurrentMap<String, RuleMetrics> byKey : rules.values()) {
+            for(RuleMetrics metrics : byKey.values()) {
+                metrics.reset();
+            }
+        }
+    }
+
+    private RuleMetrics metrics(String label, String key) {
+        ConcurrentMap<String, RuleMetrics> byKey = rules.get(label);
+        if(byKey == null) {
+            byKey = rules.computeIfAbsent(label, l -> new ConcurrentHashMap<>());
+        }
+
+        String k = key == null ? NO_KEY : key;
+        RuleMetrics metrics = byKey.get(k);
+        if(metrics == null) {
+            metrics = byKey.computeIfAbsent(k, unused -> new RuleMetrics(label, key));
+        }
+        return metrics;
+    }
+}
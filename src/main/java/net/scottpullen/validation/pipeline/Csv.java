@@ -0,0 +1,48 @@
+package net.scottpullen.validation.pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a CSV record into its fields, for use in the parser of a FileValidationPipeline
+ */
+public class Csv {
+
+    /**
+     * Splits a record on commas. Quoted fields may contain commas, newlines and doubled quotes ("").
+     *
+     * @param record A single CSV record
+     * @return List of the fields, unquoted
+     */
+    public static List<String> fields(String record) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for(int i = 0; i < record.length(); i++) {
+            char ch = record.charAt(i);
+            if(quoted) {
+                if(ch == '"') {
+                    if(i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(ch);
+                }
+            } else if(ch == '"') {
+                quoted = true;
+            } else if(ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(ch);
+            }
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,517 @@
+package net.scottpullen.validation.pipeline;
+
+import net.scottpullen.validation.Schema;
+import net.scottpullen.validation.Validation;
+import net.scottpullen.validation.ValidationContext;
+import net.scottpullen.validation.ValidationError;
+import net.scottpullen.validation.ValidationResult;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * Validates the records of a CSV or NDJSON file and splits them into a file of valid records and a file of rejected
+ * records, without reading the whole file into memory.
+ *
+ * The file is read through a FileChannel in chunks that end on a record boundary. Chunks are parsed and validated on
+ * a pool of worker threads and written in file order by a single writer, at most two chunks per worker are in flight
+ * so memory stays bounded whatever the size of the file. Valid records are copied byte for byte, ending with '\n'. Each
+ * rejected record is written as one JSON line with its record number, its errors by path and the original record:
+ *
+ * <pre>
+ * {"record":42,"errors":[{"path":"row.sku","key":"validation.blank","message":"sku cannot be blank"}],"data":"..."}
+ * </pre>
+ *
+ * A record the validation throws for is rejected with a "validation.exception" error, the other records are still
+ * validated.
+ *
+ * Records are numbered from 1 in the order they appear in the file, counting the header and blank lines. A record
+ * longer than the maximum record size is rejected with a "validation.recordSize" error and no data, the file is read
+ * again from the next newline (for CSV, even one inside a quoted field).
+ *
+ * @param <T> The type the records are parsed into
+ */
+public final class FileValidationPipeline<T> {
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+    public static final int DEFAULT_MAX_RECORD_SIZE = 16 << 20;
+
+    private static final String KEY_PARSE = "validation.parse";
+    private static final String KEY_RECORD_SIZE = "validation.recordSize";
+    private static final String KEY_EXCEPTION = "validation.exception";
+    private static final int CHUNKS_PER_THREAD = 2;
+
+    private final RecordFormat format;
+    private final Function<String, T> parser;
+    private final Function<T, ValidationContext> validator;
+    private final boolean header;
+    private final int threads;
+    private final int chunkSize;
+    private final int maxRecordSize;
+
+    private FileValidationPipeline(Builder<T> builder) {
+        this.format = builder.format;
+        this.parser = builder.parser;
+        this.validator = builder.validator;
+        this.header = builder.header;
+        this.threads = builder.threads;
+        this.chunkSize = builder.chunkSize;
+        this.maxRecordSize = builder.maxRecordSize;
+    }
+
+    /**
+     * @param format The layout of the records
+     * @param parser A function that parses the text of a record (without its newline), an exception rejects the
+     *               record with a "validation.parse" error
+     * @param <T> The type the records are parsed into
+     * @return Builder
+     */
+    public static <T> Builder<T> builder(RecordFormat format, Function<String, T> parser) {
+        return new Builder<>(format, parser);
+    }
+
+    /**
+     * @param input The file to validate, UTF-8
+     * @param valid The file the valid records are written to, replaced if it exists
+     * @param rejected The file the rejected records are written to, replaced if it exists
+     * @return PipelineResult
+     * @throws IOException if a file can not be read or written
+     */
+    public PipelineResult run(Path input, Path valid, Path rejected) throws IOException {
+        require(input, "input required");
+        require(valid, "valid required");
+        require(rejected, "rejected required");
+
+        ExecutorService workers = Executors.newFixedThreadPool(threads, runnable -> thread(runnable, "validation-pipeline-worker"));
+        ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> thread(runnable, "validation-pipeline-writer"));
+        Semaphore inFlight = new Semaphore(threads * CHUNKS_PER_THREAD);
+
+        try(FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+            FileChannel validOut = open(valid);
+            FileChannel rejectedOut = open(rejected)) {
+
+            long[] totals = new long[3];
+            CompletableFuture<Void> written = CompletableFuture.completedFuture(null);
+
+            ByteBuffer buffer = ByteBuffer.allocate(chunkSize);
+            long records = 0;
+            boolean eof = false;
+
+            while(!eof && !written.isCompletedExceptionally()) {
+                eof = in.read(buffer) < 0;
+                if(!eof && buffer.hasRemaining()) {
+                    continue;
+                }
+
+                byte[] bytes = buffer.array();
+                int length = buffer.position();
+
+                int end = 0;
+                int count = 0;
+                for(int e = format.recordEnd(bytes, 0, length); e >= 0; e = format.recordEnd(bytes, end, length)) {
+                    end = e + 1;
+                    count++;
+                }
+                if(eof && end < length) {
+                    end = length;
+                    count++;
+                }
+
+                if(count == 0 && !eof && length <= maxRecordSize + 1L) {
+                    buffer = grow(buffer, maxRecordSize);
+                    continue;
+                }
+
+                CompletableFuture<Chunk> processed;
+                if(count > 0) {
+                    byte[] chunk = Arrays.copyOf(bytes, end);
+                    long firstRecord = records + 1;
+                    records += count;
+
+                    acquire(inFlight);
+                    processed = CompletableFuture.supplyAsync(() -> process(chunk, firstRecord), workers);
+
+                    buffer.flip();
+                    buffer.position(end);
+                    buffer.compact();
+                } else if(!eof) {
+                    acquire(inFlight);
+                    processed = CompletableFuture.completedFuture(tooLong(++records));
+                    eof = skipLine(in, buffer);
+                } else {
+                    break;
+                }
+
+                written = written.thenCombineAsync(processed, (unused, result) -> {
+                    write(validOut, result.valid);
+                    write(rejectedOut, result.rejected);
+                    totals[0] += result.records;
+                    totals[1] += result.validCount;
+                    totals[2] += result.rejectedCount;
+                    return null;
+                }, writer);
+                written.whenComplete((unused, e) -> inFlight.release());
+            }
+
+            join(written);
+            return new PipelineResult(totals[0], totals[1], totals[2]);
+        } finally {
+            workers.shutdownNow();
+            writer.shutdownNow();
+        }
+    }
+
+    private Chunk process(byte[] bytes, long firstRecord) {
+        Chunk chunk = new Chunk();
+        long number = firstRecord;
+        int start = 0;
+
+        while(start < bytes.length) {
+            int newline = format.recordEnd(bytes, start, bytes.length);
+            int end = newline < 0 ? bytes.length : newline;
+            int contentEnd = end > start && bytes[end - 1] == '\r' ? end - 1 : end;
+
+            if(header && number == 1) {
+                chunk.valid.write(bytes, start, contentEnd - start);
+                chunk.valid.write('\n');
+            } else if(contentEnd - start > maxRecordSize) {
+                chunk.records++;
+                chunk.rejectedCount++;
+                writeRejected(chunk.rejected, number, recordTooLong(), null);
+            } else if(contentEnd > start) {
+                String record = new String(bytes, start, contentEnd - start, StandardCharsets.UTF_8);
+                ValidationResult result = validate(record);
+
+                chunk.records++;
+                if(result.isValid()) {
+                    chunk.validCount++;
+                    chunk.valid.write(bytes, start, contentEnd - start);
+                    chunk.valid.write('\n');
+                } else {
+                    chunk.rejectedCount++;
+                    writeRejected(chunk.rejected, number, result, record);
+                }
+            }
+
+            number++;
+            start = end + 1;
+        }
+
+        return chunk;
+    }
+
+    /**
+     * @return Chunk holding the rejection of a record longer than the maximum record size
+     */
+    private Chunk tooLong(long number) {
+        Chunk chunk = new Chunk();
+        chunk.records = 1;
+        chunk.rejectedCount = 1;
+        writeRejected(chunk.rejected, number, recordTooLong(), null);
+        return chunk;
+    }
+
+    private ValidationResult recordTooLong() {
+        return rejection(KEY_RECORD_SIZE, "record is longer than " + maxRecordSize + " bytes");
+    }
+
+    private ValidationResult validate(String record) {
+        T parsed;
+        try {
+            parsed = parser.apply(record);
+        } catch(RuntimeException e) {
+            return rejection(KEY_PARSE, message(e));
+        }
+
+        try {
+            return validator.apply(parsed).toResult();
+        } catch(RuntimeException e) {
+            return rejection(KEY_EXCEPTION, message(e));
+        }
+    }
+
+    private static String message(RuntimeException e) {
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+    }
+
+    /**
+     * @return ValidationResult of a record rejected before or instead of being validated
+     */
+    private static ValidationResult rejection(String key, String message) {
+        return new Validation("record")
+            .isValid(() -> Optional.of(new ValidationError("data", key, message)))
+            .collect();
+    }
+
+    private static void writeRejected(ByteArrayOutputStream out, long number, ValidationResult result, String record) {
+        StringBuilder json = new StringBuilder(128 + (record != null ? record.length() : 0));
+        json.append("{\"record\":").append(number).append(",\"errors\":[");
+
+        boolean first = true;
+        for(Map.Entry<String, List<ValidationError>> entry : result.getErrorsByPath().entrySet()) {
+            for(ValidationError error : entry.getValue()) {
+                if(!first) {
+                    json.append(',');
+                }
+                first = false;
+
+                json.append("{\"path\":");
+                quote(json, entry.getKey());
+                json.append(",\"key\":");
+                quote(json, error.getKey());
+                json.append(",\"message\":");
+                quote(json, error.getMessage());
+                json.append('}');
+            }
+        }
+
+        json.append("],\"data\":");
+        quote(json, record);
+        json.append("}\n");
+
+        byte[] bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static void quote(StringBuilder json, String s) {
+        if(s == null) {
+            json.append("null");
+            return;
+        }
+
+        json.append('"');
+        for(int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+            switch(ch) {
+                case '"': json.append("\\\""); break;
+                case '\\': json.append("\\\\"); break;
+                case '\n': json.append("\\n"); break;
+                case '\r': json.append("\\r"); break;
+                case '\t': json.append("\\t"); break;
+                default:
+                    if(ch < 0x20) {
+                        json.append(String.format("\\u%04x", (int) ch));
+                    } else {
+                        json.append(ch);
+                    }
+            }
+        }
+        json.append('"');
+    }
+
+    private static void write(FileChannel channel, ByteArrayOutputStream bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        try {
+            while(buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Doubles the buffer, for records longer than the chunk size, up to the maximum record size and a "\r\n" newline
+     */
+    private static ByteBuffer grow(ByteBuffer buffer, int maxRecordSize) {
+        long size = Math.min(buffer.capacity() * 2L, maxRecordSize + 2L);
+        ByteBuffer grown = ByteBuffer.allocate((int) Math.min(size, Integer.MAX_VALUE - 8));
+        buffer.flip();
+        grown.put(buffer);
+        return grown;
+    }
+
+    /**
+     * Drops the bytes of the buffer and of the file up to and including the next newline, keeping the bytes after it
+     * in the buffer
+     *
+     * @return boolean whether the end of the file was reached first
+     */
+    private static boolean skipLine(FileChannel in, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while(true) {
+            while(buffer.hasRemaining()) {
+                if(buffer.get() == '\n') {
+                    buffer.compact();
+                    return false;
+                }
+            }
+
+            buffer.clear();
+            if(in.read(buffer) < 0) {
+                return true;
+            }
+            buffer.flip();
+        }
+    }
+
+    private static void acquire(Semaphore semaphore) throws InterruptedIOException {
+        try {
+            semaphore.acquire();
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while waiting for a chunk to be written");
+        }
+    }
+
+    private static void join(CompletableFuture<Void> written) throws IOException {
+        try {
+            written.join();
+        } catch(CompletionException e) {
+            if(e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            if(e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static Thread thread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * The output of a chunk of records
+     */
+    private static final class Chunk {
+        private final ByteArrayOutputStream valid = new ByteArrayOutputStream();
+        private final ByteArrayOutputStream rejected = new ByteArrayOutputStream();
+        private long records;
+        private long validCount;
+        private long rejectedCount;
+    }
+
+    public static final class Builder<T> {
+        private final RecordFormat format;
+        private final Function<String, T> parser;
+        private Function<T, ValidationContext> validator;
+        private boolean header = false;
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+        private int maxRecordSize = DEFAULT_MAX_RECORD_SIZE;
+
+        private Builder(RecordFormat format, Function<String, T> parser) {
+            require(format, "format required");
+            require(parser, "parser required");
+
+            this.format = format;
+            this.parser = parser;
+        }
+
+        /**
+         * Validates each record with a new Validation
+         *
+         * @param label A string representing the label of the Validation of each record
+         * @param validation A function that adds validators for a record
+         * @return Builder
+         */
+        public Builder<T> validation(String label, BiConsumer<T, Validation> validation) {
+            require(label, "label required");
+            require(validation, "validation required");
+
+            this.validator = record -> {
+                Validation v = new Validation(label);
+                validation.accept(record, v);
+                return v.validate();
+            };
+            return this;
+        }
+
+        /**
+         * Validates each record with a Schema
+         *
+         * @param schema The Schema of a record
+         * @return Builder
+         */
+        public Builder<T> schema(Schema<T> schema) {
+            require(schema, "schema required");
+
+            this.validator = schema::validate;
+            return this;
+        }
+
+        /**
+         * The first record is a header, it is copied to the valid file without being validated
+         *
+         * @return Builder
+         */
+        public Builder<T> header() {
+            this.header = true;
+            return this;
+        }
+
+        /**
+         * @param threads The number of worker threads, defaults to the number of processors
+         * @return Builder
+         */
+        public Builder<T> threads(int threads) {
+            if(threads < 1) {
+                throw new IllegalArgumentException("threads must be at least 1");
+            }
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * @param chunkSize The number of bytes read at a time, defaults to 1MB. Records longer than a chunk are still
+         *                  read, the chunk grows to fit them up to the maximum record size.
+         * @return Builder
+         */
+        public Builder<T> chunkSize(int chunkSize) {
+            if(chunkSize < 1) {
+                throw new IllegalArgumentException("chunkSize must be at least 1");
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * @param maxRecordSize The number of bytes a record can have without its newline, defaults to 16MB. Longer
+         *                      records are rejected, so one unterminated quoted field or very long line does not read
+         *                      the rest of the file into memory.
+         * @return Builder
+         */
+        public Builder<T> maxRecordSize(int maxRecordSize) {
+            if(maxRecordSize < 1) {
+                throw new IllegalArgumentException("maxRecordSize must be at least 1");
+            }
+            this.maxRecordSize = maxRecordSize;
+            return this;
+        }
+
+        /**
+         * @return FileValidationPipeline
+         */
+        public FileValidationPipeline<T> build() {
+            require(validator, "validation or schema required");
+            return new FileValidationPipeline<>(this);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package net.scottpullen.validation.pipeline;
+
+/**
+ * Counts of the records of a FileValidationPipeline run
+ */
+public final class PipelineResult {
+    private final long records;
+    private final long valid;
+    private final long rejected;
+
+    PipelineResult(long records, long valid, long rejected) {
+        this.records = records;
+        this.valid = valid;
+        this.rejected = rejected;
+    }
+
+    /**
+     * @return long the number of records that were validated, the header and blank lines are not counted
+     */
+    public long getRecords() { return records; }
+    public long getValid() { return valid; }
+    public long getRejected() { return rejected; }
+}
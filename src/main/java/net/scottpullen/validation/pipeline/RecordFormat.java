@@ -0,0 +1,51 @@
+package net.scottpullen.validation.pipeline;
+
+/**
+ * The layout of the records of an import file. Records end with a newline ('\n' or "\r\n").
+ */
+public enum RecordFormat {
+    /**
+     * Comma separated values, a newline inside a quoted field does not end the record (RFC 4180)
+     */
+    CSV {
+        @Override
+        int recordEnd(byte[] bytes, int from, int to) {
+            boolean quoted = false;
+            for(int i = from; i < to; i++) {
+                byte b = bytes[i];
+                if(b == '"') {
+                    quoted = !quoted;
+                } else if(b == '\n' && !quoted) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    },
+
+    /**
+     * Newline delimited JSON, one JSON document per line
+     */
+    NDJSON {
+        @Override
+        int recordEnd(byte[] bytes, int from, int to) {
+            for(int i = from; i < to; i++) {
+                if(bytes[i] == '\n') {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    };
+
+    /**
+     * Finds the newline that ends the record starting at from. The bytes are UTF-8, a '\n' or '"' byte is never part
+     * of a multi-byte character.
+     *
+     * @param bytes The bytes of the file
+     * @param from The start of the record
+     * @param to The end of the bytes that can be scanned
+     * @return int the index of the newline, or -1 if the record does not end before to
+     */
+    abstract int recordEnd(byte[] bytes, int from, int to);
+}
@@ -0,0 +1,73 @@
+package net.scottpullen.validation.sets;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * An immutable set of ints, kept as a sorted array and searched without boxing.
+ *
+ * An IntSet is meant to be built once and shared, ex. as a static field, and is thread-safe.
+ */
+public final class IntSet {
+    private final int[] values;
+
+    private IntSet(int[] values) {
+        this.values = values;
+    }
+
+    /**
+     * @param values The values of the set, duplicates are dropped
+     * @return IntSet
+     */
+    public static IntSet of(int... values) {
+        require(values, "values required");
+
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return new IntSet(distinct(sorted));
+    }
+
+    /**
+     * @param values The values of the set, duplicates are dropped
+     * @return IntSet
+     */
+    public static IntSet of(Collection<Integer> values) {
+        require(values, "values required");
+
+        int[] sorted = new int[values.size()];
+        int i = 0;
+        for(Integer value : values) {
+            require(value, "values must not contain null");
+            sorted[i++] = value;
+        }
+        Arrays.sort(sorted);
+        return new IntSet(distinct(sorted));
+    }
+
+    /**
+     * @param value The value to look up
+     * @return boolean whether the value is in the set
+     */
+    public boolean contains(int value) {
+        return Arrays.binarySearch(values, value) >= 0;
+    }
+
+    /**
+     * @return int the number of values in the set
+     */
+    public int size() {
+        return values.length;
+    }
+
+    private static int[] distinct(int[] sorted) {
+        int count = 0;
+        for(int i = 0; i < sorted.length; i++) {
+            if(i == 0 || sorted[i] != sorted[count - 1]) {
+                sorted[count++] = sorted[i];
+            }
+        }
+        return count == sorted.length ? sorted : Arrays.copyOf(sorted, count);
+    }
+}
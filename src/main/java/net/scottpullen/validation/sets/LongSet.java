@@ -0,0 +1,73 @@
+package net.scottpullen.validation.sets;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * An immutable set of longs, kept as a sorted array and searched without boxing.
+ *
+ * An LongSet is meant to be built once and shared, ex. as a static field, and is thread-safe.
+ */
+public final class LongSet {
+    private final long[] values;
+
+    private LongSet(long[] values) {
+        this.values = values;
+    }
+
+    /**
+     * @param values The values of the set, duplicates are dropped
+     * @return LongSet
+     */
+    public static LongSet of(long... values) {
+        require(values, "values required");
+
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return new LongSet(distinct(sorted));
+    }
+
+    /**
+     * @param values The values of the set, duplicates are dropped
+     * @return LongSet
+     */
+    public static LongSet of(Collection<Long> values) {
+        require(values, "values required");
+
+        long[] sorted = new long[values.size()];
+        int i = 0;
+        for(Long value : values) {
+            require(value, "values must not contain null");
+            sorted[i++] = value;
+        }
+        Arrays.sort(sorted);
+        return new LongSet(distinct(sorted));
+    }
+
+    /**
+     * @param value The value to look up
+     * @return boolean whether the value is in the set
+     */
+    public boolean contains(long value) {
+        return Arrays.binarySearch(values, value) >= 0;
+    }
+
+    /**
+     * @return int the number of values in the set
+     */
+    public int size() {
+        return values.length;
+    }
+
+    private static long[] distinct(long[] sorted) {
+        int count = 0;
+        for(int i = 0; i < sorted.length; i++) {
+            if(i == 0 || sorted[i] != sorted[count - 1]) {
+                sorted[count++] = sorted[i];
+            }
+        }
+        return count == sorted.length ? sorted : Arrays.copyOf(sorted, count);
+    }
+}
@@ -0,0 +1,104 @@
+package net.scottpullen.validation.sets;
+
+import java.util.Collection;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * An immutable set of strings, kept in an open addressing hash table with the hash of each value alongside it, so a
+ * lookup usually compares a single value. Any CharSequence can be looked up without turning it into a String.
+ *
+ * A StringSet is meant to be built once and shared, ex. as a static field, and is thread-safe.
+ */
+public final class StringSet {
+    private final String[] table;
+    private final int[] hashes;
+    private final int mask;
+    private final int size;
+
+    private StringSet(String[] values) {
+        int capacity = Integer.highestOneBit(Math.max(2, values.length) * 2 - 1) << 1;
+        this.table = new String[capacity];
+        this.hashes = new int[capacity];
+        this.mask = capacity - 1;
+
+        int size = 0;
+        for(String value : values) {
+            require(value, "values must not contain null");
+
+            int hash = value.hashCode();
+            int i = spread(hash) & mask;
+            while(table[i] != null && !(hashes[i] == hash && table[i].equals(value))) {
+                i = (i + 1) & mask;
+            }
+            if(table[i] == null) {
+                table[i] = value;
+                hashes[i] = hash;
+                size++;
+            }
+        }
+        this.size = size;
+    }
+
+    /**
+     * @param values The values of the set, duplicates are dropped
+     * @return StringSet
+     */
+    public static StringSet of(String... values) {
+        require(values, "values required");
+        return new StringSet(values);
+    }
+
+    /**
+     * @param values The values of the set, duplicates are dropped
+     * @return StringSet
+     */
+    public static StringSet of(Collection<String> values) {
+        require(values, "values required");
+        return new StringSet(values.toArray(new String[0]));
+    }
+
+    /**
+     * @param value The value to look up, compared by its characters
+     * @return boolean whether the value is in the set, false for null
+     */
+    public boolean contains(CharSequence value) {
+        if(value == null) {
+            return false;
+        }
+
+        int hash = value instanceof String ? value.hashCode() : hash(value);
+        for(int i = spread(hash) & mask; ; i = (i + 1) & mask) {
+            String candidate = table[i];
+            if(candidate == null) {
+                return false;
+            }
+            if(hashes[i] == hash && candidate.contentEquals(value)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return int the number of values in the set
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return int the hash String.hashCode would compute for the characters
+     */
+    private static int hash(CharSequence value) {
+        int hash = 0;
+        for(int i = 0; i < value.length(); i++) {
+            hash = 31 * hash + value.charAt(i);
+        }
+        return hash;
+    }
+
+    private static int spread(int hash) {
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,52 @@
+package net.scottpullen.validation.validators;
+
+import net.scottpullen.validation.ValidationError;
+import net.scottpullen.validation.helpers.Formats;
+import net.scottpullen.validation.messages.DefaultMessages;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * Determines whether a value only contains ASCII characters. Null is invalid.
+ */
+public class AsciiValidator implements Validator {
+    private static final String DEFAULT_KEY = "validation.ascii";
+
+    private final CharSequence s;
+    private final String label;
+    private final String key;
+
+    public AsciiValidator(CharSequence s, String label, String key) {
+        require(label, "label required");
+        require(key, "key required");
+
+        this.s = s;
+        this.label = label;
+        this.key = key;
+    }
+
+    public AsciiValidator(CharSequence s, String label) {
+        this(s, label, DEFAULT_KEY);
+    }
+
+    @Override
+    public boolean isValid() {
+        return Formats.isAscii(s);
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return !isValid();
+    }
+
+    @Override
+    public ValidationError buildValidationError() {
+        return new ValidationError(label, key, DefaultMessages.ASCII, label);
+    }
+
+    @Override
+    public String getLabel() { return label; }
+
+    @Override
+    public String getKey() { return key; }
+}
@@ -0,0 +1,42 @@
+package net.scottpullen.validation.validators;
+
+import net.scottpullen.validation.messages.DefaultMessages;
+import net.scottpullen.validation.messages.MessageTemplate;
+
+/**
+ * The comparisons of the primitive comparison validators
+ */
+public enum Comparison {
+    GREATER_THAN("validation.greaterThan", DefaultMessages.GREATER_THAN),
+    GREATER_THAN_OR_EQUAL_TO("validation.greaterThanOrEqualTo", DefaultMessages.GREATER_THAN_OR_EQUAL_TO),
+    LESS_THAN("validation.lessThan", DefaultMessages.LESS_THAN),
+    LESS_THAN_OR_EQUAL_TO("validation.lessThanOrEqualTo", DefaultMessages.LESS_THAN_OR_EQUAL_TO);
+
+    private final String key;
+    private final MessageTemplate template;
+
+    Comparison(String key, MessageTemplate template) {
+        this.key = key;
+        this.template = template;
+    }
+
+    public String getKey() { return key; }
+    public MessageTemplate getTemplate() { return template; }
+
+    /**
+     * @param compared The result of comparing the value under test to the bound (ex. Integer.compare(value, bound))
+     * @return boolean whether the comparison holds
+     */
+    public boolean test(int compared) {
+        switch(this) {
+            case GREATER_THAN:
+                return compared > 0;
+            case GREATER_THAN_OR_EQUAL_TO:
+                return compared >= 0;
+            case LESS_THAN:
+                return compared < 0;
+            default:
+                return compared <= 0;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package net.scottpullen.validation.validators;
+
+import net.scottpullen.validation.ValidationError;
+import net.scottpullen.validation.helpers.Formats;
+import net.scottpullen.validation.messages.DefaultMessages;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * Determines whether a value only contains ASCII digits. Null and empty values are invalid.
+ */
+public class DigitsValidator implements Validator {
+    private static final String DEFAULT_KEY = "validation.digits";
+
+    private final CharSequence s;
+    private final String label;
+    private final String key;
+
+    public DigitsValidator(CharSequence s, String label, String key) {
+        require(label, "label required");
+        require(key, "key required");
+
+        this.s = s;
+        this.label = label;
+        this.key = key;
+    }
+
+    public DigitsValidator(CharSequence s, String label) {
+        this(s, label, DEFAULT_KEY);
+    }
+
+    @Override
+    public boolean isValid() { return Formats.isDigits(s); }
+
+    @Override
+    public boolean isInvalid() {
+        return !isValid();
+    }
+
+    @Override
+    public ValidationError buildValidationError() {
+        return new ValidationError(label, key, DefaultMessages.DIGITS, label);
+    }
+
+    @Override
+    public String getLabel() { return label; }
+
+    @Override
+    public String getKey() { return key; }
+}
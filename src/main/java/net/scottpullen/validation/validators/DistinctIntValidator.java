@@ -0,0 +1,90 @@
+package net.scottpullen.validation.validators;
+
+import net.scottpullen.validation.ValidationError;
+import net.scottpullen.validation.messages.DefaultMessages;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.ToIntFunction;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * Determines whether the elements of a collection have distinct int keys, hashed in an open addressing table of
+ * primitives so the keys are never boxed. Null is valid, use presenceAndNotEmpty to test for it. The first duplicate
+ * key is the second argument of the error.
+ *
+ * @param <T> The type of the elements
+ */
+public class DistinctIntValidator<T> implements Validator {
+    private static final String DEFAULT_KEY = "validation.distinct";
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final Collection<T> c;
+    private final ToIntFunction<? super T> keyFunction;
+    private final String label;
+    private final String key;
+    private int duplicate;
+
+    public DistinctIntValidator(Collection<T> c, ToIntFunction<? super T> keyFunction, String label, String key) {
+        require(keyFunction, "keyFunction required");
+        require(label, "label required");
+        require(key, "key required");
+
+        this.c = c;
+        this.keyFunction = keyFunction;
+        this.label = label;
+        this.key = key;
+    }
+
+    public DistinctIntValidator(Collection<T> c, ToIntFunction<? super T> keyFunction, String label) {
+        this(c, keyFunction, label, DEFAULT_KEY);
+    }
+
+    @Override
+    public boolean isValid() {
+        if(c == null || c.size() < 2) {
+            return true;
+        }
+
+        // ints are kept as longs so that a value outside of their range can mark the empty slots
+        long[] table = new long[Integer.highestOneBit(c.size() * 2 - 1) << 1];
+        Arrays.fill(table, EMPTY);
+        int mask = table.length - 1;
+
+        for(T element : c) {
+            int elementKey = keyFunction.applyAsInt(element);
+            int i = mix(elementKey) & mask;
+            while(table[i] != EMPTY) {
+                if(table[i] == elementKey) {
+                    duplicate = elementKey;
+                    return false;
+                }
+                i = (i + 1) & mask;
+            }
+            table[i] = elementKey;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return !isValid();
+    }
+
+    @Override
+    public ValidationError buildValidationError() {
+        return new ValidationError(label, key, DefaultMessages.DISTINCT, label, duplicate);
+    }
+
+    @Override
+    public String getLabel() { return label; }
+
+    @Override
+    public String getKey() { return key; }
+
+    private static int mix(int value) {
+        int hash = value * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,97 @@
+package net.scottpullen.validation.validators;
+
+import net.scottpullen.validation.ValidationError;
+import net.scottpullen.validation.messages.DefaultMessages;
+
+import java.util.Collection;
+import java.util.function.ToLongFunction;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * Determines whether the elements of a collection have distinct long keys, hashed in an open addressing table of
+ * primitives so the keys are never boxed. Null is valid, use presenceAndNotEmpty to test for it. The first duplicate
+ * key is the second argument of the error.
+ *
+ * @param <T> The type of the elements
+ */
+public class DistinctLongValidator<T> implements Validator {
+    private static final String DEFAULT_KEY = "validation.distinct";
+
+    private final Collection<T> c;
+    private final ToLongFunction<? super T> keyFunction;
+    private final String label;
+    private final String key;
+    private long duplicate;
+
+    public DistinctLongValidator(Collection<T> c, ToLongFunction<? super T> keyFunction, String label, String key) {
+        require(keyFunction, "keyFunction required");
+        require(label, "label required");
+        require(key, "key required");
+
+        this.c = c;
+        this.keyFunction = keyFunction;
+        this.label = label;
+        this.key = key;
+    }
+
+    public DistinctLongValidator(Collection<T> c, ToLongFunction<? super T> keyFunction, String label) {
+        this(c, keyFunction, label, DEFAULT_KEY);
+    }
+
+    @Override
+    public boolean isValid() {
+        if(c == null || c.size() < 2) {
+            return true;
+        }
+
+        // 0 marks the empty slots, a 0 key is tracked on its own
+        long[] table = new long[Integer.highestOneBit(c.size() * 2 - 1) << 1];
+        int mask = table.length - 1;
+        boolean zero = false;
+
+        for(T element : c) {
+            long elementKey = keyFunction.applyAsLong(element);
+            if(elementKey == 0) {
+                if(zero) {
+                    duplicate = 0;
+                    return false;
+                }
+                zero = true;
+                continue;
+            }
+
+            int i = mix(elementKey) & mask;
+            while(table[i] != 0) {
+                if(table[i] == elementKey) {
+                    duplicate = elementKey;
+                    return false;
+                }
+                i = (i + 1) & mask;
+            }
+            table[i] = elementKey;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return !isValid();
+    }
+
+    @Override
+    public ValidationError buildValidationError() {
+        return new ValidationError(label, key, DefaultMessages.DISTINCT, label, duplicate);
+    }
+
+    @Override
+    public String getLabel() { return label; }
+
+    @Override
+    public String getKey() { return key; }
+
+    private static int mix(long value) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
@@ -0,0 +1,75 @@
+package net.scottpullen.validation.validators;
+
+import net.scottpullen.validation.ValidationError;
+import net.scottpullen.validation.messages.DefaultMessages;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * Determines whether the elements of a collection have distinct keys (compared with equals). Null is valid, use
+ * presenceAndNotEmpty to test for it. The first duplicate key is the second argument of the error.
+ *
+ * @param <T> The type of the elements
+ */
+public class DistinctValidator<T> implements Validator {
+    private static final String DEFAULT_KEY = "validation.distinct";
+
+    private final Collection<T> c;
+    private final Function<? super T, ?> keyFunction;
+    private final String label;
+    private final String key;
+    private Object duplicate;
+
+    public DistinctValidator(Collection<T> c, Function<? super T, ?> keyFunction, String label, String key) {
+        require(keyFunction, "keyFunction required");
+        require(label, "label required");
+        require(key, "key required");
+
+        this.c = c;
+        this.keyFunction = keyFunction;
+        this.label = label;
+        this.key = key;
+    }
+
+    public DistinctValidator(Collection<T> c, Function<? super T, ?> keyFunction, String label) {
+        this(c, keyFunction, label, DEFAULT_KEY);
+    }
+
+    @Override
+    public boolean isValid() {
+        if(c == null || c.size() < 2) {
+            return true;
+        }
+
+        Set<Object> keys = new HashSet<>(c.size() * 4 / 3 + 1);
+        for(T element : c) {
+            Object elementKey = keyFunction.apply(element);
+            if(!keys.add(elementKey)) {
+                duplicate = elementKey;
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return !isValid();
+    }
+
+    @Override
+    public ValidationError buildValidationError() {
+        return new ValidationError(label, key, DefaultMessages.DISTINCT, label, duplicate);
+    }
+
+    @Override
+    public String getLabel() { return label; }
+
+    @Override
+    public String getKey() { return key; }
+}
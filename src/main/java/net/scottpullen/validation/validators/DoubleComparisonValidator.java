@@ -0,0 +1,56 @@
+package net.scottpullen.validation.validators;
+
+import net.scottpullen.validation.ValidationError;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * Compares a double to a bound without boxing either of them
+ *
+ * Values are compared like Double.compareTo, except that NaN fails every comparison, as it is never in range of a
+ * DoubleRangeValidator
+ */
+public class DoubleComparisonValidator implements Validator {
+    private final double value;
+    private final Comparison comparison;
+    private final double bound;
+    private final String label;
+    private final String key;
+
+    public DoubleComparisonValidator(double value, Comparison comparison, double bound, String label, String key) {
+        require(comparison, "comparison required");
+        require(label, "label required");
+        require(key, "key required");
+
+        this.value = value;
+        this.comparison = comparison;
+        this.bound = bound;
+        this.label = label;
+        this.key = key;
+    }
+
+    public DoubleComparisonValidator(double value, Comparison comparison, double bound, String label) {
+        this(value, comparison, bound, label, comparison == null ? null : comparison.getKey());
+    }
+
+    @Override
+    public boolean isValid() {
+        return !Double.isNaN(value) && !Double.isNaN(bound) && comparison.test(Double.compare(value, bound));
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return !isValid();
+    }
+
+    @Override
+    public ValidationError buildValidationError() {
+        return new ValidationError(label, key, comparison.getTemplate(), label, bound);
+    }
+
+    @Override
+    public String getLabel() { return label; }
+
+    @Override
+    public String getKey() { return key; }
+}
@@ -1,11 +1,12 @@
 package net.scottpullen.validation.validators;
 
 import net.scottpullen.validation.ValidationError;
+import net.scottpullen.validation.messages.DefaultMessages;
 
 import static net.scottpullen.validation.helpers.ArgumentValidation.require;
 
 public class GreaterThanOrEqualToValidator<T> implements Validator {
-    private static final String DEFAULT_KEY = "validation.greaterThanOrEqualTo";
+    public static final String DEFAULT_KEY = "validation.greaterThanOrEqualTo";
 
     private final Comparable<T> c;
     private final T min;
@@ -38,6 +39,12 @@ public class GreaterThanOrEqualToValidator<T> implements Validator {
 
     @Override
     public ValidationError buildValidationError() {
-        return new ValidationError(label, key, label + " must be greater than or equal to " + min);
+        return new ValidationError(label, key, DefaultMessages.GREATER_THAN_OR_EQUAL_TO, label, min);
     }
+
+    @Override
+    public String getLabel() { return label; }
+
+    @Override
+    public String getKey() { return key; }
 }
@@ -1,11 +1,12 @@
 package net.scottpullen.validation.validators;
 
 import net.scottpullen.validation.ValidationError;
+import net.scottpullen.validation.messages.DefaultMessages;
 
 import static net.scottpullen.validation.helpers.ArgumentValidation.require;
 
 public class GreaterThanValidator<T> implements Validator {
-    private static final String DEFAULT_KEY = "validation.greaterThan";
+    public static final String DEFAULT_KEY = "validation.greaterThan";
 
     private final Comparable<T> c;
     private final T min;
@@ -38,6 +39,12 @@ public class GreaterThanValidator<T> implements Validator {
 
     @Override
     public ValidationError buildValidationError() {
-        return new ValidationError(label, key, label + " must be greater than " + min);
+        return new ValidationError(label, key, DefaultMessages.GREATER_THAN, label, min);
     }
+
+    @Override
+    public String getLabel() { return label; }
+
+    @Override
+    public String getKey() { return key; }
 }
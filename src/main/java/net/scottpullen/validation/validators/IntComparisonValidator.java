@@ -0,0 +1,53 @@
+package net.scottpullen.validation.validators;
+
+import net.scottpullen.validation.ValidationError;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * Compares an int to a bound without boxing either of them
+ */
+public class IntComparisonValidator implements Validator {
+    private final int value;
+    private final Comparison comparison;
+    private final int bound;
+    private final String label;
+    private final String key;
+
+    public IntComparisonValidator(int value, Comparison comparison, int bound, String label, String key) {
+        require(comparison, "comparison required");
+        require(label, "label required");
+        require(key, "key required");
+
+        this.value = value;
+        this.comparison = comparison;
+        this.bound = bound;
+        this.label = label;
+        this.key = key;
+    }
+
+    public IntComparisonValidator(int value, Comparison comparison, int bound, String label) {
+        this(value, comparison, bound, label, comparison == null ? null : comparison.getKey());
+    }
+
+    @Override
+    public boolean isValid() {
+        return comparison.test(Integer.compare(value, bound));
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return !isValid();
+    }
+
+    @Override
+    public ValidationError buildValidationError() {
+        return new ValidationError(label, key, comparison.getTemplate(), label, bound);
+    }
+
+    @Override
+    public String getLabel() { return label; }
+
+    @Override
+    public String getKey() { return key; }
+}
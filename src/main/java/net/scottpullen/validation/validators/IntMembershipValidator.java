@@ -0,0 +1,55 @@
+package net.scottpullen.validation.validators;
+
+import net.scottpullen.validation.ValidationError;
+import net.scottpullen.validation.sets.IntSet;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * Determines whether a int is (or is not) in a prebuilt IntSet, without boxing it
+ */
+public class IntMembershipValidator implements Validator {
+    private final int value;
+    private final Membership membership;
+    private final IntSet set;
+    private final String label;
+    private final String key;
+
+    public IntMembershipValidator(int value, Membership membership, IntSet set, String label, String key) {
+        require(membership, "membership required");
+        require(set, "set required");
+        require(label, "label required");
+        require(key, "key required");
+
+        this.value = value;
+        this.membership = membership;
+        this.set = set;
+        this.label = label;
+        this.key = key;
+    }
+
+    public IntMembershipValidator(int value, Membership membership, IntSet set, String label) {
+        this(value, membership, set, label, membership == null ? null : membership.getKey());
+    }
+
+    @Override
+    public boolean isValid() {
+        return membership.test(set.contains(value));
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return !isValid();
+    }
+
+    @Override
+    public ValidationError buildValidationError() {
+        return new ValidationError(label, key, membership.getTemplate(), label, value);
+    }
+
+    @Override
+    public String getLabel() { return label; }
+
+    @Override
+    public String getKey() { return key; }
+}
@@ -0,0 +1,60 @@
+package net.scottpullen.validation.validators;
+
+import net.scottpullen.validation.ValidationError;
+import net.scottpullen.validation.messages.DefaultMessages;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * Determines whether an int is within a range without boxing. The minimum is always inclusive, the maximum is
+ * inclusive for between and exclusive for inRange.
+ */
+public class IntRangeValidator implements Validator {
+    private static final String KEY_BETWEEN = "validation.between";
+    private static final String KEY_IN_RANGE = "validation.inRange";
+
+    private final int value;
+    private final int min;
+    private final int max;
+    private final boolean maxInclusive;
+    private final String label;
+    private final String key;
+
+    public IntRangeValidator(int value, int min, int max, boolean maxInclusive, String label, String key) {
+        require(label, "label required");
+        require(key, "key required");
+
+        this.value = value;
+        this.min = min;
+        this.max = max;
+        this.maxInclusive = maxInclusive;
+        this.label = label;
+        this.key = key;
+    }
+
+    public IntRangeValidator(int value, int min, int max, boolean maxInclusive, String label) {
+        this(value, min, max, maxInclusive, label, maxInclusive ? KEY_BETWEEN : KEY_IN_RANGE);
+    }
+
+    @Override
+    public boolean isValid() {
+        int compared = Integer.compare(value, max);
+        return Integer.compare(value, min) >= 0 && (maxInclusive ? compared <= 0 : compared < 0);
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return !isValid();
+    }
+
+    @Override
+    public ValidationError buildValidationError() {
+        return new ValidationError(label, key, maxInclusive ? DefaultMessages.BETWEEN : DefaultMessages.IN_RANGE, label, min, max);
+    }
+
+    @Override
+    public String getLabel() { return label; }
+
+    @Override
+    public String getKey() { return key; }
+}
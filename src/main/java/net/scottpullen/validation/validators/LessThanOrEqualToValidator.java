@@ -1,11 +1,12 @@
 package net.scottpullen.validation.validators;
 
 import net.scottpullen.validation.ValidationError;
+import net.scottpullen.validation.messages.DefaultMessages;
 
 import static net.scottpullen.validation.helpers.ArgumentValidation.require;
 
 public class LessThanOrEqualToValidator<T> implements Validator {
-    private static final String DEFAULT_KEY = "validation.lessThanOrEqualTo";
+    public static final String DEFAULT_KEY = "validation.lessThanOrEqualTo";
 
     private final Comparable<T> c;
     private final T max;
@@ -38,6 +39,12 @@ public class LessThanOrEqualToValidator<T> implements Validator {
 
     @Override
     public ValidationError buildValidationError() {
-        return new ValidationError(label, key, label + " must be less than or equal to " + max);
+        return new ValidationError(label, key, DefaultMessages.LESS_THAN_OR_EQUAL_TO, label, max);
     }
+
+    @Override
+    public String getLabel() { return label; }
+
+    @Override
+    public String getKey() { return key; }
 }
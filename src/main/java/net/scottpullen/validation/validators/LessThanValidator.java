@@ -1,11 +1,12 @@
 package net.scottpullen.validation.validators;
 
 import net.scottpullen.validation.ValidationError;
+import net.scottpullen.validation.messages.DefaultMessages;
 
 import static net.scottpullen.validation.helpers.ArgumentValidation.require;
 
 public class LessThanValidator<T> implements Validator {
-    private static final String DEFAULT_KEY = "validation.lessThan";
+    public static final String DEFAULT_KEY = "validation.lessThan";
 
     private final Comparable<T> c;
     private final T max;
@@ -38,6 +39,12 @@ public class LessThanValidator<T> implements Validator {
 
     @Override
     public ValidationError buildValidationError() {
-        return new ValidationError(label, key, label + " must be less than " + max);
+        return new ValidationError(label, key, DefaultMessages.LESS_THAN, label, max);
     }
+
+    @Override
+    public String getLabel() { return label; }
+
+    @Override
+    public String getKey() { return key; }
 }
@@ -0,0 +1,53 @@
+package net.scottpullen.validation.validators;
+
+import net.scottpullen.validation.ValidationError;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * Compares a long to a bound without boxing either of them
+ */
+public class LongComparisonValidator implements Validator {
+    private final long value;
+    private final Comparison comparison;
+    private final long bound;
+    private final String label;
+    private final String key;
+
+    public LongComparisonValidator(long value, Comparison comparison, long bound, String label, String key) {
+        require(comparison, "comparison required");
+        require(label, "label required");
+        require(key, "key required");
+
+        this.value = value;
+        this.comparison = comparison;
+        this.bound = bound;
+        this.label = label;
+        this.key = key;
+    }
+
+    public LongComparisonValidator(long value, Comparison comparison, long bound, String label) {
+        this(value, comparison, bound, label, comparison == null ? null : comparison.getKey());
+    }
+
+    @Override
+    public boolean isValid() {
+        return comparison.test(Long.compare(value, bound));
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return !isValid();
+    }
+
+    @Override
+    public ValidationError buildValidationError() {
+        return new ValidationError(label, key, comparison.getTemplate(), label, bound);
+    }
+
+    @Override
+    public String getLabel() { return label; }
+
+    @Override
+    public String getKey() { return key; }
+}
@@ -0,0 +1,55 @@
+package net.scottpullen.validation.validators;
+
+import net.scottpullen.validation.ValidationError;
+import net.scottpullen.validation.sets.LongSet;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * Determines whether a long is (or is not) in a prebuilt LongSet, without boxing it
+ */
+public class LongMembershipValidator implements Validator {
+    private final long value;
+    private final Membership membership;
+    private final LongSet set;
+    private final String label;
+    private final String key;
+
+    public LongMembershipValidator(long value, Membership membership, LongSet set, String label, String key) {
+        require(membership, "membership required");
+        require(set, "set required");
+        require(label, "label required");
+        require(key, "key required");
+
+        this.value = value;
+        this.membership = membership;
+        this.set = set;
+        this.label = label;
+        this.key = key;
+    }
+
+    public LongMembershipValidator(long value, Membership membership, LongSet set, String label) {
+        this(value, membership, set, label, membership == null ? null : membership.getKey());
+    }
+
+    @Override
+    public boolean isValid() {
+        return membership.test(set.contains(value));
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return !isValid();
+    }
+
+    @Override
+    public ValidationError buildValidationError() {
+        return new ValidationError(label, key, membership.getTemplate(), label, value);
+    }
+
+    @Override
+    public String getLabel() { return label; }
+
+    @Override
+    public String getKey() { return key; }
+}
@@ -0,0 +1,58 @@
+package net.scottpullen.validation.validators;
+
+import net.scottpullen.validation.ValidationError;
+import net.scottpullen.validation.helpers.Utf8;
+import net.scottpullen.validation.messages.DefaultMessages;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * Determines whether a value encodes to at most a maximum number of UTF-8 bytes, without encoding it. Null is valid,
+ * use presence or notBlank to test for it.
+ */
+public class MaxBytesValidator implements Validator {
+    private static final String DEFAULT_KEY = "validation.maxBytes";
+
+    private final CharSequence s;
+    private final int max;
+    private final String label;
+    private final String key;
+
+    public MaxBytesValidator(CharSequence s, int max, String label, String key) {
+        require(label, "label required");
+        require(key, "key required");
+
+        this.s = s;
+        this.max = max;
+        this.label = label;
+        this.key = key;
+    }
+
+    public MaxBytesValidator(CharSequence s, int max, String label) {
+        this(s, max, label, DEFAULT_KEY);
+    }
+
+    @Override
+    public boolean isValid() {
+        if(s == null || s.length() * 3L <= max) {
+            return true;
+        }
+        return s.length() <= max && Utf8.encodedLength(s) <= max;
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return !isValid();
+    }
+
+    @Override
+    public ValidationError buildValidationError() {
+        return new ValidationError(label, key, DefaultMessages.MAX_BYTES, label, max);
+    }
+
+    @Override
+    public String getLabel() { return label; }
+
+    @Override
+    public String getKey() { return key; }
+}
@@ -0,0 +1,54 @@
+package net.scottpullen.validation.validators;
+
+import net.scottpullen.validation.ValidationError;
+import net.scottpullen.validation.messages.DefaultMessages;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * Determines whether a value has at most a maximum number of characters (UTF-16 code units). Null is valid, use
+ * presence or notBlank to test for it.
+ */
+public class MaxLengthValidator implements Validator {
+    private static final String DEFAULT_KEY = "validation.maxLength";
+
+    private final CharSequence s;
+    private final int max;
+    private final String label;
+    private final String key;
+
+    public MaxLengthValidator(CharSequence s, int max, String label, String key) {
+        require(label, "label required");
+        require(key, "key required");
+
+        this.s = s;
+        this.max = max;
+        this.label = label;
+        this.key = key;
+    }
+
+    public MaxLengthValidator(CharSequence s, int max, String label) {
+        this(s, max, label, DEFAULT_KEY);
+    }
+
+    @Override
+    public boolean isValid() {
+        return s == null || s.length() <= max;
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return !isValid();
+    }
+
+    @Override
+    public ValidationError buildValidationError() {
+        return new ValidationError(label, key, DefaultMessages.MAX_LENGTH, label, max);
+    }
+
+    @Override
+    public String getLabel() { return label; }
+
+    @Override
+    public String getKey() { return key; }
+}
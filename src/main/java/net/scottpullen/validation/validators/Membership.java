@@ -0,0 +1,31 @@
+package net.scottpullen.validation.validators;
+
+import net.scottpullen.validation.messages.DefaultMessages;
+import net.scottpullen.validation.messages.MessageTemplate;
+
+/**
+ * The memberships of the set validators
+ */
+public enum Membership {
+    ONE_OF("validation.oneOf", DefaultMessages.ONE_OF),
+    NOT_IN("validation.notIn", DefaultMessages.NOT_IN);
+
+    private final String key;
+    private final MessageTemplate template;
+
+    Membership(String key, MessageTemplate template) {
+        this.key = key;
+        this.template = template;
+    }
+
+    public String getKey() { return key; }
+    public MessageTemplate getTemplate() { return template; }
+
+    /**
+     * @param contained Whether the value under test is in the set
+     * @return boolean whether the membership holds
+     */
+    public boolean test(boolean contained) {
+        return this == ONE_OF ? contained : !contained;
+    }
+}
@@ -1,18 +1,19 @@
 package net.scottpullen.validation.validators;
 
 import net.scottpullen.validation.ValidationError;
+import net.scottpullen.validation.messages.DefaultMessages;
 import org.apache.commons.lang3.StringUtils;
 
 import static net.scottpullen.validation.helpers.ArgumentValidation.require;
 
 public class NotBlankValidator implements Validator {
-    private static final String DEFAULT_KEY = "validation.blank";
+    public static final String DEFAULT_KEY = "validation.blank";
 
-    private final String s;
+    private final CharSequence s;
     private final String label;
     private final String key;
 
-    public NotBlankValidator(String s, String label, String key) {
+    public NotBlankValidator(CharSequence s, String label, String key) {
         require(label, "label required");
         require(key, "key required");
 
@@ -21,7 +22,7 @@ public class NotBlankValidator implements Validator {
         this.key = key;
     }
 
-    public NotBlankValidator(String s, String label) {
+    public NotBlankValidator(CharSequence s, String label) {
         this(s, label, DEFAULT_KEY);
     }
 
@@ -35,6 +36,12 @@ public class NotBlankValidator implements Validator {
 
     @Override
     public ValidationError buildValidationError() {
-        return new ValidationError(label, key, label + " cannot be blank");
+        return new ValidationError(label, key, DefaultMessages.NOT_BLANK, label);
     }
+
+    @Override
+    public String getLabel() { return label; }
+
+    @Override
+    public String getKey() { return key; }
 }
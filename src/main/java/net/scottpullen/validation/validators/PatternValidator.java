@@ -0,0 +1,56 @@
+package net.scottpullen.validation.validators;
+
+import net.scottpullen.validation.ValidationError;
+import net.scottpullen.validation.messages.DefaultMessages;
+
+import java.util.regex.Pattern;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * Determines whether a whole value matches a compiled Pattern. Null is invalid.
+ */
+public class PatternValidator implements Validator {
+    private static final String DEFAULT_KEY = "validation.pattern";
+
+    private final CharSequence s;
+    private final Pattern pattern;
+    private final String label;
+    private final String key;
+
+    public PatternValidator(CharSequence s, Pattern pattern, String label, String key) {
+        require(pattern, "pattern required");
+        require(label, "label required");
+        require(key, "key required");
+
+        this.s = s;
+        this.pattern = pattern;
+        this.label = label;
+        this.key = key;
+    }
+
+    public PatternValidator(CharSequence s, Pattern pattern, String label) {
+        this(s, pattern, label, DEFAULT_KEY);
+    }
+
+    @Override
+    public boolean isValid() {
+        return s != null && pattern.matcher(s).matches();
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return !isValid();
+    }
+
+    @Override
+    public ValidationError buildValidationError() {
+        return new ValidationError(label, key, DefaultMessages.PATTERN, label, pattern.pattern());
+    }
+
+    @Override
+    public String getLabel() { return label; }
+
+    @Override
+    public String getKey() { return key; }
+}
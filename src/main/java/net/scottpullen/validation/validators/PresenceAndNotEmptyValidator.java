@@ -1,13 +1,14 @@
 package net.scottpullen.validation.validators;
 
 import net.scottpullen.validation.ValidationError;
+import net.scottpullen.validation.messages.DefaultMessages;
 
 import java.util.Collection;
 
 import static net.scottpullen.validation.helpers.ArgumentValidation.require;
 
 public class PresenceAndNotEmptyValidator implements Validator {
-    private static final String KEY_PRESENCE_OR_EMPTY = "validation.presenceOrEmpty";
+    public static final String DEFAULT_KEY = "validation.presenceOrEmpty";
 
     private final Collection c;
     private final String label;
@@ -23,7 +24,7 @@ public class PresenceAndNotEmptyValidator implements Validator {
     }
 
     public PresenceAndNotEmptyValidator(Collection c, String label) {
-        this(c, label, KEY_PRESENCE_OR_EMPTY);
+        this(c, label, DEFAULT_KEY);
     }
 
     @Override
@@ -38,6 +39,12 @@ public class PresenceAndNotEmptyValidator implements Validator {
 
     @Override
     public ValidationError buildValidationError() {
-        return new ValidationError(label, key, label + " must be present and not empty");
+        return new ValidationError(label, key, DefaultMessages.PRESENCE_AND_NOT_EMPTY, label);
     }
+
+    @Override
+    public String getLabel() { return label; }
+
+    @Override
+    public String getKey() { return key; }
 }
@@ -1,11 +1,12 @@
 package net.scottpullen.validation.validators;
 
 import net.scottpullen.validation.ValidationError;
+import net.scottpullen.validation.messages.DefaultMessages;
 
 import static net.scottpullen.validation.helpers.ArgumentValidation.require;
 
 public class PresenceValidator<T> implements Validator {
-    private static final String DEFAULT_KEY = "validation.presence";
+    public static final String DEFAULT_KEY = "validation.presence";
 
     private final T o;
     private final String label;
@@ -36,6 +37,12 @@ public class PresenceValidator<T> implements Validator {
 
     @Override
     public ValidationError buildValidationError() {
-        return new ValidationError(label, key, label + " must be present");
+        return new ValidationError(label, key, DefaultMessages.PRESENCE, label);
     }
+
+    @Override
+    public String getLabel() { return label; }
+
+    @Override
+    public String getKey() { return key; }
 }
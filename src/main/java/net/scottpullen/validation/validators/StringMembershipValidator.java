@@ -0,0 +1,55 @@
+package net.scottpullen.validation.validators;
+
+import net.scottpullen.validation.ValidationError;
+import net.scottpullen.validation.sets.StringSet;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * Determines whether a value is (or is not) in a prebuilt StringSet. Null is never in the set.
+ */
+public class StringMembershipValidator implements Validator {
+    private final CharSequence value;
+    private final Membership membership;
+    private final StringSet set;
+    private final String label;
+    private final String key;
+
+    public StringMembershipValidator(CharSequence value, Membership membership, StringSet set, String label, String key) {
+        require(membership, "membership required");
+        require(set, "set required");
+        require(label, "label required");
+        require(key, "key required");
+
+        this.value = value;
+        this.membership = membership;
+        this.set = set;
+        this.label = label;
+        this.key = key;
+    }
+
+    public StringMembershipValidator(CharSequence value, Membership membership, StringSet set, String label) {
+        this(value, membership, set, label, membership == null ? null : membership.getKey());
+    }
+
+    @Override
+    public boolean isValid() {
+        return membership.test(set.contains(value));
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return !isValid();
+    }
+
+    @Override
+    public ValidationError buildValidationError() {
+        return new ValidationError(label, key, membership.getTemplate(), label, value == null ? null : value.toString());
+    }
+
+    @Override
+    public String getLabel() { return label; }
+
+    @Override
+    public String getKey() { return key; }
+}
@@ -0,0 +1,67 @@
+package net.scottpullen.validation.validators;
+
+import net.scottpullen.validation.helpers.Utf8;
+import net.scottpullen.validation.messages.DefaultMessages;
+import net.scottpullen.validation.messages.MessageTemplate;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The checks of the UTF-8 validator. Every check fails for bytes that are not well-formed UTF-8.
+ */
+public enum Utf8Check {
+    WELL_FORMED("validation.utf8", DefaultMessages.UTF8),
+    NOT_BLANK("validation.blank", DefaultMessages.NOT_BLANK),
+    ASCII("validation.ascii", DefaultMessages.ASCII),
+    DIGITS("validation.digits", DefaultMessages.DIGITS),
+    MAX_LENGTH("validation.maxLength", DefaultMessages.MAX_LENGTH),
+    MAX_BYTES("validation.maxBytes", DefaultMessages.MAX_BYTES);
+
+    private final String key;
+    private final MessageTemplate template;
+
+    Utf8Check(String key, MessageTemplate template) {
+        this.key = key;
+        this.template = template;
+    }
+
+    public String getKey() { return key; }
+    public MessageTemplate getTemplate() { return template; }
+
+    /**
+     * @return boolean whether the check compares the bytes to a maximum
+     */
+    public boolean hasMax() {
+        return this == MAX_LENGTH || this == MAX_BYTES;
+    }
+
+    /**
+     * @param bytes The bytes between the position and the limit of the buffer are tested, the position is not moved
+     * @param max The maximum of MAX_LENGTH (in characters) and MAX_BYTES, ignored by the other checks
+     * @return boolean whether the check holds. Null only passes the MAX_LENGTH and MAX_BYTES checks.
+     */
+    public boolean test(ByteBuffer bytes, int max) {
+        if(bytes == null) {
+            return hasMax();
+        }
+
+        switch(this) {
+            case WELL_FORMED:
+                return Utf8.isWellFormed(bytes);
+            case NOT_BLANK:
+                return Utf8.isNotBlank(bytes);
+            case ASCII:
+                return Utf8.isAscii(bytes);
+            case DIGITS:
+                return Utf8.isDigits(bytes);
+            case MAX_LENGTH:
+                if(bytes.remaining() <= max) {
+                    return Utf8.isWellFormed(bytes);
+                }
+                int length = Utf8.length(bytes);
+                return length >= 0 && length <= max;
+            default:
+                return bytes.remaining() <= max && Utf8.isWellFormed(bytes);
+        }
+    }
+}
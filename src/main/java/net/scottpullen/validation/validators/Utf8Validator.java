@@ -0,0 +1,67 @@
+package net.scottpullen.validation.validators;
+
+import net.scottpullen.validation.ValidationError;
+
+import java.nio.ByteBuffer;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * Tests UTF-8 encoded bytes in place, without decoding or copying them. The bytes between the position and the limit
+ * of the buffer are tested when the validator runs, the position is not moved.
+ */
+public class Utf8Validator implements Validator {
+    private final ByteBuffer bytes;
+    private final Utf8Check check;
+    private final int max;
+    private final String label;
+    private final String key;
+
+    public Utf8Validator(ByteBuffer bytes, Utf8Check check, int max, String label, String key) {
+        require(check, "check required");
+        require(label, "label required");
+        require(key, "key required");
+
+        this.bytes = bytes;
+        this.check = check;
+        this.max = max;
+        this.label = label;
+        this.key = key;
+    }
+
+    public Utf8Validator(ByteBuffer bytes, Utf8Check check, int max, String label) {
+        this(bytes, check, max, label, check == null ? null : check.getKey());
+    }
+
+    public Utf8Validator(ByteBuffer bytes, Utf8Check check, String label, String key) {
+        this(bytes, check, 0, label, key);
+    }
+
+    public Utf8Validator(ByteBuffer bytes, Utf8Check check, String label) {
+        this(bytes, check, 0, label);
+    }
+
+    @Override
+    public boolean isValid() {
+        return check.test(bytes, max);
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return !isValid();
+    }
+
+    @Override
+    public ValidationError buildValidationError() {
+        if(check.hasMax()) {
+            return new ValidationError(label, key, check.getTemplate(), label, max);
+        }
+        return new ValidationError(label, key, check.getTemplate(), label);
+    }
+
+    @Override
+    public String getLabel() { return label; }
+
+    @Override
+    public String getKey() { return key; }
+}
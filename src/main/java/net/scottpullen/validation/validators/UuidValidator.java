@@ -0,0 +1,50 @@
+package net.scottpullen.validation.validators;
+
+import net.scottpullen.validation.ValidationError;
+import net.scottpullen.validation.helpers.Formats;
+import net.scottpullen.validation.messages.DefaultMessages;
+
+import static net.scottpullen.validation.helpers.ArgumentValidation.require;
+
+/**
+ * Determines whether a value is a UUID in its canonical form. Null is invalid.
+ */
+public class UuidValidator implements Validator {
+    private static final String DEFAULT_KEY = "validation.uuid";
+
+    private final CharSequence s;
+    private final String label;
+    private final String key;
+
+    public UuidValidator(CharSequence s, String label, String key) {
+        require(label, "label required");
+        require(key, "key required");
+
+        this.s = s;
+        this.label = label;
+        this.key = key;
+    }
+
+    public UuidValidator(CharSequence s, String label) {
+        this(s, label, DEFAULT_KEY);
+    }
+
+    @Override
+    public boolean isValid() { return Formats.isUuid(s); }
+
+    @Override
+    public boolean isInvalid() {
+        return !isValid();
+    }
+
+    @Override
+    public ValidationError buildValidationError() {
+        return new ValidationError(label, key, DefaultMessages.UUID, label);
+    }
+
+    @Override
+    public String getLabel() { return label; }
+
+    @Override
+    public String getKey() { return key; }
+}
@@ -29,4 +29,18 @@ public interface Validator {
      * @return ValidationError
      */
     ValidationError buildValidationError();
+
+    /**
+     * The label of the value under test, reported to a ValidationListener
+     *
+     * @return String the label, or null if it is not known before the Validator runs
+     */
+    default String getLabel() { return null; }
+
+    /**
+     * The message key of the validator, reported to a ValidationListener
+     *
+     * @return String the key, or null if it is not known before the Validator runs
+     */
+    default String getKey() { return null; }
 }
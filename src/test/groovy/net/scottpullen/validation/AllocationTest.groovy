@@ -0,0 +1,24 @@
+package net.scottpullen.validation
+
+import spock.lang.Requires
+import spock.lang.Specification
+
+@Requires({ AllocationMeter.isSupported() })
+class AllocationTest extends Specification {
+    static final int ITERATIONS = 10000
+
+    void "validating a valid Validation allocates nothing"() {
+        expect:
+        AllocationMeter.measure(HappyPath.validatePrebuilt(), ITERATIONS) == 0
+    }
+
+    void "a valid Validation allocates nothing beyond what building it allocates"() {
+        when:
+        long build = AllocationMeter.measure(HappyPath.build(), ITERATIONS)
+        long buildAndValidate = AllocationMeter.measure(HappyPath.buildAndValidate(), ITERATIONS)
+
+        then:
+        build > 0
+        buildAndValidate == build
+    }
+}
@@ -0,0 +1,113 @@
+package net.scottpullen.validation
+
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.function.BiConsumer
+import java.util.function.Supplier
+
+class AsyncValidationTest extends Specification {
+    ExecutorService executor = Executors.newFixedThreadPool(8)
+
+    void cleanup() {
+        executor.shutdownNow()
+    }
+
+    /**
+     * A stub backend check that answers after some latency
+     */
+    Supplier<CompletableFuture<Optional<ValidationError>>> stub(long latencyMillis, String failingLabel) {
+        return {
+            CompletableFuture.supplyAsync({
+                Thread.sleep(latencyMillis)
+                return failingLabel == null
+                    ? Optional.empty()
+                    : Optional.of(new ValidationError(failingLabel, "validation.taken", failingLabel + " is taken"))
+            } as Supplier, executor)
+        } as Supplier
+    }
+
+    void "#validateAsync runs the checks in parallel"() {
+        given:
+        long start = System.nanoTime()
+
+        when:
+        ValidationContext context = new Validation("user")
+            .presence("name", "name")
+            .isValidAsync("email", stub(300, "email"))
+            .isValidAsync("username", stub(300, null))
+            .isValid("address", "address", { String a, Validation v ->
+                v.isValidAsync("postcode", stub(300, "postcode"))
+            } as BiConsumer)
+            .validateAsync(executor)
+            .get(5, TimeUnit.SECONDS)
+
+        then:
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 850
+        context.errors*.label == ["email"]
+        context.errors.first().message == "email is taken"
+        context.nestedContexts.first().errors*.label == ["postcode"]
+    }
+
+    void "#isValidAsync with a timeout"() {
+        when:
+        ValidationContext context = new Validation("user")
+            .isValidAsync("slow", stub(2000, null), Duration.ofMillis(100))
+            .isValidAsync("fast", stub(10, "fast"), Duration.ofMillis(1000))
+            .validateAsync(executor)
+            .get(5, TimeUnit.SECONDS)
+
+        then:
+        context.errors*.label == ["slow", "fast"]
+        context.errors*.key == ["validation.timeout", "validation.taken"]
+        context.errors.first().message == "slow could not be validated in time"
+    }
+
+    void "#validateAsync with an overall timeout"() {
+        when:
+        ValidationContext context = new Validation("user")
+            .isValidAsync("slow", stub(2000, null))
+            .isValidAsync("fast", stub(10, null))
+            .validateAsync(executor, Duration.ofMillis(200))
+            .get(5, TimeUnit.SECONDS)
+
+        then:
+        context.errors*.label == ["slow"]
+        context.errors*.key == ["validation.timeout"]
+    }
+
+    void "#validateAsync skips the checks when failFast stops first"() {
+        given:
+        Supplier<CompletableFuture<Optional<ValidationError>>> check = Mock()
+
+        when:
+        ValidationContext context = new Validation("user")
+            .failFast()
+            .presence(null, "name")
+            .isValidAsync("email", check)
+            .validateAsync(executor)
+            .get(5, TimeUnit.SECONDS)
+
+        then:
+        0 * check.get()
+        context.errors*.label == ["name"]
+    }
+
+    void "#validateAsync with elements"() {
+        when:
+        ValidationContext context = new Validation("order")
+            .eachElement(["a", "b"], "items", { String item, Validation v ->
+                v.isValidAsync("sku", stub(50, item == "b" ? "sku" : null))
+            } as BiConsumer)
+            .validateAsync(executor)
+            .get(5, TimeUnit.SECONDS)
+
+        then:
+        context.isInvalid()
+        context.nestedContexts.find { it.label == "items[1]" }.errors*.label == ["sku"]
+    }
+}
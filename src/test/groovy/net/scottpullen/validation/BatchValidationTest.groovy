@@ -0,0 +1,83 @@
+package net.scottpullen.validation
+
+import spock.lang.Specification
+
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.function.BiConsumer
+import java.util.function.Function
+
+class BatchValidationTest extends Specification {
+
+    void "#validateAll indexes failures by position"() {
+        given:
+        List<Simple> simples = (0..<1000).collect { int i -> new Simple(i % 100 == 7 ? null : "Test" + i) }
+
+        when:
+        BatchValidationResult result = Validation.validateAll(simples, "simple", { Simple s, Validation v ->
+            v.presence(s.name, "name")
+        } as BiConsumer)
+
+        then:
+        result.size() == 1000
+        result.isInvalid()
+        result.failureCount == 10
+        result.failedIndexes as List == (0..<10).collect { int i -> i * 100 + 7 }
+        result.getFailure(507).label == "simple"
+        result.getFailure(507).errors.first().key == "validation.presence"
+        result.getFailure(508) == null
+        result.failures.size() == 10
+    }
+
+    void "#validateAll on an executor"() {
+        given:
+        ExecutorService executor = Executors.newFixedThreadPool(4)
+        Set<Simple> simples = new LinkedHashSet<>((0..<500).collect { int i -> new Simple(i == 499 ? "" : "Test") })
+
+        when:
+        BatchValidationResult result = Validation.validateAll(simples, "simple", { Simple s, Validation v ->
+            v.notBlank(s.name, "name")
+        } as BiConsumer, executor)
+
+        then:
+        result.failedIndexes as List == [499]
+
+        cleanup:
+        executor.shutdown()
+    }
+
+    void "#validateAll with a schema"() {
+        given:
+        Schema<Simple> schema = Schema.<Simple>builder("simple")
+            .presence({ Simple s -> s.name } as Function, "name")
+            .build()
+
+        when:
+        BatchValidationResult valid = Validation.validateAll([new Simple("a"), new Simple("b")], schema)
+        BatchValidationResult invalid = Validation.validateAll([new Simple("a"), new Simple(null)], schema)
+        BatchValidationResult empty = Validation.validateAll([], schema)
+
+        then:
+        valid.isValid()
+        valid.failures.isEmpty()
+        invalid.failedIndexes as List == [1]
+        empty.size() == 0
+        empty.isValid()
+    }
+
+    void "#validateAll propagates exceptions"() {
+        given:
+        ExecutorService executor = Executors.newSingleThreadExecutor()
+
+        when:
+        Validation.validateAll([new Simple("a")], "simple", { Simple s, Validation v ->
+            throw new IllegalStateException("boom")
+        } as BiConsumer, executor)
+
+        then:
+        thrown IllegalStateException
+
+        cleanup:
+        executor.shutdown()
+    }
+}
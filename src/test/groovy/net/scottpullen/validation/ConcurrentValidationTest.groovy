@@ -0,0 +1,85 @@
+package net.scottpullen.validation
+
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.function.BiConsumer
+import java.util.function.Supplier
+
+class ConcurrentValidationTest extends Specification {
+
+    void "many threads add to the same Validation"() {
+        given:
+        int threads = 8
+        int rules = 10000
+        Validation validation = Validation.concurrent("payload")
+        ExecutorService executor = Executors.newFixedThreadPool(threads)
+        CountDownLatch start = new CountDownLatch(1)
+
+        when:
+        List<Future> futures = (0..<threads).collect { int t ->
+            executor.submit {
+                start.await()
+                rules.times { int i ->
+                    validation.notBlank(i % 2 == 0 ? "" : "value", "field" + t + "-" + i)
+
+                    if(i % 100 == 0) {
+                        validation.isValid(i, "part" + t, { Integer n, Validation v ->
+                            v.presence(null, "nested" + t)
+                        } as BiConsumer)
+                    }
+
+                    if(i % 1000 == 0) {
+                        validation.isValid({ Optional.of(new ValidationError("supplied" + t, "k", "m")) } as Supplier)
+                    }
+                }
+            }
+        }
+        start.countDown()
+        futures*.get()
+
+        ValidationResult result = validation.validate().toResult()
+
+        then:
+        result.errorCount == threads * (rules / 2 + rules / 100 + rules / 1000)
+        (0..<threads).every { int t ->
+            List<String> labels = result.errors*.label.findAll { it.startsWith("field" + t + "-") }
+            labels == (0..<rules).findAll { it % 2 == 0 }.collect { "field" + t + "-" + it }
+        }
+
+        cleanup:
+        executor.shutdown()
+    }
+
+    void "nested contexts of a concurrent Validation are concurrent"() {
+        when:
+        ValidationContext context = Validation.concurrent("payload")
+            .isValid("part", "part", { String p, Validation v -> v.notBlank("", "name") } as BiConsumer)
+            .validate()
+
+        then:
+        context.nestedContexts.first() instanceof ConcurrentValidationContext
+        context.nestedContexts.first().errors*.label == ["name"]
+        context.isInvalid()
+    }
+
+    void "matches the single-threaded Validation"() {
+        when:
+        ValidationContext concurrent = Validation.concurrent("order")
+            .presence(null, "id")
+            .notBlank("", "name")
+            .greaterThan(0, 1, "quantity")
+            .validate()
+        ValidationContext plain = new Validation("order")
+            .presence(null, "id")
+            .notBlank("", "name")
+            .greaterThan(0, 1, "quantity")
+            .validate()
+
+        then:
+        concurrent.errors*.message == plain.errors*.message
+    }
+}
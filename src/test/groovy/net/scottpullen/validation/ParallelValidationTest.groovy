@@ -0,0 +1,64 @@
+package net.scottpullen.validation
+
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.ForkJoinPool
+import java.util.function.BiConsumer
+
+class ParallelValidationTest extends Specification {
+
+    @Shared
+    ForkJoinPool pool = new ForkJoinPool(4)
+
+    void cleanupSpec() {
+        pool.shutdown()
+    }
+
+    void "#validateParallel matches the sequential run"() {
+        when:
+        ValidationResult sequential = document(3000).validate().toResult()
+        ValidationResult parallel = document(3000).validateParallel(pool).toResult()
+
+        then:
+        parallel.errorCount == sequential.errorCount
+        parallel.errorsByPath.keySet() as List == sequential.errorsByPath.keySet() as List
+        parallel.errors.collect { it.label + it.key } == sequential.errors.collect { it.label + it.key }
+    }
+
+    void "#validateParallel of a small tree"() {
+        when:
+        ValidationContext context = document(10).validateParallel(pool)
+
+        then:
+        context.errors*.label == ["title"]
+        context.toResult().errorCount == document(10).validate().toResult().errorCount
+    }
+
+    void "#validateParallel with failFast stops at the first failure"() {
+        when:
+        ValidationContext context = document(3000).failFast().validateParallel(pool)
+
+        then:
+        context.toResult().errorCount == 1
+    }
+
+    private static Validation document(int sections) {
+        Validation validation = new Validation("document").notBlank("", "title")
+
+        sections.times { int i ->
+            validation.isValid(i, "sections[" + i + "]", { Integer n, Validation v ->
+                v.presence(n % 3 == 0 ? null : n, "heading")
+                 .greaterThan(n, n % 5, "number")
+
+                if(n % 7 == 0) {
+                    v.isValid(n, "footnote", { Integer f, Validation fv ->
+                        fv.notBlank(f % 2 == 0 ? "" : "note", "text")
+                    } as BiConsumer)
+                }
+            } as BiConsumer)
+        }
+
+        return validation
+    }
+}
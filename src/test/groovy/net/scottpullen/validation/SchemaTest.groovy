@@ -0,0 +1,201 @@
+package net.scottpullen.validation
+
+import spock.lang.Specification
+
+import java.util.function.Function
+import java.util.function.Predicate
+
+class SchemaTest extends Specification {
+
+    void "#validate"() {
+        given:
+        Schema<Simple> schema = Schema.<Simple>builder("simple")
+            .presence({ Simple s -> s.name } as Function, "name")
+            .notBlank({ Simple s -> s.name } as Function, "name")
+            .build()
+
+        when: 'the instance is valid'
+        ValidationContext context1 = schema.validate(new Simple("Test"))
+
+        then:
+        context1.label == "simple"
+        !context1.isInvalid()
+
+        when: 'the instance is invalid'
+        ValidationContext context2 = schema.validate(new Simple(null))
+
+        then:
+        context2.isInvalid()
+        context2.errors.size() == 2
+        context2.errors*.key == ["validation.presence", "validation.blank"]
+        context2.errors*.message == ["name must be present", "name cannot be blank"]
+
+        when: 'the schema is reused with an action'
+        schema.validate(new Simple(""), Validation.&andThrow)
+
+        then:
+        ValidationException ex = thrown()
+        ex.context.errors.size() == 1
+        ex.context.errors.first().label == "name"
+    }
+
+    void "#validate matches Validation output"() {
+        given:
+        Integer count = 5
+
+        Schema<Integer> schema = Schema.<Integer>builder("count")
+            .greaterThan({ Integer i -> i } as Function, 5, "count")
+            .greaterThanOrEqualTo({ Integer i -> i } as Function, 6, "count", "my.key")
+            .lessThan({ Integer i -> i } as Function, 5, "count")
+            .lessThanOrEqualTo({ Integer i -> i } as Function, 4, "count")
+            .build()
+
+        when:
+        ValidationContext fromSchema = schema.validate(count)
+        ValidationContext fromValidation = new Validation("count")
+            .greaterThan(count, 5, "count")
+            .greaterThanOrEqualTo(count, 6, "count", "my.key")
+            .lessThan(count, 5, "count")
+            .lessThanOrEqualTo(count, 4, "count")
+            .validate()
+
+        then:
+        fromSchema.errors*.label == fromValidation.errors*.label
+        fromSchema.errors*.key == fromValidation.errors*.key
+        fromSchema.errors*.message == fromValidation.errors*.message
+    }
+
+    void "#presenceAndNotEmpty"() {
+        given:
+        Schema<Complex> schema = Schema.<Complex>builder("complex")
+            .presenceAndNotEmpty({ Complex c -> c.simples } as Function, "simples")
+            .build()
+
+        expect:
+        schema.validate(new Complex(null)).errors.first().key == "validation.presenceOrEmpty"
+        schema.validate(new Complex([])).isInvalid()
+        !schema.validate(new Complex([new Simple("Test")])).isInvalid()
+    }
+
+    void "#rule"() {
+        given:
+        Schema<Simple> schema = Schema.<Simple>builder("custom")
+            .rule({ Simple s -> s.name == "Test" } as Predicate,
+                  { Simple s -> new ValidationError("name", "validation.custom", "name must be Test") } as Function)
+            .build()
+
+        expect:
+        !schema.validate(new Simple("Test")).isInvalid()
+        schema.validate(new Simple("Other")).errors.first().key == "validation.custom"
+    }
+
+    void "#nested"() {
+        given:
+        Schema<Simple> simpleSchema = Schema.<Simple>builder("simple")
+            .presence({ Simple s -> s.name } as Function, "name")
+            .build()
+
+        Schema<Complex> schema = Schema.<Complex>builder("complex")
+            .nested({ Complex c -> c.simples.first() } as Function, simpleSchema)
+            .build()
+
+        when:
+        ValidationContext context = schema.validate(new Complex([new Simple(null)]))
+
+        then:
+        context.isInvalid()
+        context.errors.isEmpty()
+        context.nestedContexts.size() == 1
+        context.nestedContexts.first().label == "simple"
+        context.nestedContexts.first().errors.first().message == "name must be present"
+    }
+
+    void "#failFast"() {
+        given:
+        Schema<Simple> schema = Schema.<Simple>builder("simple")
+            .failFast()
+            .presence({ Simple s -> s.name } as Function, "name")
+            .notBlank({ Simple s -> s.name } as Function, "name")
+            .build()
+
+        when:
+        ValidationContext context = schema.validate(new Simple(null))
+
+        then:
+        context.errors*.key == ["validation.presence"]
+    }
+
+    void "#adaptive runs cheap, failing rules first in failFast mode"() {
+        given:
+        Schema<String> schema = Schema.<String>builder("sku")
+            .failFast()
+            .adaptive()
+            .rule({ String s -> (1..2000).sum() > 0 } as Predicate,
+                  { String s -> new ValidationError("sku", "validation.slow", "slow") } as Function)
+            .rule({ String s -> s.length() > 100 } as Predicate,
+                  { String s -> new ValidationError("sku", "validation.long", "long") } as Function)
+            .rule({ String s -> true } as Predicate,
+                  { String s -> new ValidationError("sku", "validation.never", "never") } as Function)
+            .build()
+
+        expect:
+        schema.getRuleOrder() == [0, 1, 2] as int[]
+
+        when:
+        20000.times { schema.validate("A-1") }
+
+        then:
+        schema.getRuleOrder() == [1, 2, 0] as int[]
+        schema.validate("A-1").errors*.key == ["validation.long"]
+    }
+
+    void "#adaptive sampled runs skip rules that throw after the first failure"() {
+        given:
+        Schema<String> schema = Schema.<String>builder("sku")
+            .failFast()
+            .adaptive()
+            .rule({ String s -> s != null } as Predicate,
+                  { String s -> new ValidationError("sku", "validation.presence", "missing") } as Function)
+            .rule({ String s -> s.length() < 32 } as Predicate,
+                  { String s -> new ValidationError("sku", "validation.maxLength", "long") } as Function)
+            .build()
+
+        when:
+        List<ValidationContext> contexts = (1..1000).collect { schema.validate(null) }
+
+        then:
+        notThrown NullPointerException
+        contexts.every { it.errors*.key == ["validation.presence"] }
+    }
+
+    void "#adaptive keeps nested schemas in place and the declared order for full runs"() {
+        given:
+        Schema<Simple> simpleSchema = Schema.<Simple>builder("simple")
+            .presence({ Simple s -> s.name } as Function, "name")
+            .build()
+
+        Schema<Complex> schema = Schema.<Complex>builder("complex")
+            .adaptive()
+            .presence({ Complex c -> "present" } as Function, "first")
+            .presenceAndNotEmpty({ Complex c -> c.simples } as Function, "simples")
+            .nested({ Complex c -> c.simples?.first() } as Function, simpleSchema)
+            .presence({ Complex c -> null } as Function, "last")
+            .build()
+
+        when:
+        ValidationContext context = schema.validate(new Complex([new Simple(null)]))
+
+        then:
+        context.errors*.label == ["last"]
+        context.nestedContexts.first().errors*.label == ["name"]
+        schema.getRuleOrder() == [0, 1, 2, 3] as int[]
+    }
+
+    void "#builder requires a label"() {
+        when:
+        Schema.builder(null)
+
+        then:
+        thrown IllegalArgumentException
+    }
+}
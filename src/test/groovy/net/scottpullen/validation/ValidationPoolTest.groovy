@@ -0,0 +1,84 @@
+package net.scottpullen.validation
+
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.function.BiConsumer
+import java.util.function.Consumer
+
+class ValidationPoolTest extends Specification {
+
+    void "reuses the Validation of a thread once it is released"() {
+        given:
+        ValidationPool pool = new ValidationPool("order", { Validation v -> v.failFast() } as Consumer)
+
+        when:
+        Validation first = pool.acquire()
+        ValidationContext context = first
+            .notBlank("", "name")
+            .notBlank("", "description")
+            .validate()
+
+        then: 'the setup is applied'
+        context.errors*.label == ["name"]
+
+        when:
+        Validation nested = pool.acquire()
+        pool.release(first)
+        Validation second = pool.acquire()
+
+        then: 'a Validation in use is not handed out again'
+        !nested.is(first)
+        second.is(first)
+
+        and: 'the released Validation was reset, failFast is kept'
+        second.validate().errors.isEmpty()
+        second.notBlank("", "a").notBlank("", "b").validate().errors*.label == ["a"]
+    }
+
+    void "reuses the contexts of nested validations with the same labels"() {
+        given:
+        ValidationPool pool = new ValidationPool("order")
+        BiConsumer<Integer, Validation> rules = { Integer quantity, Validation v ->
+            v.greaterThan(quantity, 0, "quantity")
+        } as BiConsumer
+
+        when:
+        Validation validation = pool.acquire()
+        ValidationContext line = validation.isValid(0, "line", rules).validate().nestedContexts[0]
+        pool.release(validation)
+
+        validation = pool.acquire()
+        ValidationContext context = validation.isValid(1, "line", rules).validate()
+
+        then:
+        context.nestedContexts[0].is(line)
+        !context.isInvalid()
+    }
+
+    void "keeps a Validation per thread"() {
+        given:
+        ValidationPool pool = new ValidationPool("order")
+        ExecutorService executor = Executors.newFixedThreadPool(4)
+
+        when:
+        List<Integer> counts = executor.invokeAll((0..<100).collect { int i ->
+            { ->
+                Validation validation = pool.acquire()
+                try {
+                    return validation.notBlank(i % 2 == 0 ? "" : "x", "name").validate().errors.size()
+                } finally {
+                    pool.release(validation)
+                }
+            } as Callable<Integer>
+        })*.get()
+
+        then:
+        counts == (0..<100).collect { it % 2 == 0 ? 1 : 0 }
+
+        cleanup:
+        executor.shutdown()
+    }
+}
@@ -0,0 +1,76 @@
+package net.scottpullen.validation
+
+import spock.lang.Specification
+
+import java.util.function.BiConsumer
+
+class ValidationResultTest extends Specification {
+
+    void "#toResult indexes errors by path"() {
+        given:
+        ValidationContext context = new Validation("order")
+            .notBlank("", "name")
+            .eachElement(["A-1", "", "B-2", ""], "items", { String sku, Validation v ->
+                v.notBlank(sku, "sku")
+            } as BiConsumer)
+            .isValid("customer", "customer", { String c, Validation v ->
+                v.presence(null, "email")
+                 .notBlank(null, "email")
+            } as BiConsumer)
+            .validate()
+
+        when:
+        ValidationResult result = context.toResult()
+
+        then:
+        result.label == "order"
+        result.isInvalid()
+        result.errorCount == 5
+        result.errorsByPath.keySet() as List == [
+            "order.name",
+            "order.customer.email",
+            "order.items[1].sku",
+            "order.items[3].sku"
+        ]
+        result.getErrors("order.items[3].sku")*.key == ["validation.blank"]
+        result.getErrors("order.customer.email")*.key == ["validation.presence", "validation.blank"]
+        result.getErrors("order.items[0].sku").isEmpty()
+        result.hasErrors("order.name")
+        !result.hasErrors("order.items[2].sku")
+        result.errors*.label == ["name", "email", "email", "sku", "sku"]
+    }
+
+    void "#toResult of a valid context"() {
+        when:
+        ValidationResult result = new Validation("order")
+            .notBlank("Widget", "name")
+            .validate()
+            .toResult()
+
+        then:
+        result.isValid()
+        result.errorCount == 0
+        result.errors.isEmpty()
+        result.errorsByPath.isEmpty()
+    }
+
+    void "results are immutable"() {
+        given:
+        ValidationResult result = new Validation("order")
+            .notBlank("", "name")
+            .validate()
+            .toResult()
+
+        when:
+        result.errors.clear()
+
+        then:
+        thrown UnsupportedOperationException
+
+        when:
+        result.getErrors("order.name").clear()
+
+        then:
+        thrown UnsupportedOperationException
+    }
+}
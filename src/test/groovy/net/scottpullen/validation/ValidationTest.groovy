@@ -1,9 +1,23 @@
 package net.scottpullen.validation
 
+import groovy.transform.CompileStatic
+import net.scottpullen.validation.sets.IntSet
+import net.scottpullen.validation.sets.LongSet
+import net.scottpullen.validation.sets.StringSet
+import net.scottpullen.validation.validators.NotBlankValidator
+import net.scottpullen.validation.validators.Validator
 import spock.lang.Specification
 
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
 import java.util.function.BiConsumer
+import java.util.function.BooleanSupplier
+import java.util.function.Consumer
+import java.util.function.Function
 import java.util.function.Supplier
+import java.util.function.ToIntFunction
+import java.util.function.ToLongFunction
+import java.util.regex.Pattern
 
 class ValidationTest extends Specification {
 
@@ -578,6 +592,207 @@ class ValidationTest extends Specification {
         notThrown ValidationException
     }
 
+    void "#greaterThan and #lessThan for primitives"() {
+        when:
+        ValidationContext context = new Validation("primitives")
+            .greaterThan(10 as int, 10 as int, "int")
+            .greaterThanOrEqualTo(9L as long, 10L as long, "long", "my.key")
+            .lessThan(10.0d as double, 10.0d as double, "double")
+            .lessThanOrEqualTo(11 as int, 10 as int, "int")
+            .greaterThan(11 as int, 10 as int, "valid")
+            .validate()
+
+        then:
+        context.errors*.label == ["int", "long", "double", "int"]
+        context.errors*.key == ["validation.greaterThan", "my.key", "validation.lessThan", "validation.lessThanOrEqualTo"]
+        context.errors*.message == [
+            "int must be greater than 10",
+            "long must be greater than or equal to 10",
+            "double must be less than 10.0",
+            "int must be less than or equal to 10"
+        ]
+    }
+
+    void "boxed comparisons test a null value when validating"() {
+        when:
+        ValidationContext context = boxedComparisons(new Validation("boxed").failFast(), null).validate()
+
+        then: 'building does not unbox the null, failFast stops at presence'
+        context.errors*.key == ["validation.presence"]
+
+        when:
+        ValidationContext valid = boxedComparisons(new Validation("boxed"), 5).validate()
+        ValidationContext invalid = boxedComparisons(new Validation("boxed"), 11).validate()
+
+        then:
+        !valid.isInvalid()
+        invalid.errors*.key == ["validation.lessThanOrEqualTo"]
+    }
+
+    void "NaN fails every double comparison"() {
+        when:
+        ValidationContext context = new Validation("nan")
+            .greaterThan(Double.NaN, 0.0d as double, "greaterThan")
+            .greaterThanOrEqualTo(Double.NaN, 0.0d as double, "greaterThanOrEqualTo")
+            .lessThan(Double.NaN, 0.0d as double, "lessThan")
+            .lessThanOrEqualTo(Double.NaN, 1.0d as double, "lessThanOrEqualTo")
+            .between(Double.NaN, 0.0d as double, 1.0d as double, "between")
+            .validate()
+
+        then:
+        context.errors*.label == ["greaterThan", "greaterThanOrEqualTo", "lessThan", "lessThanOrEqualTo", "between"]
+    }
+
+    void "double ranges require bounds that are numbers"() {
+        when:
+        new Validation("range").between(1.0d as double, Double.NaN, 5.0d as double, "between")
+
+        then:
+        thrown IllegalArgumentException
+
+        when:
+        new Validation("range").inRange(1.0d as double, 0.0d as double, Double.NaN, "inRange")
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    void "#between and #inRange"() {
+        when:
+        ValidationContext context = new Validation("range")
+            .between(5 as int, 1 as int, 5 as int, "between")
+            .between(6L as long, 1L as long, 5L as long, "betweenLong")
+            .inRange(2.5d as double, 1.0d as double, 5.0d as double, "inRange")
+            .inRange(5 as int, 1 as int, 5 as int, "inRangeMax", "my.key")
+            .inRange(0 as int, 1 as int, 5 as int, "inRangeMin")
+            .validate()
+
+        then:
+        context.errors*.label == ["betweenLong", "inRangeMax", "inRangeMin"]
+        context.errors*.key == ["validation.between", "my.key", "validation.inRange"]
+        context.errors.first().message == "betweenLong must be between 1 and 5"
+        context.errors.last().message == "inRangeMin must be greater than or equal to 1 and less than 5"
+    }
+
+    void "#matches and format validators"() {
+        when:
+        ValidationContext context = new Validation("formats")
+            .matches("ABC-123", Pattern.compile("[A-Z]+-\\d+"), "code")
+            .matches("abc", "[A-Z]+", "name")
+            .email("first.last@example.com", "email")
+            .email("first.last@", "email2")
+            .uuid("123e4567-e89b-12d3-a456-426614174000", "id")
+            .uuid(null, "id2")
+            .isoDate("2024-02-30", "date")
+            .digits("0042", "zip")
+            .digits("42a", "zip2", "my.key")
+            .maxLength("abcd", 3, "short")
+            .maxLength(null, 3, "missing")
+            .validate()
+
+        then:
+        context.errors*.label == ["name", "email2", "id2", "date", "zip2", "short"]
+        context.errors*.key == [
+            "validation.pattern",
+            "validation.email",
+            "validation.uuid",
+            "validation.isoDate",
+            "my.key",
+            "validation.maxLength"
+        ]
+        context.errors*.message == [
+            "name does not match the expected format",
+            "email2 must be a valid email address",
+            "id2 must be a valid UUID",
+            "date must be a date in the format yyyy-MM-dd",
+            "zip2 must only contain digits",
+            "short must be at most 3 characters"
+        ]
+    }
+
+    void "UTF-8 and character validators"() {
+        given:
+        byte[] body = '{"sku":"  ","qty":"12a","name":"\u00e9t\u00e9"}'.getBytes(StandardCharsets.UTF_8)
+        ByteBuffer name = ByteBuffer.wrap(body, 32, 5)
+
+        when:
+        ValidationContext context = new Validation("request")
+            .notBlankUtf8(body, 8, 2, "sku")
+            .digitsUtf8(body, 19, 3, "qty")
+            .digitsUtf8(body, 19, 2, "qty2")
+            .maxLengthUtf8(name, 3, "name")
+            .maxBytesUtf8(name, 4, "name", "my.key")
+            .asciiUtf8(name, "name2")
+            .utf8(ByteBuffer.wrap([0xC0, 0x80] as byte[]), "invalid")
+            .maxLengthUtf8((ByteBuffer) null, 3, "missing")
+            .ascii("abc", "code")
+            .maxBytes("\u00e9t\u00e9", 4, "title")
+            .notBlank(new StringBuilder(" "), "notes")
+            .validate()
+
+        then:
+        name.position() == 32
+        context.errors*.label == ["sku", "qty", "name", "name2", "invalid", "title", "notes"]
+        context.errors*.key == [
+            "validation.blank",
+            "validation.digits",
+            "my.key",
+            "validation.ascii",
+            "validation.utf8",
+            "validation.maxBytes",
+            "validation.blank"
+        ]
+        context.errors*.message == [
+            "sku cannot be blank",
+            "qty must only contain digits",
+            "name must be at most 4 bytes",
+            "name2 must only contain ASCII characters",
+            "invalid must be valid UTF-8",
+            "title must be at most 4 bytes",
+            "notes cannot be blank"
+        ]
+    }
+
+    void "#oneOf, #notIn and #distinctBy"() {
+        given:
+        StringSet currencies = StringSet.of("USD", "EUR", "GBP")
+        IntSet blocked = IntSet.of(13, 42)
+        List<Map> lines = [[sku: "A", id: 1], [sku: "B", id: 2], [sku: "A", id: 2]]
+
+        when:
+        ValidationContext context = new Validation("order")
+            .oneOf("EUR", currencies, "currency")
+            .oneOf("JPY", currencies, "currency2")
+            .oneOf((CharSequence) null, currencies, "currency3")
+            .notIn(42, blocked, "code")
+            .notIn(7, blocked, "code2")
+            .oneOf(3L, LongSet.of(1L, 2L), "tier", "my.key")
+            .distinctBy(lines, { it.sku } as Function, "lines")
+            .distinctByInt(lines, { it.id as int } as ToIntFunction, "lineIds")
+            .distinctByLong(lines.take(2), { it.id as long } as ToLongFunction, "lineIds2")
+            .distinctBy(null, { it } as Function, "missing")
+            .validate()
+
+        then:
+        context.errors*.label == ["currency2", "currency3", "code", "tier", "lines", "lineIds"]
+        context.errors*.key == [
+            "validation.oneOf",
+            "validation.oneOf",
+            "validation.notIn",
+            "my.key",
+            "validation.distinct",
+            "validation.distinct"
+        ]
+        context.errors*.message == [
+            "currency2 must be one of the allowed values",
+            "currency3 must be one of the allowed values",
+            "code must not be 42",
+            "tier must be one of the allowed values",
+            "lines must not contain duplicates",
+            "lineIds must not contain duplicates"
+        ]
+    }
+
     void "#isValid custom validation"() {
         when: 'the custom validator returns a ValidationMessage'
         new Validation("custom")
@@ -672,6 +887,511 @@ class ValidationTest extends Specification {
         error.message == "simple[1]-name must be present"
     }
 
+    void "#failFast"() {
+        given:
+        String name = null
+
+        when: 'the first validator fails'
+        ValidationContext context1 = new Validation("failFast")
+            .failFast()
+            .presence(name, "name")
+            .notBlank(name, "name")
+            .isValid(name, "child", { String o, Validation v ->
+                v.presence(o, "childName")
+            } as BiConsumer)
+            .validate()
+
+        then:
+        context1.isInvalid()
+        context1.errors.size() == 1
+        context1.errors.first().key == "validation.presence"
+        context1.nestedContexts.first().errors.isEmpty()
+
+        when: 'a nested validator fails'
+        ValidationContext context2 = new Validation("failFast")
+            .failFast()
+            .isValid(name, "child1", { String o, Validation v ->
+                v.presence(o, "first").presence(o, "second")
+            } as BiConsumer)
+            .isValid(name, "child2", { String o, Validation v ->
+                v.presence(o, "third")
+            } as BiConsumer)
+            .validate()
+
+        then:
+        context2.isInvalid()
+        context2.nestedContexts[0].errors*.label == ["first"]
+        context2.nestedContexts[1].errors.isEmpty()
+
+        when: 'failFast is not set every validator runs'
+        ValidationContext context3 = new Validation("all")
+            .presence(name, "name")
+            .notBlank(name, "name")
+            .validate()
+
+        then:
+        context3.errors.size() == 2
+    }
+
+    void "#eachElement"() {
+        given:
+        List<Simple> simples = [new Simple("Test1"), new Simple(null), new Simple("Test3"), new Simple("")]
+
+        when:
+        ValidationContext context = new Validation("parent")
+            .eachElement(simples, "simples", { Simple s, Validation v ->
+                v.presence(s.name, "name")
+                    .isValid(s.name, "name", { String name, Validation nested ->
+                        nested.notBlank(name, "value")
+                    } as BiConsumer)
+            } as BiConsumer)
+            .validate()
+
+        then: 'only the failing elements have a nested context'
+        context.isInvalid()
+        context.nestedContexts*.label == ["simples[1]", "simples[3]"]
+
+        ValidationContext second = context.nestedContexts[0]
+        second.errors*.key == ["validation.presence"]
+        second.nestedContexts.first().errors*.key == ["validation.blank"]
+
+        ValidationContext fourth = context.nestedContexts[1]
+        fourth.errors.isEmpty()
+        fourth.nestedContexts.first().errors*.key == ["validation.blank"]
+
+        when: 'every element is valid'
+        ValidationContext validContext = new Validation("parent")
+            .eachElement([new Simple("a"), new Simple("b")], "simples", { Simple s, Validation v ->
+                v.presence(s.name, "name")
+            } as BiConsumer)
+            .validate()
+
+        then:
+        !validContext.isInvalid()
+        validContext.nestedContexts.isEmpty()
+
+        when: 'failFast stops at the first failing element'
+        ValidationContext failFastContext = new Validation("parent")
+            .failFast()
+            .eachElement(simples, "simples", { Simple s, Validation v ->
+                v.notBlank(s.name, "name")
+            } as BiConsumer)
+            .validate()
+
+        then:
+        failFastContext.nestedContexts*.label == ["simples[1]"]
+
+        when: 'failFast skips the elements once a validator before them failed'
+        int built = 0
+        ValidationContext skipped = new Validation("parent")
+            .failFast()
+            .presence(null, "first")
+            .eachElement(simples, "simples", { Simple s, Validation v ->
+                built++
+                v.notBlank(s.name, "name")
+            } as BiConsumer)
+            .validate()
+
+        then:
+        skipped.errors*.label == ["first"]
+        skipped.nestedContexts.isEmpty()
+        built == 0
+    }
+
+    void "#collect"() {
+        when:
+        ValidationResult result = new Validation("order")
+            .notBlank("", "name")
+            .presence("Widget", "description")
+            .collect()
+
+        then:
+        notThrown ValidationException
+        result.isInvalid()
+        result.errorCount == 1
+        result.getErrors("order.name").first().message == "name cannot be blank"
+
+        when:
+        ValidationResult valid = new Validation("order")
+            .notBlank("Widget", "name")
+            .collect()
+
+        then:
+        valid.isValid()
+    }
+
+    void "#andThrowWithoutStackTrace"() {
+        when:
+        new Validation("order")
+            .notBlank("", "name")
+            .validate(Validation.&andThrowWithoutStackTrace)
+
+        then:
+        ValidationException ex = thrown()
+        ex.context.label == "order"
+        ex.stackTrace.length == 0
+
+        when:
+        new Validation("order")
+            .notBlank("Widget", "name")
+            .validate(Validation.&andThrowWithoutStackTrace)
+
+        then:
+        notThrown ValidationException
+    }
+
+    void "#track and #revalidate"() {
+        given:
+        Map<String, String> draft = [title: "", summary: "Summary", body: ""]
+        List<String> evaluated = []
+        Function<String, Function<String, Validator>> notBlank = { String label ->
+            { String value ->
+                evaluated << label
+                new NotBlankValidator(value, label)
+            } as Function
+        }
+
+        Validation validation = new Validation("draft")
+            .track({ draft.title } as Supplier, notBlank.apply("title"))
+            .notBlank("", "author")
+            .track({ draft.summary } as Supplier, notBlank.apply("summary"))
+            .isValid(draft, "sections", { Map d, Validation v ->
+                v.track({ draft.body } as Supplier, notBlank.apply("body"))
+            } as BiConsumer)
+
+        when:
+        ValidationContext context = validation.validate()
+
+        then:
+        context.toResult().errors*.label == ["title", "author", "body"]
+        evaluated == ["title", "summary", "body"]
+
+        when: 'one input changes'
+        evaluated.clear()
+        draft.summary = ""
+        validation.revalidate()
+
+        then:
+        evaluated == ["summary"]
+        context.errors*.label == ["title", "author", "summary"]
+
+        when: 'errors are fixed'
+        evaluated.clear()
+        draft.title = "Title"
+        draft.body = "Body"
+        validation.revalidate()
+
+        then:
+        evaluated == ["title", "body"]
+        context.errors*.label == ["author", "summary"]
+        !context.nestedContexts.first().isInvalid()
+
+        when: 'nothing changes'
+        evaluated.clear()
+        validation.revalidate()
+
+        then:
+        evaluated.isEmpty()
+        context.errors*.label == ["author", "summary"]
+
+        when: 'an error comes back'
+        draft.title = " "
+        validation.revalidate()
+
+        then:
+        context.errors*.label == ["title", "author", "summary"]
+    }
+
+    void "#revalidate keeps the counts of capped errors"() {
+        given:
+        Map<String, String> draft = [title: "", notes: ""]
+        Validation validation = new Validation("draft")
+            .capErrors(2)
+            .track({ draft.title } as Supplier, { String title -> new NotBlankValidator(title, "title") } as Function)
+            .notBlank("", "author")
+            .track({ draft.notes } as Supplier, { String notes -> new NotBlankValidator(notes, "notes") } as Function)
+        ValidationContext context = validation.validate()
+
+        when: 'the inputs change but still fail'
+        [" ", "\t", "  "].each { String blank ->
+            draft.title = blank
+            draft.notes = blank
+            validation.revalidate()
+        }
+
+        then:
+        context.errorSummary.errorCount == 3
+        context.errorSummary.droppedCount == 1
+        context.errorSummary.aggregates*.count == [1L, 1L, 1L]
+        context.errors*.label == ["title", "author"]
+
+        when: 'an error is fixed'
+        draft.title = "Title"
+        validation.revalidate()
+
+        then:
+        context.errorSummary.errorCount == 2
+        context.errorSummary.aggregates*.label == ["author", "notes"]
+        context.errors*.label == ["author"]
+    }
+
+    void "#validate reads tracked inputs again"() {
+        given:
+        Map<String, String> draft = [title: ""]
+        Validation validation = new Validation("draft")
+            .track({ draft.title } as Supplier, { String title -> new NotBlankValidator(title, "title") } as Function)
+
+        expect:
+        validation.validate().isInvalid()
+
+        when:
+        draft.title = "Title"
+
+        then:
+        !validation.validate().isInvalid()
+
+        when:
+        validation.revalidate()
+        draft.title = ""
+
+        then:
+        validation.validate().errors*.label == ["title"]
+    }
+
+    void "#capErrors"() {
+        given:
+        List<Integer> items = (0..<10000).toList()
+
+        when:
+        ValidationContext context = new Validation("order")
+            .capErrors(10, 3)
+            .notBlank("", "name")
+            .eachElement(items, "items", { Integer i, Validation v ->
+                v.notBlank(i % 2 == 0 ? "" : "A-" + i, "sku")
+            } as BiConsumer)
+            .isValid("customer", "customer", { String c, Validation v ->
+                v.presence(null, "email")
+            } as BiConsumer)
+            .validate()
+
+        ErrorSummary summary = context.errorSummary
+
+        then:
+        summary.maxErrors == 10
+        summary.errorCount == 5002
+        summary.droppedCount == 4992
+        summary.isCapped()
+        context.toResult().errorCount == 10
+        context.toResult().errors*.label.findAll { it == "sku" }.size() == 9
+        context.nestedContexts*.label.take(3) == ["customer", "items[0]", "items[2]"]
+
+        summary.aggregates*.label == ["name", "sku", "email"]
+        summary.aggregates*.count == [1L, 5000L, 1L]
+        summary.aggregates[0].samplePaths == ["order.name"]
+        summary.aggregates[1].samplePaths.size() == 3
+        summary.aggregates[1].samplePaths.every { it ==~ /order\.items\[\d*[02468]\]\.sku/ }
+        summary.aggregates[2].samplePaths == ["order.customer.email"]
+    }
+
+    void "#capErrors counts the errors of each run"() {
+        given:
+        Validation validation = new Validation("order")
+            .capErrors(2)
+            .isValid({ Optional.of(new ValidationError("id", "my.key", "id is taken")) } as Supplier)
+            .eachElement(["", "", "", ""], "items", { String sku, Validation v -> v.notBlank(sku, "sku") } as BiConsumer)
+
+        when:
+        validation.validate()
+        ValidationContext context = validation.validate()
+
+        then:
+        context.isInvalid()
+        context.errorSummary.errorCount == 5
+        context.errorSummary.aggregates*.count == [1L, 4L]
+        context.toResult().errors*.label == ["id", "sku"]
+    }
+
+    void "#capErrors requires at least one error"() {
+        when:
+        new Validation("order").capErrors(0)
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    void "#then"() {
+        given:
+        Integer quantity = null
+        int built = 0
+
+        when: 'the validator before the rules fails'
+        ValidationContext context = new Validation("order")
+            .presence(quantity, "quantity")
+            .then({ Validation v -> built++; v.greaterThan(quantity, 0, "quantity") } as Consumer)
+            .then({ Validation v -> built++ } as Consumer)
+            .notBlank("", "name")
+            .validate()
+
+        then: 'the rules depending on it are skipped'
+        built == 0
+        context.errors*.key == ["validation.presence", "validation.blank"]
+
+        when: 'the validator before the rules passes'
+        quantity = 0
+        context = new Validation("order")
+            .presence(quantity, "quantity")
+            .then({ Validation v -> built++; v.greaterThan(quantity, 0, "quantity") } as Consumer)
+            .then({ Validation v -> built++ } as Consumer)
+            .notBlank("", "name")
+            .validate()
+
+        then: 'the rules run in place, the rules depending on a failed group are skipped'
+        built == 1
+        context.errors*.key == ["validation.greaterThan", "validation.blank"]
+    }
+
+    void "#when"() {
+        given:
+        boolean shipped = false
+
+        when:
+        Validation validation = new Validation("order")
+            .when(true, { Validation v -> v.notBlank("", "name") } as Consumer)
+            .when(false, { Validation v -> v.notBlank("", "skipped") } as Consumer)
+            .when({ shipped } as BooleanSupplier, { Validation v ->
+                v.presence(null, "trackingNumber")
+                    .isValid(null, "address", { Object a, Validation nested -> nested.presence(a, "street") } as BiConsumer)
+            } as Consumer)
+            .notBlank("", "notes")
+
+        shipped = true
+        ValidationContext context = validation.validate()
+
+        then: 'the condition is tested when validating'
+        context.errors*.label == ["name", "trackingNumber", "notes"]
+        context.nestedContexts*.label == ["address"]
+        context.nestedContexts[0].errors*.label == ["street"]
+    }
+
+    void "#stopOnFirstFailure"() {
+        when:
+        ValidationContext context = new Validation("item")
+            .stopOnFirstFailure({ Validation v ->
+                v.notBlank("", "sku")
+                    .maxLength("too long", 2, "sku")
+            } as Consumer)
+            .maxLength("too long", 2, "name")
+            .validate()
+
+        then: 'the group stops, the validators after it run'
+        context.errors*.key == ["validation.blank", "validation.maxLength"]
+        context.errors*.label == ["sku", "name"]
+
+        when: 'the Validation is failFast'
+        context = new Validation("item")
+            .failFast()
+            .stopOnFirstFailure({ Validation v -> v.presence(1, "sku").notBlank("", "sku") } as Consumer)
+            .notBlank("", "name")
+            .validate()
+
+        then:
+        context.errors*.label == ["sku"]
+    }
+
+    void "#validate twice"() {
+        given:
+        Validation validation = new Validation("order")
+            .isValid({ Optional.of(new ValidationError("id", "my.key", "id is taken")) } as Supplier)
+            .notBlank("", "name")
+            .when({ true } as BooleanSupplier, { Validation v ->
+                v.isValid(null, "address", { Object a, Validation nested -> nested.presence(a, "street") } as BiConsumer)
+            } as Consumer)
+            .eachElement([1, 2], "items", { Integer i, Validation v -> v.greaterThan(i, 1, "quantity") } as BiConsumer)
+
+        when:
+        ValidationResult first = validation.validate().toResult()
+        ValidationContext context = validation.validate()
+
+        then: 'the validators run again and replace their errors'
+        keysByPath(context.toResult()) == keysByPath(first)
+        context.errors*.label == ["id", "name"]
+        context.nestedContexts*.label == ["address", "items[0]"]
+
+        when: 'failFast stops before the nested validations'
+        Validation failFast = new Validation("order")
+            .failFast()
+            .isValid(null, "address", { Object a, Validation nested -> nested.presence(a, "street") } as BiConsumer)
+        failFast.validate()
+        failFast.isValid({ Optional.of(new ValidationError("id", "my.key", "id is taken")) } as Supplier)
+
+        then: 'the errors of the last run are removed'
+        failFast.validate().toResult().errorCount == 1
+        failFast.validate().errors*.label == ["id"]
+    }
+
+    void "#reset"() {
+        given:
+        Validation validation = new Validation("order").failFast()
+
+        when:
+        validation.notBlank("", "name")
+            .isValid(null, "address", { Object a, Validation nested -> nested.presence(a, "street") } as BiConsumer)
+            .validate()
+        ValidationContext context = validation.reset().validate()
+
+        then:
+        !context.isInvalid()
+        context.nestedContexts.isEmpty()
+
+        when:
+        context = validation.presence(null, "id").notBlank("", "name").validate()
+
+        then:
+        context.errors*.label == ["id"]
+    }
+
+    void "large contexts keep the order of their errors"() {
+        given:
+        Validation validation = new Validation("order")
+        List<String> expected = []
+
+        (0..<40).each { int i ->
+            boolean invalid = i % 3 == 0
+            String label = "field" + i
+            switch(i % 5) {
+                case 0:
+                    validation.presence(invalid ? null : "x", label)
+                    break
+                case 1:
+                    validation.notBlank(invalid ? "" : "x", label)
+                    break
+                case 2:
+                    validation.greaterThan(invalid ? 0 : 5, 1, label)
+                    break
+                case 3:
+                    validation.isValid(new NotBlankValidator(invalid ? "" : "x", label) {})
+                    break
+                default:
+                    validation.email(invalid ? "x" : "a@b.co", label)
+            }
+            if(invalid) {
+                expected << label
+            }
+        }
+
+        when:
+        ValidationContext context = validation.validate()
+
+        then:
+        context.errors*.label == expected
+
+        and: 'validating again gives the same errors'
+        validation.validate().errors*.label == expected
+
+        and: 'failFast stops at the first declared failure'
+        validation.failFast().validate().errors*.label == ["field0"]
+    }
+
     void "#merge"() {
         given:
         Validation parentValidation = new Validation("parent")
@@ -694,6 +1414,26 @@ class ValidationTest extends Specification {
         thrown ValidationException
     }
 
+    void "#reset leaves merged validations untouched"() {
+        given:
+        Validation other = new Validation("address").presence(null, "street")
+        Validation validation = new Validation("order").merge(other)
+        validation.validate()
+
+        when:
+        validation.reset()
+            .isValid(null, "address", { Object a, Validation nested -> nested.presence(a, "zip") } as BiConsumer)
+        ValidationContext context = validation.validate()
+        ValidationContext otherContext = other.validate()
+
+        then:
+        context.nestedContexts.size() == 1
+        !context.nestedContexts.first().is(otherContext)
+        context.nestedContexts.first().errors*.label == ["zip"]
+        otherContext.errors*.label == ["street"]
+        otherContext.nestedContexts.isEmpty()
+    }
+
     void "validation fluent"() {
         given:
         String name = "Test"
@@ -765,4 +1505,15 @@ class ValidationTest extends Specification {
 
         labels2 == ["count1", "name1", "otherName"]
     }
+
+    private static Map<String, List<String>> keysByPath(ValidationResult result) {
+        result.errorsByPath.collectEntries { String path, List<ValidationError> errors -> [path, errors*.key] }
+    }
+
+    @CompileStatic
+    private static Validation boxedComparisons(Validation validation, Integer quantity) {
+        validation.presence(quantity, "quantity")
+            .greaterThan(quantity, 0, "quantity")
+            .lessThanOrEqualTo(quantity, 10, "quantity")
+    }
 }
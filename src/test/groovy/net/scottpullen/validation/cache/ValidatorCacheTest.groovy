@@ -0,0 +1,127 @@
+package net.scottpullen.validation.cache
+
+import net.scottpullen.validation.Validation
+import net.scottpullen.validation.ValidationContext
+import net.scottpullen.validation.validators.NotBlankValidator
+import net.scottpullen.validation.validators.Validator
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.function.Function
+
+class ValidatorCacheTest extends Specification {
+
+    void "#cached memoizes results per value"() {
+        given:
+        AtomicInteger evaluations = new AtomicInteger()
+        ValidatorCache<String> cache = Validation.cached({ String sku ->
+            evaluations.incrementAndGet()
+            new NotBlankValidator(sku, "sku")
+        } as Function, CacheSpec.maximumSize(100))
+
+        when:
+        List<ValidationContext> contexts = ["A1", " ", "A1", " ", "A1"].collect { String sku ->
+            new Validation("item").cached(sku, cache).validate()
+        }
+
+        then:
+        contexts*.isInvalid() == [false, true, false, true, false]
+        contexts[3].errors.first().key == "validation.blank"
+        contexts[3].errors.first().message == "sku cannot be blank"
+        evaluations.get() == 2
+        cache.stats.hits == 3
+        cache.stats.misses == 2
+        cache.stats.hitRate == 0.6d
+        cache.size() == 2
+    }
+
+    void "the cache is bounded"() {
+        given:
+        ValidatorCache<Integer> cache = new ValidatorCache<Integer>({ Integer i ->
+            new NotBlankValidator(i.toString(), "i")
+        } as Function, CacheSpec.maximumSize(16))
+
+        when:
+        (0..<1000).each { int i -> cache.validator(i).isValid() }
+
+        then:
+        cache.size() <= 16
+        cache.stats.evictions >= 1000 - 16
+    }
+
+    void "results expire after write"() {
+        given:
+        AtomicInteger evaluations = new AtomicInteger()
+        ValidatorCache<String> cache = Validation.cached({ String s ->
+            evaluations.incrementAndGet()
+            new NotBlankValidator(s, "s")
+        } as Function, CacheSpec.maximumSize(10).expireAfterWrite(Duration.ofMillis(50)))
+
+        when:
+        cache.validator("a").isValid()
+        cache.validator("a").isValid()
+        Thread.sleep(100)
+        cache.validator("a").isValid()
+
+        then:
+        evaluations.get() == 2
+    }
+
+    void "null values are not cached"() {
+        given:
+        ValidatorCache<String> cache = Validation.cached({ String s -> new NotBlankValidator(s, "s") } as Function,
+            CacheSpec.maximumSize(10))
+
+        expect:
+        cache.validator(null).isInvalid()
+        cache.size() == 0
+    }
+
+    void "#invalidateAll"() {
+        given:
+        ValidatorCache<String> cache = Validation.cached({ String s -> new NotBlankValidator(s, "s") } as Function,
+            CacheSpec.maximumSize(10))
+        cache.validator("a").isValid()
+
+        when:
+        cache.invalidateAll()
+
+        then:
+        cache.size() == 0
+    }
+
+    void "cached validators report the label and key of their Validator"() {
+        given:
+        ValidatorCache<String> cache = Validation.cached({ String s -> new NotBlankValidator(s, "sku", "my.key") } as Function,
+            CacheSpec.maximumSize(10))
+        Validator miss = cache.validator("A1")
+        Validator hit = cache.validator("A1")
+
+        expect: 'nothing is known before the lookup'
+        miss.label == null
+
+        when:
+        miss.isValid()
+        hit.isValid()
+
+        then:
+        [miss, hit]*.label == ["sku", "sku"]
+        [miss, hit]*.key == ["my.key", "my.key"]
+        cache.stats.hits == 1
+    }
+
+    void "CacheSpec requires positive bounds"() {
+        when:
+        CacheSpec.maximumSize(0)
+
+        then:
+        thrown IllegalArgumentException
+
+        when:
+        CacheSpec.maximumSize(1).expireAfterWrite(Duration.ZERO)
+
+        then:
+        thrown IllegalArgumentException
+    }
+}
@@ -0,0 +1,90 @@
+package net.scottpullen.validation.helpers
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class FormatsTest extends Specification {
+
+    @Unroll
+    void "isEmail #value"() {
+        expect:
+        Formats.isEmail(value) == valid
+
+        where:
+        value                        | valid
+        "a@b.co"                     | true
+        "first.last+tag@example.com" | true
+        "o'neil@sub.example.org"     | true
+        null                         | false
+        "a@b"                        | false
+        "@b.co"                      | false
+        "a@"                         | false
+        "a..b@c.co"                  | false
+        ".a@b.co"                    | false
+        "a.@b.co"                    | false
+        "a@-b.co"                    | false
+        "a@b-.co"                    | false
+        "a@b..co"                    | false
+        "a@b.co."                    | false
+        "a@@b.co"                    | false
+        "a b@c.co"                   | false
+        ("a" * 65) + "@b.co"         | false
+    }
+
+    @Unroll
+    void "isUuid #value"() {
+        expect:
+        Formats.isUuid(value) == valid
+
+        where:
+        value                                  | valid
+        "123e4567-e89b-12d3-a456-426614174000" | true
+        "123E4567-E89B-12D3-A456-426614174000" | true
+        null                                   | false
+        "123e4567e89b-12d3-a456-4266141740000" | false
+        "123e4567-e89b-12d3-a456-42661417400g" | false
+        "123e4567-e89b-12d3-a456-42661417400"  | false
+    }
+
+    @Unroll
+    void "isIsoDate #value"() {
+        expect:
+        Formats.isIsoDate(value) == valid
+
+        where:
+        value        | valid
+        "2024-02-29" | true
+        "2000-02-29" | true
+        "2024-12-31" | true
+        null         | false
+        "2023-02-29" | false
+        "1900-02-29" | false
+        "2024-04-31" | false
+        "2024-13-01" | false
+        "2024-00-10" | false
+        "2024-01-00" | false
+        "2024-1-01"  | false
+        "2024/01/01" | false
+    }
+
+    @Unroll
+    void "isDigits #value"() {
+        expect:
+        Formats.isDigits(value) == valid
+
+        where:
+        value          | valid
+        "0"            | true
+        "0123"         | true
+        null           | false
+        ""             | false
+        "12a"          | false
+        "-1"           | false
+        "\u0661\u0662" | false
+    }
+
+    void "PatternCache compiles a pattern once"() {
+        expect:
+        PatternCache.get("[a-z]+").is(PatternCache.get("[a-z]+"))
+    }
+}
@@ -0,0 +1,93 @@
+package net.scottpullen.validation.helpers
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+
+class Utf8Test extends Specification {
+
+    private static ByteBuffer bytes(int... values) {
+        return ByteBuffer.wrap(values.collect { it as byte } as byte[])
+    }
+
+    private static ByteBuffer utf8(String s) {
+        return ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8))
+    }
+
+    @Unroll
+    void "isWellFormed #description"() {
+        expect:
+        Utf8.isWellFormed(buffer) == valid
+
+        where:
+        description          | buffer                              | valid
+        "ascii"              | utf8("abc")                         | true
+        "two bytes"          | utf8("\u00e9")                      | true
+        "three bytes"        | utf8("\u20ac")                      | true
+        "four bytes"         | utf8("\ud83d\ude00")                | true
+        "empty"              | utf8("")                            | true
+        "null"               | null                                | false
+        "overlong"           | bytes(0xC0, 0x80)                   | false
+        "overlong three"     | bytes(0xE0, 0x80, 0x80)             | false
+        "surrogate"          | bytes(0xED, 0xA0, 0x80)             | false
+        "above U+10FFFF"     | bytes(0xF4, 0x90, 0x80, 0x80)       | false
+        "truncated"          | bytes(0xE2, 0x82)                   | false
+        "lone continuation"  | bytes(0x80)                         | false
+    }
+
+    void "scans between the position and the limit without moving the position"() {
+        given:
+        ByteBuffer buffer = ByteBuffer.wrap([0xFF, 0x20, 0x61, 0x20, 0xFF] as byte[], 1, 3)
+
+        expect:
+        Utf8.isWellFormed(buffer)
+        Utf8.isNotBlank(buffer)
+        Utf8.length(buffer) == 3
+        buffer.position() == 1
+
+        and:
+        !Utf8.isNotBlank(ByteBuffer.wrap([0xFF, 0x20, 0x20, 0xFF] as byte[], 1, 2))
+    }
+
+    @Unroll
+    void "isNotBlank #value"() {
+        expect:
+        Utf8.isNotBlank(utf8(value)) == notBlank
+
+        where:
+        value          | notBlank
+        "a"            | true
+        " a "          | true
+        ""             | false
+        " \t\n"        | false
+        "\u3000\u2028" | false
+        "\u00a0"       | true
+    }
+
+    @Unroll
+    void "isAscii, isDigits and length of #value"() {
+        expect:
+        Utf8.isAscii(utf8(value)) == ascii
+        Utf8.isDigits(utf8(value)) == digits
+        Utf8.length(utf8(value)) == value.length()
+
+        where:
+        value          | ascii | digits
+        "0042"         | true  | true
+        ""             | true  | false
+        "42a"          | true  | false
+        "\u0661\u0662" | false | false
+        "\ud83d\ude00" | false | false
+    }
+
+    @Unroll
+    void "encodedLength #value"() {
+        expect:
+        Utf8.encodedLength(value) == value.getBytes(StandardCharsets.UTF_8).length
+
+        where:
+        value << ["", "abc", "\u00e9t\u00e9", "\u20ac", "\ud83d\ude00", "\ud83d", "a\ude00b"]
+    }
+}
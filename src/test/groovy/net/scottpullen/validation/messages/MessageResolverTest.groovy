@@ -0,0 +1,50 @@
+package net.scottpullen.validation.messages
+
+import net.scottpullen.validation.ValidationContext
+import net.scottpullen.validation.ValidationError
+import net.scottpullen.validation.Validation
+import spock.lang.Specification
+
+class MessageResolverTest extends Specification {
+
+    void "#resolve caches templates per locale"() {
+        given:
+        MessageSource source = Mock()
+        MessageResolver resolver = new MessageResolver(source)
+
+        when:
+        MessageTemplate first = resolver.resolve("validation.presence", Locale.GERMAN)
+        MessageTemplate second = resolver.resolve("validation.presence", Locale.GERMAN)
+        MessageTemplate missing1 = resolver.resolve("validation.missing", Locale.GERMAN)
+        MessageTemplate missing2 = resolver.resolve("validation.missing", Locale.GERMAN)
+
+        then:
+        1 * source.getPattern("validation.presence", Locale.GERMAN) >> "{0} muss vorhanden sein"
+        1 * source.getPattern("validation.missing", Locale.GERMAN) >> null
+        first.is(second)
+        missing1 == null
+        missing2 == null
+    }
+
+    void "ValidationError#getMessage with a resolver"() {
+        given:
+        MessageResolver resolver = new MessageResolver({ String key, Locale locale ->
+            key == "validation.lessThan" && locale == Locale.GERMAN ? "{0} muss kleiner als {1} sein" : null
+        } as MessageSource)
+
+        when:
+        ValidationContext context = new Validation("lessThan")
+            .lessThan(11, 10, "count")
+            .presence(null, "name")
+            .validate()
+
+        ValidationError lessThan = context.errors[0]
+        ValidationError presence = context.errors[1]
+
+        then:
+        lessThan.args == ["count", 10] as Object[]
+        lessThan.getMessage(resolver, Locale.GERMAN) == "count muss kleiner als 10 sein"
+        lessThan.getMessage(resolver, Locale.ENGLISH) == "count must be less than 10"
+        presence.getMessage(resolver, Locale.GERMAN) == "name must be present"
+    }
+}
@@ -0,0 +1,28 @@
+package net.scottpullen.validation.messages
+
+import spock.lang.Specification
+
+class MessageTemplateTest extends Specification {
+
+    void "#render"() {
+        expect:
+        MessageTemplate.compile(pattern).render(args as Object[]) == message
+
+        where:
+        pattern                          | args          || message
+        "{0} must be present"            | ["name"]      || "name must be present"
+        "{0} must be less than {1}"      | ["count", 10] || "count must be less than 10"
+        "{1} then {0}"                   | ["a", "b"]    || "b then a"
+        "no arguments"                   | []            || "no arguments"
+        "{0} and {1}"                    | ["a"]         || "a and null"
+        "{x} {} { {0"                    | ["a"]         || "{x} {} { {0"
+    }
+
+    void "#compile requires a pattern"() {
+        when:
+        MessageTemplate.compile(null)
+
+        then:
+        thrown IllegalArgumentException
+    }
+}
@@ -0,0 +1,136 @@
+package net.scottpullen.validation.metrics
+
+import net.scottpullen.validation.Schema
+import net.scottpullen.validation.Validation
+import net.scottpullen.validation.ValidationError
+import net.scottpullen.validation.validators.Validator
+import spock.lang.Specification
+
+import java.util.function.BiConsumer
+import java.util.function.Function
+
+class ValidationMetricsTest extends Specification {
+
+    ValidationMetrics metrics = new ValidationMetrics()
+
+    void "counts evaluations and failures per label and key"() {
+        when:
+        3.times { int i ->
+            new Validation("order")
+                .listener(metrics)
+                .presence(i == 0 ? null : "Widget", "name")
+                .notBlank("Widget", "name")
+                .greaterThan(i, 0, "quantity", "my.key")
+                .validate()
+        }
+
+        then:
+        metrics.get("name", "validation.presence").evaluations == 3
+        metrics.get("name", "validation.presence").failures == 1
+        metrics.get("name", "validation.blank").failures == 0
+        metrics.get("quantity", "my.key").evaluations == 3
+        metrics.get("quantity", "my.key").failures == 1
+        metrics.get("quantity", "validation.greaterThan") == null
+        metrics.rules.size() == 3
+
+        when:
+        metrics.reset()
+
+        then:
+        metrics.rules*.evaluations == [0L, 0L, 0L]
+    }
+
+    void "reports nested validations and schema rules"() {
+        given:
+        Schema<String> schema = Schema.<String>builder("sku")
+            .notBlank({ String s -> s } as Function, "sku")
+            .listener(metrics)
+            .build()
+
+        when:
+        new Validation("order")
+            .listener(metrics)
+            .isValid("item", "item", { String item, Validation v -> v.notBlank(item, "item") } as BiConsumer)
+            .validate()
+        schema.validate("")
+
+        then:
+        metrics.get("item", "validation.blank").evaluations == 1
+        metrics.get("sku", "validation.blank").failures == 1
+    }
+
+    void "custom validators without a label are reported by class name"() {
+        when:
+        new Validation("custom").listener(metrics).isValid(new Unlabeled()).validate()
+
+        then:
+        metrics.get(Unlabeled.name, null).evaluations == 1
+        metrics.get(Unlabeled.name, null).failures == 1
+    }
+
+    void "records timings in the histogram"() {
+        when:
+        new Validation("order").listener(metrics).presence("Widget", "name").validate()
+        RuleMetrics rule = metrics.get("name", "validation.presence")
+
+        then:
+        rule.histogram.sum() == 1
+        rule.totalNanos >= 0
+        rule.getPercentileNanos(100) >= rule.totalNanos
+    }
+
+    void "histogram buckets are powers of two"() {
+        expect:
+        RuleMetrics.bucket(nanos) == bucket
+
+        where:
+        nanos          | bucket
+        0              | 0
+        1              | 1
+        2              | 2
+        3              | 2
+        4              | 3
+        1023           | 10
+        1024           | 11
+        Long.MAX_VALUE | RuleMetrics.BUCKETS - 1
+    }
+
+    void "listeners only see their own validation"() {
+        given:
+        ValidationMetrics other = new ValidationMetrics()
+
+        when:
+        new Validation("order").listener(metrics).presence(null, "name").validate()
+        new Validation("order").listener(other).notBlank("", "name").validate()
+        new Validation("order").presence(null, "id").validate()
+        Schema.<String>builder("sku").notBlank({ String s -> s } as Function, "sku").build().validate("")
+
+        then:
+        metrics.rules*.key == ["validation.presence"]
+        other.rules*.key == ["validation.blank"]
+    }
+
+    void "nested schemas report to the listener of the schema they are nested in"() {
+        given:
+        Schema<String> sku = Schema.<String>builder("sku")
+            .notBlank({ String s -> s } as Function, "value")
+            .listener(new ValidationMetrics())
+            .build()
+        Schema<String> item = Schema.<String>builder("item")
+            .nested({ String s -> s } as Function, sku)
+            .listener(metrics)
+            .build()
+
+        when:
+        item.validate("")
+
+        then:
+        metrics.get("value", "validation.blank").failures == 1
+    }
+
+    static class Unlabeled implements Validator {
+        boolean isValid() { false }
+        boolean isInvalid() { true }
+        ValidationError buildValidationError() { new ValidationError("custom", "custom.key", "custom failed") }
+    }
+}
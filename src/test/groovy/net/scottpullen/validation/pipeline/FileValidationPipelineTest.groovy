@@ -0,0 +1,187 @@
+package net.scottpullen.validation.pipeline
+
+import net.scottpullen.validation.Schema
+import net.scottpullen.validation.Validation
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.function.BiConsumer
+import java.util.function.Function
+
+class FileValidationPipelineTest extends Specification {
+
+    Path dir = Files.createTempDirectory("pipeline")
+
+    void cleanup() {
+        dir.toFile().deleteDir()
+    }
+
+    void "splits a CSV file into valid and rejected records"() {
+        given:
+        StringBuilder csv = new StringBuilder("sku,name\r\n")
+        1000.times { int i ->
+            if(i % 10 == 3) {
+                csv.append(i).append(',"two\nlines, ""quoted"""\n')
+            } else if(i % 10 == 7) {
+                csv.append(',missing sku\n')
+            } else if(i % 100 == 9) {
+                csv.append('\n')
+            } else {
+                csv.append(i).append(',name').append(i).append('\n')
+            }
+        }
+        csv.append('last,no newline')
+
+        Path input = write("input.csv", csv.toString())
+
+        FileValidationPipeline<List<String>> pipeline = FileValidationPipeline.builder(RecordFormat.CSV, { String r -> Csv.fields(r) } as Function)
+            .header()
+            .threads(4)
+            .chunkSize(64)
+            .validation("row", { List<String> row, Validation v ->
+                v.notBlank(row[0], "sku")
+                 .notBlank(row[1], "name")
+            } as BiConsumer)
+            .build()
+
+        when:
+        PipelineResult result = pipeline.run(input, dir.resolve("valid.csv"), dir.resolve("rejected.ndjson"))
+        List<String> valid = dir.resolve("valid.csv").text.split("\n") as List
+        List<String> rejected = dir.resolve("rejected.ndjson").readLines()
+
+        then:
+        result.records == 991
+        result.rejected == 100
+        result.valid == 891
+
+        valid.first() == "sku,name"
+        valid[1] == "0,name0"
+        valid[4] == '3,"two'
+        valid[5] == 'lines, ""quoted"""'
+        valid.last() == "last,no newline"
+
+        rejected.size() == 100
+        rejected.first() == '{"record":9,"errors":[{"path":"row.sku","key":"validation.blank","message":"sku cannot be blank"}],"data":",missing sku"}'
+    }
+
+    void "rejects NDJSON records that can not be parsed"() {
+        given:
+        Path input = write("input.ndjson", '{"sku":"A-1"}\n{"sku":\n\n{"sku":""}\n')
+
+        Schema<String> schema = Schema.<String>builder("doc")
+            .notBlank({ String s -> s.contains('""') ? "" : s } as Function, "sku")
+            .build()
+
+        FileValidationPipeline<String> pipeline = FileValidationPipeline.<String>builder(RecordFormat.NDJSON, { String r ->
+                if(!r.endsWith("}")) {
+                    throw new IllegalArgumentException("malformed JSON")
+                }
+                return r
+            } as Function)
+            .threads(2)
+            .schema(schema)
+            .build()
+
+        when:
+        PipelineResult result = pipeline.run(input, dir.resolve("valid.ndjson"), dir.resolve("rejected.ndjson"))
+
+        then:
+        result.records == 3
+        result.valid == 1
+        result.rejected == 2
+        dir.resolve("valid.ndjson").text == '{"sku":"A-1"}\n'
+        dir.resolve("rejected.ndjson").readLines() == [
+            '{"record":2,"errors":[{"path":"record.data","key":"validation.parse","message":"malformed JSON"}],"data":"{\\"sku\\":"}',
+            '{"record":4,"errors":[{"path":"doc.sku","key":"validation.blank","message":"sku cannot be blank"}],"data":"{\\"sku\\":\\"\\"}"}'
+        ]
+    }
+
+    void "rejects records the validation throws for"() {
+        given:
+        Path input = write("input.csv", "1,ok\n2,boom\n3,\n")
+
+        FileValidationPipeline<List<String>> pipeline = FileValidationPipeline.builder(RecordFormat.CSV, { String r -> Csv.fields(r) } as Function)
+            .validation("row", { List<String> row, Validation v ->
+                if(row[1] == "boom") {
+                    throw new IllegalStateException("lookup failed")
+                }
+                v.notBlank(row[1], "name")
+            } as BiConsumer)
+            .build()
+
+        when:
+        PipelineResult result = pipeline.run(input, dir.resolve("valid.csv"), dir.resolve("rejected.ndjson"))
+
+        then:
+        result.records == 3
+        result.valid == 1
+        result.rejected == 2
+        dir.resolve("valid.csv").text == "1,ok\n"
+        dir.resolve("rejected.ndjson").readLines() == [
+            '{"record":2,"errors":[{"path":"record.data","key":"validation.exception","message":"lookup failed"}],"data":"2,boom"}',
+            '{"record":3,"errors":[{"path":"row.name","key":"validation.blank","message":"name cannot be blank"}],"data":"3,"}'
+        ]
+    }
+
+    void "records longer than a chunk"() {
+        given:
+        String longName = "x" * 1000
+        Path input = write("input.csv", "1,${longName}\n2,\n")
+
+        FileValidationPipeline<List<String>> pipeline = FileValidationPipeline.builder(RecordFormat.CSV, { String r -> Csv.fields(r) } as Function)
+            .chunkSize(16)
+            .validation("row", { List<String> row, Validation v -> v.notBlank(row[1], "name") } as BiConsumer)
+            .build()
+
+        when:
+        PipelineResult result = pipeline.run(input, dir.resolve("valid.csv"), dir.resolve("rejected.ndjson"))
+
+        then:
+        result.valid == 1
+        result.rejected == 1
+        dir.resolve("valid.csv").text == "1,${longName}\n"
+    }
+
+    void "rejects records longer than the maximum record size"() {
+        given:
+        Path input = write("input.csv", '1,ok\n2,"unterminated ' + ("x" * 1000) + '\n3,fine\n')
+
+        FileValidationPipeline<List<String>> pipeline = FileValidationPipeline.builder(RecordFormat.CSV, { String r -> Csv.fields(r) } as Function)
+            .chunkSize(8)
+            .maxRecordSize(32)
+            .validation("row", { List<String> row, Validation v -> v.notBlank(row[1], "name") } as BiConsumer)
+            .build()
+
+        when:
+        PipelineResult result = pipeline.run(input, dir.resolve("valid.csv"), dir.resolve("rejected.ndjson"))
+
+        then: 'the record is rejected and the file is read again from the next newline'
+        result.records == 3
+        result.valid == 2
+        result.rejected == 1
+        dir.resolve("valid.csv").text == "1,ok\n3,fine\n"
+        dir.resolve("rejected.ndjson").readLines() == [
+            '{"record":2,"errors":[{"path":"record.data","key":"validation.recordSize","message":"record is longer than 32 bytes"}],"data":null}'
+        ]
+    }
+
+    void "Csv.fields"() {
+        expect:
+        Csv.fields(record) == fields
+
+        where:
+        record                     | fields
+        'a,b,c'                    | ["a", "b", "c"]
+        'a,,c'                     | ["a", "", "c"]
+        '"a,b",c'                  | ["a,b", "c"]
+        '"say ""hi""",x'           | ['say "hi"', "x"]
+        '"two\nlines",'            | ["two\nlines", ""]
+    }
+
+    private Path write(String name, String content) {
+        Path path = dir.resolve(name)
+        path.write(content, "UTF-8")
+        return path
+    }
+}
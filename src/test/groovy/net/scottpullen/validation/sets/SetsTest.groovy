@@ -0,0 +1,63 @@
+package net.scottpullen.validation.sets
+
+import spock.lang.Specification
+
+class SetsTest extends Specification {
+
+    void "IntSet"() {
+        when:
+        IntSet set = IntSet.of(5, -3, 5, Integer.MAX_VALUE, 0)
+
+        then:
+        set.size() == 4
+        set.contains(-3)
+        set.contains(0)
+        set.contains(Integer.MAX_VALUE)
+        !set.contains(4)
+        !set.contains(Integer.MIN_VALUE)
+        IntSet.of([1, 2, 2]).size() == 2
+        IntSet.of(new int[0]).size() == 0
+    }
+
+    void "LongSet"() {
+        when:
+        LongSet set = LongSet.of(5L, -3L, 5L, Long.MAX_VALUE)
+
+        then:
+        set.size() == 3
+        set.contains(Long.MAX_VALUE)
+        !set.contains(0L)
+        LongSet.of([1L, 2L, 2L]).size() == 2
+    }
+
+    void "StringSet"() {
+        given:
+        List<String> codes = (0..<10000).collect { "C" + it }
+
+        when:
+        StringSet set = StringSet.of(codes + ["C1", ""])
+
+        then:
+        set.size() == 10001
+        codes.every { set.contains(it) }
+        set.contains("")
+        set.contains(new StringBuilder("C9999"))
+        !set.contains("C10000")
+        !set.contains("c1")
+        !set.contains(null)
+    }
+
+    void "null values are rejected"() {
+        when:
+        StringSet.of("USD", null)
+
+        then:
+        thrown IllegalArgumentException
+
+        when:
+        IntSet.of([1, null])
+
+        then:
+        thrown IllegalArgumentException
+    }
+}
@@ -0,0 +1,57 @@
+package net.scottpullen.validation;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the bytes allocated by the current thread, using the allocation counters of the HotSpot ThreadMXBean
+ */
+public final class AllocationMeter {
+    private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+
+    private AllocationMeter() {
+    }
+
+    public static boolean isSupported() {
+        return THREADS != null;
+    }
+
+    /**
+     * Runs an action repeatedly and returns the fewest bytes a single run allocated, so that one-off allocations from
+     * class loading or the JIT do not count
+     *
+     * @param action The action to measure
+     * @param iterations How many times to run the action
+     * @return long bytes allocated by one run of the action
+     */
+    public static long measure(Runnable action, int iterations) {
+        long threadId = Thread.currentThread().getId();
+        long overhead = Long.MAX_VALUE;
+        long fewest = Long.MAX_VALUE;
+
+        for(int i = 0; i < iterations; i++) {
+            long start = THREADS.getThreadAllocatedBytes(threadId);
+            long end = THREADS.getThreadAllocatedBytes(threadId);
+            overhead = Math.min(overhead, end - start);
+
+            start = THREADS.getThreadAllocatedBytes(threadId);
+            action.run();
+            end = THREADS.getThreadAllocatedBytes(threadId);
+            fewest = Math.min(fewest, end - start);
+        }
+
+        return Math.max(0, fewest - overhead);
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        try {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            if(!threads.isThreadAllocatedMemorySupported()) {
+                return null;
+            }
+            threads.setThreadAllocatedMemoryEnabled(true);
+            return threads;
+        } catch(ClassCastException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package net.scottpullen.validation;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Fully valid validations of primitive and String fields, used to assert that the happy path does not allocate
+ */
+public final class HappyPath {
+    private static final List<String> TAGS = Collections.singletonList("tag");
+
+    /**
+     * Keeps the measured objects reachable so the JIT cannot remove their allocation
+     */
+    public static volatile Object sink;
+
+    private HappyPath() {
+    }
+
+    /**
+     * @return Runnable that builds a valid Validation without running it
+     */
+    public static Runnable build() {
+        return () -> sink = validation("Widget", 5, 9.99d, 7L);
+    }
+
+    /**
+     * @return Runnable that builds a valid Validation and runs it, including the andThrow terminal
+     */
+    public static Runnable buildAndValidate() {
+        return () -> {
+            Validation validation = validation("Widget", 5, 9.99d, 7L);
+            sink = validation;
+            validation.validate(Validation::andThrow);
+        };
+    }
+
+    /**
+     * @return Runnable that runs an already built valid Validation
+     */
+    public static Runnable validatePrebuilt() {
+        Validation validation = validation("Widget", 5, 9.99d, 7L);
+
+        return () -> {
+            ValidationContext context = validation.validate();
+            Validation.andThrow(context);
+            if(context.isInvalid() || !context.getErrors().isEmpty() || !context.getNestedContexts().isEmpty()) {
+                throw new IllegalStateException("expected a valid context");
+            }
+        };
+    }
+
+    private static Validation validation(String name, int quantity, double price, long version) {
+        return new Validation("happy")
+            .presence(name, "name")
+            .notBlank(name, "name")
+            .presenceAndNotEmpty(TAGS, "tags")
+            .greaterThan(quantity, 0, "quantity")
+            .lessThanOrEqualTo(quantity, 100, "quantity")
+            .between(price, 0.0d, 500.0d, "price")
+            .inRange(version, 1L, 10L, "version");
+    }
+}